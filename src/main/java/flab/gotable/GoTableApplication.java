@@ -2,10 +2,12 @@ package flab.gotable;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
 @SpringBootApplication
 @EnableRedisHttpSession
+@EnableScheduling
 public class GoTableApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(GoTableApplication.class, args);
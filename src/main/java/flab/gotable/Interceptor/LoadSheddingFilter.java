@@ -0,0 +1,58 @@
+package flab.gotable.Interceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.utils.AdaptiveConcurrencyLimiter;
+import flab.gotable.utils.EndpointClass;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/*
+* [부하 차단을 Interceptor가 아닌 Filter에서 처리하는 이유]
+* 인증 확인은 Interceptor에서 처리하지만, 부하 차단은 세션 조회(SessionRepositoryFilter)나 요청 본문 파싱 전에 수행되어야 차단된 요청의 비용이 가장 작습니다.
+* 따라서 가장 먼저 실행되는 Filter에서 동시 처리 한도를 확인하고, 초과한 요청은 503으로 즉시 응답합니다.
+* */
+@RequiredArgsConstructor
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        final EndpointClass endpointClass = EndpointClass.of(request);
+
+        if (!adaptiveConcurrencyLimiter.tryAcquire(endpointClass)) {
+            reject(response);
+            return;
+        }
+
+        final long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 비동기(SSE) 응답은 연결 유지 시간이 응답 시간으로 측정되지 않도록 제외
+            adaptiveConcurrencyLimiter.release(endpointClass, request.isAsyncStarted() ? -1 : System.nanoTime() - startedAt);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorCode.SERVER_OVERLOADED.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.fail(ErrorCode.SERVER_OVERLOADED.getMessage())));
+    }
+}
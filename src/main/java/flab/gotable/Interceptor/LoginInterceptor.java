@@ -1,15 +1,24 @@
 package flab.gotable.Interceptor;
 
+import flab.gotable.domain.auth.AuthMode;
+import flab.gotable.domain.auth.AuthToken;
 import flab.gotable.exception.ErrorCode;
 import flab.gotable.exception.UnAuthenticatedException;
-import flab.gotable.utils.SecurityUtils;
+import flab.gotable.service.SessionNearCacheService;
+import flab.gotable.service.TokenRevocationService;
+import flab.gotable.utils.AuthTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import static flab.gotable.service.LoginService.AUTH_TOKEN;
+
 /*
 * [Filter / Interceptor 중 Interceptor를 선택하고 구현한 이유]
 * Filter는 Spring 범위 밖에서 모든 서블릿 요청을 받아 처리하기 때문에 Spring에 의해 필터링되는 요청들을 전부 받습니다.
@@ -22,13 +31,49 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Slf4j
 public class LoginInterceptor implements HandlerInterceptor {
 
+    private final SessionNearCacheService sessionNearCacheService;
+    private final AuthTokenProvider authTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${auth.mode:SESSION}")
+    private AuthMode authMode;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
 
-        if(SecurityUtils.hasAuthentication(request) == false) {
+        // 토큰 모드에서는 세션 저장소를 조회하지 않고 서명과 폐기 목록만으로 인증
+        if(authMode == AuthMode.TOKEN) {
+            AuthToken authToken = resolveAuthToken(request);
+
+            if(authToken == null) {
+                throw new UnAuthenticatedException(ErrorCode.MEMBER_UNAUTHENTICATED, ErrorCode.MEMBER_UNAUTHENTICATED.getMessage());
+            }
+
+            request.setAttribute(AUTH_TOKEN, authToken);
+            return true;
+        }
+
+        if(sessionNearCacheService.hasAuthentication(request) == false) {
             throw new UnAuthenticatedException(ErrorCode.MEMBER_UNAUTHENTICATED, ErrorCode.MEMBER_UNAUTHENTICATED.getMessage());
         }
 
         return true;
     }
+
+    @Nullable
+    private AuthToken resolveAuthToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if(authorization == null || !authorization.startsWith(AuthTokenProvider.BEARER_PREFIX)) {
+            return null;
+        }
+
+        AuthToken authToken = authTokenProvider.verify(authorization.substring(AuthTokenProvider.BEARER_PREFIX.length()));
+
+        if(authToken == null || tokenRevocationService.isRevoked(authToken.getTokenId())) {
+            return null;
+        }
+
+        return authToken;
+    }
 }
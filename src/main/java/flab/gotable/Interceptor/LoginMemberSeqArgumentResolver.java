@@ -0,0 +1,46 @@
+package flab.gotable.Interceptor;
+
+import flab.gotable.domain.auth.AuthToken;
+import flab.gotable.domain.auth.LoginMemberSeq;
+import flab.gotable.service.LoginService;
+import flab.gotable.service.MemberService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import static flab.gotable.service.LoginService.AUTH_TOKEN;
+import static flab.gotable.service.LoginService.MEMBER_ID;
+
+/*
+* 인증된 회원 번호가 필요한 컨트롤러마다 토큰/세션 모드를 구분하는 코드를 반복하지 않도록 @LoginMemberSeq 파라미터로 주입합니다.
+* LoginInterceptor를 통과한 요청이므로 토큰 또는 세션에 인증 정보가 존재합니다.
+* */
+@RequiredArgsConstructor
+@Component
+public class LoginMemberSeqArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final LoginService loginService;
+    private final MemberService memberService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMemberSeq.class)
+                && (parameter.getParameterType() == long.class || parameter.getParameterType() == Long.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+
+        if(loginService.isTokenMode()) {
+            return ((AuthToken) request.getAttribute(AUTH_TOKEN)).getMemberSeq();
+        }
+
+        return memberService.findMemberById((String) request.getSession().getAttribute(MEMBER_ID)).getSeq();
+    }
+}
@@ -0,0 +1,75 @@
+package flab.gotable.Interceptor;
+
+import flab.gotable.utils.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 예약을 요청한 클라이언트는 일정 시간 동안 primary DB에서 조회하도록 합니다.
+ * 고정 기한을 쿠키에 저장하므로 어느 노드로 요청이 전달되어도 서버 상태 없이 같은 판단을 내릴 수 있습니다.
+ * 응답 본문이 작성된 후에는 쿠키를 추가할 수 없어 예약 성공 여부와 관계없이 예약 요청 시점에 고정합니다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String PRIMARY_UNTIL_COOKIE = "GOTABLE_PRIMARY_UNTIL";
+
+    private final long windowMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        final long now = System.currentTimeMillis();
+
+        if (isReservationWrite(request)) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(PRIMARY_UNTIL_COOKIE, String.valueOf(now + windowMillis))
+                    .path("/")
+                    .httpOnly(true)
+                    .maxAge(Duration.ofMillis(windowMillis))
+                    .build().toString());
+            ReadYourWrites.pin();
+        } else if (isPinned(request, now)) {
+            ReadYourWrites.pin();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private boolean isReservationWrite(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/reservations") && !"GET".equals(request.getMethod());
+    }
+
+    private boolean isPinned(HttpServletRequest request, long now) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+
+        for (Cookie cookie : request.getCookies()) {
+            if (!PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                continue;
+            }
+
+            try {
+                final long pinnedUntil = Long.parseLong(cookie.getValue());
+                // 클라이언트가 임의로 늘린 기한은 무시
+                return now < pinnedUntil && pinnedUntil <= now + windowMillis;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package flab.gotable.Interceptor;
+
+import flab.gotable.utils.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청마다 처리 기한을 설정하여 락 대기 등이 기한을 넘기지 않도록 합니다.
+ * 클라이언트가 X-Request-Timeout 헤더(ms)로 더 짧은 기한을 전달하면 해당 기한을 사용합니다.
+ */
+@RequiredArgsConstructor
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final long defaultTimeoutMillis;
+    private final long maxTimeoutMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestDeadline.start(Duration.ofMillis(resolveTimeoutMillis(request.getHeader(REQUEST_TIMEOUT_HEADER))));
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private long resolveTimeoutMillis(String header) {
+        if (header == null) {
+            return defaultTimeoutMillis;
+        }
+
+        try {
+            long requested = Long.parseLong(header.trim());
+            return requested > 0 ? Math.min(requested, maxTimeoutMillis) : defaultTimeoutMillis;
+        } catch (NumberFormatException e) {
+            return defaultTimeoutMillis;
+        }
+    }
+}
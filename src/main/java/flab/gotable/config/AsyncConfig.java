@@ -0,0 +1,62 @@
+package flab.gotable.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+    @Value("${reservation.async.worker-count:16}")
+    private int workerCount;
+
+    @Value("${reservation.export.max-concurrent:4}")
+    private int exportMaxConcurrent;
+
+    @Value("${availability.backfill-parallelism:4}")
+    private int availabilityBackfillParallelism;
+
+    // Executor 빈을 등록하면 Boot의 기본 executor가 생성되지 않으므로, MVC 비동기 요청(SSE 등)이 사용할 기본 executor를 spring.task.execution 설정으로 직접 등록
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reservationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setThreadNamePrefix("reservation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 예약 내보내기 응답을 쓰는 executor (예약 처리 스레드와 분리, 내보내기 요청에만 WebAsyncTask로 지정)
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setThreadNamePrefix("export-");
+        executor.initialize();
+
+        return executor;
+    }
+
+    // 예약 가능 현황 backfill에서 식당 단위 재계산을 병렬로 실행
+    @Bean
+    public ThreadPoolTaskExecutor availabilityExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(availabilityBackfillParallelism);
+        executor.setMaxPoolSize(availabilityBackfillParallelism);
+        executor.setThreadNamePrefix("availability-");
+        executor.initialize();
+
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package flab.gotable.config;
+
+import flab.gotable.domain.auth.AuthMode;
+import flab.gotable.utils.AuthTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+
+@Configuration
+public class AuthConfig {
+    @Value("${auth.mode:SESSION}")
+    private AuthMode authMode;
+
+    @Value("${auth.token.secret:}")
+    private String secret;
+
+    @Value("${auth.token.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Bean
+    public AuthTokenProvider authTokenProvider() {
+        if (!secret.isBlank()) {
+            return new AuthTokenProvider(secret.getBytes(StandardCharsets.UTF_8), Duration.ofSeconds(ttlSeconds));
+        }
+
+        // 토큰 모드는 모든 노드가 같은 키로 서명해야 하므로 secret 설정이 필수
+        if (authMode == AuthMode.TOKEN) {
+            throw new IllegalStateException("auth.token.secret must be set when auth.mode is TOKEN");
+        }
+
+        byte[] randomSecret = new byte[32];
+        new SecureRandom().nextBytes(randomSecret);
+
+        return new AuthTokenProvider(randomSecret, Duration.ofSeconds(ttlSeconds));
+    }
+}
@@ -0,0 +1,93 @@
+package flab.gotable.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* [읽기/쓰기 DataSource를 분리한 이유]
+* 식당 상세 조회 등 읽기 전용 요청도 모두 primary로 전달되어, 조회 트래픽이 늘어나면 예약 처리에 사용할 primary의 자원이 줄어듭니다.
+* @Transactional(readOnly = true)인 요청은 replica로 분산하고, 예약 쓰기와 락 획득은 primary에서만 처리합니다.
+* replica 주소가 설정되지 않은 경우 모든 요청을 primary에서 처리합니다.
+* 자동 설정 대신 DataSource를 직접 생성하므로, replica와 샤드 풀에도 spring.datasource.hikari.* 설정을 직접 바인딩합니다.
+* */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${datasource.replica-urls:}")
+    private List<String> replicaUrls;
+
+    // 샤드 이름별 주소 (primary와 같은 계정 사용). 예: "{'shard-0': 'jdbc:mysql://shard-0:3306/gotable'}"
+    @Value("#{${datasource.shard-urls:{:}}}")
+    private Map<String, String> shardUrls;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-pool");
+        // ExecutorType.BATCH로 실행한 INSERT를 다중 행 INSERT로 전송
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties, HikariDataSource primaryDataSource, Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        List<String> replicaKeys = new ArrayList<>();
+        targetDataSources.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .url(replicaUrls.get(i))
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName("replica-pool-" + i);
+            replica.setReadOnly(true);
+
+            replicaKeys.add("replica-" + i);
+            targetDataSources.put("replica-" + i, replica);
+        }
+
+        for (Map.Entry<String, String> shard : shardUrls.entrySet()) {
+            HikariDataSource shardDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .url(shard.getValue())
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(shardDataSource));
+            shardDataSource.setPoolName(shard.getKey() + "-pool");
+            shardDataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+            targetDataSources.put(shard.getKey(), shardDataSource);
+        }
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaKeys);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,52 @@
+package flab.gotable.config;
+
+import flab.gotable.utils.ReadYourWrites;
+import flab.gotable.utils.ShardContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 외(쓰기, FOR UPDATE, GET_LOCK, 트랜잭션 밖의 조회)는 primary로 보내는 DataSource
+ * ShardContext에 샤드가 설정된 경우 해당 샤드로 보냅니다. (샤드는 replica 없이 샤드의 primary에서 처리)
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 판단하도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(List<String> replicaKeys) {
+        this.replicaKeys = replicaKeys;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String shard = ShardContext.current();
+        if (shard != null) {
+            return shard;
+        }
+
+        if (replicaKeys.isEmpty() || ReadYourWrites.isPinned() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // primary는 별도 bean으로 종료되므로 replica 커넥션 풀만 종료
+    @Override
+    public void destroy() throws Exception {
+        for (Map.Entry<Object, DataSource> entry : getResolvedDataSources().entrySet()) {
+            if (!PRIMARY.equals(entry.getKey()) && entry.getValue() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package flab.gotable.config;
+
+import flab.gotable.utils.SessionAttributeSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+public class SessionConfig {
+
+    // spring-session은 이 이름의 빈이 있으면 기본 JDK 직렬화 대신 사용한다.
+    @Bean("springSessionDefaultRedisSerializer")
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new SessionAttributeSerializer();
+    }
+}
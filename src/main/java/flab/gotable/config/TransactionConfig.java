@@ -0,0 +1,29 @@
+package flab.gotable.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class TransactionConfig {
+
+    // 재시도를 위해 트랜잭션 경계를 직접 제어해야 하는 비관적 락 예약 경로에서 사용
+    @Bean
+    public TransactionTemplate readCommittedTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        return transactionTemplate;
+    }
+
+    // 응답 스트리밍 스레드에서 Cursor를 읽는 동안 커넥션을 유지하기 위해 사용
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return transactionTemplate;
+    }
+}
@@ -1,13 +1,26 @@
 package flab.gotable.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.Interceptor.LoadSheddingFilter;
+import flab.gotable.Interceptor.LoginMemberSeqArgumentResolver;
 import flab.gotable.Interceptor.LoginInterceptor;
+import flab.gotable.Interceptor.ReadYourWritesFilter;
+import flab.gotable.Interceptor.RequestDeadlineFilter;
+import flab.gotable.utils.AdaptiveConcurrencyLimiter;
+import flab.gotable.utils.EndpointClass;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -15,6 +28,37 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoginInterceptor loginInterceptor;
+    private final LoginMemberSeqArgumentResolver loginMemberSeqArgumentResolver;
+
+    @Value("${load-shedding.initial-limit:200}")
+    private int initialLimit;
+
+    @Value("${load-shedding.min-limit:20}")
+    private int minLimit;
+
+    @Value("${load-shedding.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${load-shedding.target-p99-millis.reservation-write:3000}")
+    private long reservationWriteTargetP99Millis;
+
+    @Value("${load-shedding.target-p99-millis.store-write:3000}")
+    private long storeWriteTargetP99Millis;
+
+    @Value("${load-shedding.target-p99-millis.member:500}")
+    private long memberTargetP99Millis;
+
+    @Value("${load-shedding.target-p99-millis.browse:300}")
+    private long browseTargetP99Millis;
+
+    @Value("${request.deadline.default-millis:10000}")
+    private long defaultDeadlineMillis;
+
+    @Value("${request.deadline.max-millis:30000}")
+    private long maxDeadlineMillis;
+
+    @Value("${datasource.read-your-writes-millis:5000}")
+    private long readYourWritesMillis;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -22,4 +66,43 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/**")
                 .excludePathPatterns("/members/signup", "/members/login");
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginMemberSeqArgumentResolver);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, Map.of(
+                EndpointClass.RESERVATION_WRITE, reservationWriteTargetP99Millis,
+                EndpointClass.STORE_WRITE, storeWriteTargetP99Millis,
+                EndpointClass.MEMBER, memberTargetP99Millis,
+                EndpointClass.BROWSE, browseTargetP99Millis
+        ));
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<LoadSheddingFilter> registrationBean = new FilterRegistrationBean<>(new LoadSheddingFilter(adaptiveConcurrencyLimiter(), objectMapper));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter() {
+        FilterRegistrationBean<RequestDeadlineFilter> registrationBean = new FilterRegistrationBean<>(new RequestDeadlineFilter(defaultDeadlineMillis, maxDeadlineMillis));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registrationBean = new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesMillis));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registrationBean;
+    }
 }
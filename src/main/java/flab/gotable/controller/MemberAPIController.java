@@ -1,5 +1,7 @@
 package flab.gotable.controller;
 
+import flab.gotable.domain.auth.AuthToken;
+import flab.gotable.domain.entity.Member;
 import flab.gotable.dto.ApiResponse;
 import flab.gotable.dto.request.MemberLoginRequestDto;
 import flab.gotable.dto.request.MemberSignUpRequestDto;
@@ -8,14 +10,18 @@ import flab.gotable.exception.ErrorCode;
 import flab.gotable.exception.MemberNotFoundException;
 import flab.gotable.service.LoginService;
 import flab.gotable.service.MemberService;
-import jakarta.servlet.http.HttpSession;
+import flab.gotable.utils.AuthTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import static flab.gotable.service.LoginService.AUTH_TOKEN;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -52,19 +58,33 @@ public class MemberAPIController {
     * 다른 보안적인 요소를 추가하게 된다면 추후 Spring Security를 도입해도 될 것 같다고 생각하여 Spring Security를 사용하지 않았습니다.
     * */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse> login(@RequestBody @Valid MemberLoginRequestDto memberLoginRequestDto, HttpSession httpSession) {
+    public ResponseEntity<ApiResponse> login(@RequestBody @Valid MemberLoginRequestDto memberLoginRequestDto, HttpServletRequest request) {
         if(!memberService.isValidMember(memberLoginRequestDto)) {
             throw new MemberNotFoundException(ErrorCode.MEMBER_NOT_FOUND_PASSWORD, ErrorCode.MEMBER_NOT_FOUND_PASSWORD.getMessage());
         }
 
-        loginService.login(memberLoginRequestDto.getId(), httpSession);
+        // 토큰 모드에서는 세션을 생성하지 않고 서명된 토큰을 Authorization 헤더로 발급
+        if(loginService.isTokenMode()) {
+            Member member = memberService.findMemberById(memberLoginRequestDto.getId());
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(HttpHeaders.AUTHORIZATION, AuthTokenProvider.BEARER_PREFIX + loginService.issueToken(member.getSeq()))
+                    .body(ApiResponse.ok(memberLoginRequestDto, "로그인 성공"));
+        }
+
+        loginService.login(memberLoginRequestDto.getId(), request.getSession());
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.ok(memberLoginRequestDto, "로그인 성공"));
     }
 
     @GetMapping("/logout")
-    public ResponseEntity<ApiResponse> logout(HttpSession httpSession) {
-        loginService.logout(httpSession);
+    public ResponseEntity<ApiResponse> logout(HttpServletRequest request) {
+        if(loginService.isTokenMode()) {
+            loginService.revokeToken((AuthToken) request.getAttribute(AUTH_TOKEN));
+        } else {
+            loginService.logout(request.getSession());
+        }
+
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.ok(null, "로그아웃 성공"));
     }
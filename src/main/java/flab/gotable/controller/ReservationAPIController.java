@@ -1,15 +1,29 @@
 package flab.gotable.controller;
 
+import flab.gotable.domain.auth.LoginMemberSeq;
 import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.request.ReservationHoldConfirmRequestDto;
 import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationHoldResponseDto;
+import flab.gotable.dto.response.ReservationPageResponseDto;
 import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.dto.response.ReservationTicketResponseDto;
+import flab.gotable.service.ReservationIdempotencyService;
+import flab.gotable.service.ReservationQueryService;
 import flab.gotable.service.ReservationService;
+import flab.gotable.service.ReservationTicketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static flab.gotable.service.ReservationIdempotencyService.IDEMPOTENCY_KEY_HEADER;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,12 +32,69 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReservationAPIController {
 
     private final ReservationService reservationService;
+    private final ReservationIdempotencyService reservationIdempotencyService;
+    private final ReservationTicketService reservationTicketService;
+    private final ReservationQueryService reservationQueryService;
 
     @PostMapping
-    public ApiResponse<ReservationResponseDto> createReserve(@RequestBody ReservationRequestDto reservationRequestDto) {
+    public ApiResponse<ReservationResponseDto> createReserve(@RequestBody ReservationRequestDto reservationRequestDto,
+                                                             @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
-        ReservationResponseDto reservationDetails = reservationService.reserveNamedLock(reservationRequestDto);
+        ReservationResponseDto reservationDetails = idempotencyKey == null
+                ? reservationService.reserveNamedLock(reservationRequestDto)
+                : reservationIdempotencyService.execute(idempotencyKey, reservationRequestDto, () -> reservationService.reserveNamedLock(reservationRequestDto));
 
         return ApiResponse.ok(reservationDetails, "예약 성공");
     }
+
+    @GetMapping("/me")
+    public ApiResponse<ReservationPageResponseDto> getMyReservations(@RequestParam(value = "cursorStartAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorStartAt,
+                                                                    @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                                    @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                    @LoginMemberSeq long memberSeq) {
+
+        ReservationPageResponseDto reservations = reservationQueryService.getMemberReservations(memberSeq, cursorStartAt, cursorId, size);
+
+        return ApiResponse.ok(reservations, "예약 현황 조회 성공");
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<ReservationHoldResponseDto>> holdReserve(@RequestBody ReservationRequestDto reservationRequestDto) {
+
+        ReservationHoldResponseDto hold = reservationService.holdSlot(reservationRequestDto);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.ok(hold, "예약 시간 선점 성공"));
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public ApiResponse<ReservationResponseDto> confirmHold(@PathVariable("holdId") String holdId,
+                                                           @RequestBody ReservationHoldConfirmRequestDto reservationHoldConfirmRequestDto) {
+
+        ReservationResponseDto reservationDetails = reservationService.confirmHold(holdId, reservationHoldConfirmRequestDto.getMemberSeq());
+
+        return ApiResponse.ok(reservationDetails, "예약 성공");
+    }
+
+    @PostMapping("/tickets")
+    public ResponseEntity<ApiResponse<ReservationTicketResponseDto>> submitReserve(@RequestBody ReservationRequestDto reservationRequestDto) {
+
+        ReservationTicketResponseDto ticket = reservationTicketService.submit(reservationRequestDto);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok(ticket, "예약 접수 성공"));
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ApiResponse<ReservationTicketResponseDto> getTicket(@PathVariable("ticketId") String ticketId) {
+
+        ReservationTicketResponseDto ticket = reservationTicketService.getTicket(ticketId);
+
+        return ApiResponse.ok(ticket, "예약 접수 조회 성공");
+    }
+
+    @GetMapping(value = "/tickets/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTicket(@PathVariable("ticketId") String ticketId) {
+        return reservationTicketService.subscribe(ticketId);
+    }
 }
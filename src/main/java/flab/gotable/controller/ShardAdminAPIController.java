@@ -0,0 +1,62 @@
+package flab.gotable.controller;
+
+import flab.gotable.domain.auth.LoginMemberSeq;
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.response.ShardSplitResponseDto;
+import flab.gotable.service.ShardRouter;
+import flab.gotable.service.StoreAuthorizationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+// 샤드 분할 진행 (순서는 ShardRouter 참고)
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/admin/shards")
+public class ShardAdminAPIController {
+
+    private final ShardRouter shardRouter;
+    private final StoreAuthorizationService storeAuthorizationService;
+
+    @GetMapping("/split")
+    public ApiResponse<ShardSplitResponseDto> getSplit(@LoginMemberSeq long memberSeq) {
+        storeAuthorizationService.checkAdmin(memberSeq);
+        shardRouter.sync();
+
+        return ApiResponse.ok(new ShardSplitResponseDto(shardRouter.getSplitState()), "샤드 분할 상태 조회 성공");
+    }
+
+    @PostMapping("/{shard}/split")
+    public ApiResponse<ShardSplitResponseDto> beginSplit(@PathVariable("shard") String shard, @LoginMemberSeq long memberSeq) {
+        storeAuthorizationService.checkAdmin(memberSeq);
+        shardRouter.beginSplit(shard);
+
+        return ApiResponse.ok(new ShardSplitResponseDto(shardRouter.getSplitState()), "샤드 분할 시작");
+    }
+
+    // 응답의 movingRestaurants에 있는 시각 이후에 식당 데이터를 새 샤드로 복사한다.
+    @PostMapping("/split/restaurants/{id}/move")
+    public ApiResponse<ShardSplitResponseDto> beginMove(@PathVariable("id") Long id, @LoginMemberSeq long memberSeq) {
+        storeAuthorizationService.checkAdmin(memberSeq);
+        shardRouter.beginMove(id);
+
+        return ApiResponse.ok(new ShardSplitResponseDto(shardRouter.getSplitState()), "식당 이동 시작");
+    }
+
+    @PostMapping("/split/restaurants/{id}/complete")
+    public ApiResponse<ShardSplitResponseDto> completeMove(@PathVariable("id") Long id, @LoginMemberSeq long memberSeq) {
+        storeAuthorizationService.checkAdmin(memberSeq);
+        shardRouter.completeMove(id);
+
+        return ApiResponse.ok(new ShardSplitResponseDto(shardRouter.getSplitState()), "식당 이동 완료");
+    }
+
+    @PostMapping("/split/finish")
+    public ApiResponse<ShardSplitResponseDto> finishSplit(@LoginMemberSeq long memberSeq) {
+        storeAuthorizationService.checkAdmin(memberSeq);
+        shardRouter.finishSplit();
+
+        return ApiResponse.ok(new ShardSplitResponseDto(shardRouter.getSplitState()), "샤드 분할 완료");
+    }
+}
@@ -0,0 +1,31 @@
+package flab.gotable.controller;
+
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.response.AvailabilityResponseDto;
+import flab.gotable.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/stores")
+public class StoreAvailabilityAPIController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping("/{id}/availability")
+    public ApiResponse<List<AvailabilityResponseDto>> getAvailability(@PathVariable("id") Long id,
+                                                                      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        List<AvailabilityResponseDto> availability = availabilityService.getAvailability(id, from, to);
+
+        return ApiResponse.ok(availability, "식당 예약 가능 현황 조회 성공");
+    }
+}
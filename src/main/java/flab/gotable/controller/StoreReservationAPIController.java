@@ -0,0 +1,80 @@
+package flab.gotable.controller;
+
+import flab.gotable.domain.auth.LoginMemberSeq;
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.ExportFormat;
+import flab.gotable.dto.response.ReservationPageResponseDto;
+import flab.gotable.service.ReservationExportService;
+import flab.gotable.service.ReservationQueryService;
+import flab.gotable.service.StoreAuthorizationService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/stores")
+public class StoreReservationAPIController {
+
+    private final ReservationQueryService reservationQueryService;
+    private final ReservationExportService reservationExportService;
+    private final StoreAuthorizationService storeAuthorizationService;
+    private final ThreadPoolTaskExecutor exportExecutor;
+
+    @Value("${reservation.export.timeout-millis:600000}")
+    private long exportTimeoutMillis;
+
+    @GetMapping("/{id}/reservations")
+    public ApiResponse<ReservationPageResponseDto> getStoreReservations(@PathVariable("id") Long id,
+                                                                       @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                       @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                       @RequestParam(value = "cursorStartAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorStartAt,
+                                                                       @RequestParam(value = "cursorId", required = false) Long cursorId,
+                                                                       @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                       @LoginMemberSeq long memberSeq) {
+
+        storeAuthorizationService.checkManageable(id, memberSeq);
+        ReservationPageResponseDto reservations = reservationQueryService.getStoreReservations(id, from, to, cursorStartAt, cursorId, size);
+
+        return ApiResponse.ok(reservations, "식당 예약 현황 조회 성공");
+    }
+
+    // 내보내기만 별도 executor와 긴 timeout으로 실행하고, 다른 비동기 요청은 MVC 기본 설정을 따른다.
+    @GetMapping("/{id}/reservations/export")
+    public WebAsyncTask<Void> exportStoreReservations(@PathVariable("id") Long id,
+                                                      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                      @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format,
+                                                      @LoginMemberSeq long memberSeq,
+                                                      HttpServletResponse response) {
+
+        storeAuthorizationService.checkManageable(id, memberSeq);
+        StreamingResponseBody body = reservationExportService.export(id, from, to, format);
+
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("reservations-" + id + "." + format.getExtension())
+                .build().toString());
+
+        return new WebAsyncTask<>(exportTimeoutMillis, exportExecutor, () -> {
+            OutputStream outputStream = response.getOutputStream();
+            body.writeTo(outputStream);
+            outputStream.flush();
+
+            return null;
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package flab.gotable.controller;
+
+import flab.gotable.domain.auth.LoginMemberSeq;
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.request.StoreScheduleRequestDto;
+import flab.gotable.dto.response.StoreScheduleResponseDto;
+import flab.gotable.service.StoreAuthorizationService;
+import flab.gotable.service.StoreScheduleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/stores")
+public class StoreScheduleAPIController {
+
+    private final StoreScheduleService storeScheduleService;
+    private final StoreAuthorizationService storeAuthorizationService;
+
+    @PutMapping("/{id}/schedules")
+    public ApiResponse<StoreScheduleResponseDto> updateSchedules(@PathVariable("id") Long id,
+                                                                 @RequestBody StoreScheduleRequestDto storeScheduleRequestDto,
+                                                                 @LoginMemberSeq long memberSeq) {
+
+        storeAuthorizationService.checkManageable(id, memberSeq);
+        StoreScheduleResponseDto storeSchedule = storeScheduleService.updateSchedules(id, storeScheduleRequestDto);
+
+        return ApiResponse.ok(storeSchedule, "식당 영업 스케줄 변경 성공");
+    }
+}
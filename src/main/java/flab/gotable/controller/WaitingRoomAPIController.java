@@ -0,0 +1,34 @@
+package flab.gotable.controller;
+
+import flab.gotable.dto.ApiResponse;
+import flab.gotable.dto.request.WaitingRoomRequestDto;
+import flab.gotable.dto.response.WaitingRoomResponseDto;
+import flab.gotable.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/waiting-room")
+public class WaitingRoomAPIController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{restaurantId}")
+    public ApiResponse<WaitingRoomResponseDto> join(@PathVariable("restaurantId") long restaurantId, @RequestBody WaitingRoomRequestDto waitingRoomRequestDto) {
+
+        WaitingRoomResponseDto status = waitingRoomService.join(restaurantId, waitingRoomRequestDto.getMemberSeq());
+
+        return ApiResponse.ok(status, "대기열 등록 성공");
+    }
+
+    @GetMapping("/{restaurantId}/members/{memberSeq}")
+    public ApiResponse<WaitingRoomResponseDto> getStatus(@PathVariable("restaurantId") long restaurantId, @PathVariable("memberSeq") long memberSeq) {
+
+        WaitingRoomResponseDto status = waitingRoomService.getStatus(restaurantId, memberSeq);
+
+        return ApiResponse.ok(status, "대기열 조회 성공");
+    }
+}
@@ -0,0 +1,6 @@
+package flab.gotable.domain.auth;
+
+public enum AuthMode {
+    SESSION,
+    TOKEN;
+}
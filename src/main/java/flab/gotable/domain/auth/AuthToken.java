@@ -0,0 +1,12 @@
+package flab.gotable.domain.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AuthToken {
+    private final long memberSeq;
+    private final long expiresAt;
+    private final long tokenId;
+}
@@ -0,0 +1,14 @@
+package flab.gotable.domain.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 회원의 회원 번호를 주입받는 컨트롤러 파라미터 (LoginMemberSeqArgumentResolver 참고)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMemberSeq {
+}
@@ -0,0 +1,126 @@
+package flab.gotable.domain.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 식당의 하루 예약 가능 현황 (availability read model)
+ * 예약 시간(split_time 단위)마다 비어 있는지를 비트로, 좌석 수 기반 식당은 잔여 좌석을 4바이트 정수로 저장합니다.
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class Availability {
+    private static final int SEAT_BYTES = Integer.BYTES;
+
+    private Long restaurantId;
+    private LocalDate date;
+    // 영업하지 않는 날은 null
+    private LocalTime openTime;
+    private LocalTime closeTime;
+    private Long splitTime;
+    // i번째 비트가 1이면 i번째 예약 시간이 비어 있음
+    private byte[] freeSlots;
+    // 좌석 수 기반 식당이 아니면 null
+    private byte[] remainingSeats;
+    private LocalDateTime updatedAt;
+
+    public static Availability closed(long restaurantId, LocalDate date) {
+        Availability availability = new Availability();
+        availability.restaurantId = restaurantId;
+        availability.date = date;
+        availability.freeSlots = new byte[0];
+
+        return availability;
+    }
+
+    // 모든 예약 시간이 비어 있는 상태로 생성 (capacity가 null이면 잔여 좌석을 관리하지 않음)
+    public static Availability open(long restaurantId, LocalDate date, LocalTime openTime, LocalTime closeTime, long splitTime, Long capacity) {
+        Availability availability = closed(restaurantId, date);
+        availability.openTime = openTime;
+        availability.closeTime = closeTime;
+        availability.splitTime = splitTime;
+
+        final int slotCount = availability.getSlotCount();
+        availability.freeSlots = new byte[(slotCount + 7) / 8];
+
+        if (capacity != null) {
+            availability.remainingSeats = new byte[slotCount * SEAT_BYTES];
+        }
+
+        for (int i = 0; i < slotCount; i++) {
+            availability.setFree(i, true);
+            if (capacity != null) {
+                availability.setRemainingSeats(i, capacity);
+            }
+        }
+
+        return availability;
+    }
+
+    public boolean isOpen() {
+        return openTime != null;
+    }
+
+    public boolean isCapacityBased() {
+        return remainingSeats != null;
+    }
+
+    // 영업 시작 시간부터 split_time 간격으로 영업 종료 시간 전까지의 예약 시간 수
+    public int getSlotCount() {
+        if (!isOpen() || !closeTime.isAfter(openTime)) {
+            return 0;
+        }
+
+        final long openSeconds = Duration.between(openTime, closeTime).getSeconds();
+        final long splitSeconds = Duration.ofMinutes(splitTime).getSeconds();
+
+        return (int) ((openSeconds + splitSeconds - 1) / splitSeconds);
+    }
+
+    public LocalDateTime getSlotStartAt(int slot) {
+        return date.atTime(openTime).plusMinutes(splitTime * slot);
+    }
+
+    public LocalDateTime getSlotEndAt(int slot) {
+        return getSlotStartAt(slot + 1);
+    }
+
+    public boolean isFree(int slot) {
+        return (freeSlots[slot >> 3] & (1 << (slot & 7))) != 0;
+    }
+
+    public void setFree(int slot, boolean free) {
+        if (free) {
+            freeSlots[slot >> 3] |= (byte) (1 << (slot & 7));
+        } else {
+            freeSlots[slot >> 3] &= (byte) ~(1 << (slot & 7));
+        }
+    }
+
+    public long getRemainingSeats(int slot) {
+        return ByteBuffer.wrap(remainingSeats).getInt(slot * SEAT_BYTES);
+    }
+
+    // 잔여 좌석이 없으면 예약 시간도 비어 있지 않은 것으로 표시
+    public void setRemainingSeats(int slot, long seats) {
+        ByteBuffer.wrap(remainingSeats).putInt(slot * SEAT_BYTES, (int) Math.max(0, seats));
+        setFree(slot, seats > 0);
+    }
+
+    // [from, to)와 겹치는 예약 시간을 모두 비어 있지 않은 것으로 표시
+    public void occupy(LocalDateTime from, LocalDateTime to) {
+        for (int i = 0; i < getSlotCount(); i++) {
+            if (getSlotStartAt(i).isBefore(to) && getSlotEndAt(i).isAfter(from)) {
+                setFree(i, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package flab.gotable.domain.entity;
+
+import flab.gotable.domain.event.ReservationChangedEvent;
+import flab.gotable.domain.event.ReservationEventType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ReservationOutboxEvent {
+    private long id;
+    private long restaurantId;
+    private long reservationId;
+    private String eventType;
+    private long memberCount;
+    private LocalDateTime reservationStartAt;
+    private LocalDateTime reservationEndAt;
+    private LocalDateTime createdAt;
+    private int attempts;
+
+    public static ReservationOutboxEvent of(ReservationEventType eventType, Reservation reservation) {
+        ReservationOutboxEvent event = new ReservationOutboxEvent();
+        event.setRestaurantId(reservation.getRestaurantId());
+        event.setReservationId(reservation.getId());
+        event.setEventType(eventType.name());
+        event.setMemberCount(reservation.getMemberCount());
+        event.setReservationStartAt(reservation.getReservationStartAt());
+        event.setReservationEndAt(reservation.getReservationEndAt());
+
+        return event;
+    }
+
+    public ReservationChangedEvent toEvent() {
+        return new ReservationChangedEvent(id, ReservationEventType.valueOf(eventType), restaurantId, reservationId,
+                memberCount, reservationStartAt, reservationEndAt);
+    }
+}
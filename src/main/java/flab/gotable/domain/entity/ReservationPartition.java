@@ -0,0 +1,14 @@
+package flab.gotable.domain.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class ReservationPartition {
+    private String partitionName;
+    // 파티션 경계 (UNIX_TIMESTAMP 값 또는 MAXVALUE)
+    private String partitionDescription;
+}
@@ -0,0 +1,18 @@
+package flab.gotable.domain.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class SlotCapacity {
+    private long restaurantId;
+    private LocalDateTime slotStartAt;
+    private LocalDateTime slotEndAt;
+    private long capacity;
+    private long remaining;
+}
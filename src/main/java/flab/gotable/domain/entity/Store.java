@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.util.Map;
 
 @NoArgsConstructor
@@ -17,4 +18,9 @@ public class Store {
     private long maxAvailableDay;
     private String openSchedule;
     private Map<String, DayInfo> availableDays;
+
+    // 예약 가능 기간의 마지막 날짜: 오늘부터 max_available_day일 뒤까지 예약할 수 있다. ([today, today + max_available_day], 휴무일 포함)
+    public LocalDate getLastAvailableDate(LocalDate today) {
+        return today.plusDays(maxAvailableDay);
+    }
 }
@@ -0,0 +1,11 @@
+package flab.gotable.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AuthTokenRevokedEvent {
+    private final long tokenId;
+    private final long expiresAt;
+}
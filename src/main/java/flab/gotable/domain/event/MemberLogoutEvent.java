@@ -0,0 +1,10 @@
+package flab.gotable.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberLogoutEvent {
+    private final String sessionId;
+}
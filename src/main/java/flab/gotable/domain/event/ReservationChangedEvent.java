@@ -0,0 +1,22 @@
+package flab.gotable.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox에 기록된 예약 변경 이벤트
+ * 같은 식당의 이벤트는 저장된 순서대로 전달되며(좌석 수 기반 식당 제외), 재전달될 수 있으므로 eventId로 중복을 확인해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationChangedEvent {
+    private final long eventId;
+    private final ReservationEventType type;
+    private final long restaurantId;
+    private final long reservationId;
+    private final long memberCount;
+    private final LocalDateTime reservationStartAt;
+    private final LocalDateTime reservationEndAt;
+}
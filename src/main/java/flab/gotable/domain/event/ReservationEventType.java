@@ -0,0 +1,6 @@
+package flab.gotable.domain.event;
+
+public enum ReservationEventType {
+    CREATED,
+    CANCELLED;
+}
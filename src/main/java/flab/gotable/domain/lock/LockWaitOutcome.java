@@ -0,0 +1,20 @@
+package flab.gotable.domain.lock;
+
+/**
+ * 락 대기가 끝난 이유
+ */
+public enum LockWaitOutcome {
+    ACQUIRED,
+    // 대기 시간 안에 락을 획득하지 못함
+    TIMED_OUT,
+    // 앞선 대기자 수와 평균 보유 시간으로 볼 때 대기 시간 안에 획득할 수 없다고 판단해 대기하지 않음
+    PREDICTED_TIMEOUT,
+    // 최대 재시도 횟수를 초과함
+    RETRIES_EXHAUSTED,
+    // HTTP 요청의 처리 기한을 초과함
+    DEADLINE_EXCEEDED,
+    // 락 대상이 없거나 대기 중 인터럽트됨
+    NOT_ACQUIRED,
+    // 락 획득 중 DB 에러 발생
+    ERROR;
+}
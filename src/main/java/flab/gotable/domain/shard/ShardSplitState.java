@@ -0,0 +1,45 @@
+package flab.gotable.domain.shard;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 모든 노드가 공유하는 샤드 분할 상태 (불변)
+ * movingRestaurants는 이동 중인 식당 id와 데이터 복사를 시작할 수 있는 시각(epoch ms)입니다.
+ */
+public record ShardSplitState(@Nullable String shard,
+                              Status status,
+                              Map<Long, Long> movingRestaurants,
+                              Set<Long> movedRestaurantIds) {
+
+    public static final ShardSplitState NONE = new ShardSplitState(null, Status.NONE, Map.of(), Set.of());
+
+    public enum Status {
+        NONE,
+        // 새 샤드로 식당을 이동하는 중
+        SPLITTING,
+        // 분할이 끝나 새 샤드가 링에 포함됨 (datasource.pending-shards에서 제거하여 배포하기 전까지 유지)
+        FINISHED
+    }
+
+    public ShardSplitState {
+        movingRestaurants = Map.copyOf(movingRestaurants);
+        movedRestaurantIds = Set.copyOf(movedRestaurantIds);
+    }
+
+    public boolean isMoving(long restaurantId) {
+        return movingRestaurants.containsKey(restaurantId);
+    }
+
+    public boolean isMoved(long restaurantId) {
+        return movedRestaurantIds.contains(restaurantId);
+    }
+
+    // 식당별 이동 상태를 제외하고 같은 분할 단계인지 확인 (링 구성이 같은지)
+    public boolean isSameStage(ShardSplitState other) {
+        return Objects.equals(shard, other.shard) && status == other.status;
+    }
+}
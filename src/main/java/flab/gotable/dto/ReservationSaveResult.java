@@ -0,0 +1,23 @@
+package flab.gotable.dto;
+
+import flab.gotable.domain.entity.Reservation;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationSaveResult {
+    private final long reservationId;
+    private final boolean saved;
+    // 저장에 실패한 경우 DB 오류 메시지 또는 저장하지 않은 이유
+    private final String failureReason;
+
+    public static ReservationSaveResult saved(Reservation reservation) {
+        return new ReservationSaveResult(reservation.getId(), true, null);
+    }
+
+    public static ReservationSaveResult failed(Reservation reservation, String failureReason) {
+        return new ReservationSaveResult(reservation.getId(), false, failureReason);
+    }
+}
@@ -0,0 +1,12 @@
+package flab.gotable.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TicketStatus {
+    PENDING,
+    SUCCEEDED,
+    FAILED;
+}
@@ -0,0 +1,16 @@
+package flab.gotable.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@NoArgsConstructor
+@Getter
+@ToString
+public class ReservationHoldConfirmRequestDto {
+    private long memberSeq;
+
+    public ReservationHoldConfirmRequestDto(long memberSeq) {
+        this.memberSeq = memberSeq;
+    }
+}
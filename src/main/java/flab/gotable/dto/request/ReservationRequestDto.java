@@ -1,9 +1,11 @@
 package flab.gotable.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import flab.gotable.domain.entity.Reservation;
 import flab.gotable.dto.StatusCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
@@ -17,6 +19,13 @@ public class ReservationRequestDto {
     private LocalDateTime reservationStartTime;
     private LocalDateTime reservationEndTime;
     private long memberCount;
+    // 대기열이 운영 중인 식당에 예약하는 경우 필요한 입장 토큰
+    private String admissionToken;
+    // 선점(hold)한 시간을 확정하는 경우 선점 id
+    // 다른 회원의 선점 id로 선점 검사를 우회하지 못하도록 요청 본문에서 받지 않고 서버에서만 설정
+    @JsonIgnore
+    @Setter
+    private String holdId;
 
     public ReservationRequestDto(long restaurantId, long memberSeq, LocalDateTime reservationStartTime, LocalDateTime reservationEndTime, long memberCount) {
         this.restaurantId = restaurantId;
@@ -0,0 +1,24 @@
+package flab.gotable.dto.request;
+
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.SpecificSchedule;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@ToString
+public class StoreScheduleRequestDto {
+    // 요청에 없는 요일은 휴무 (필수, 한 요일 이상)
+    private List<DailySchedule> dailySchedules;
+    // 오늘 이후의 특수 영업 스케줄 전체 (필수, 요청에 없는 날짜는 일반 영업 스케줄을 따른다.)
+    private List<SpecificSchedule> specificSchedules;
+
+    public StoreScheduleRequestDto(List<DailySchedule> dailySchedules, List<SpecificSchedule> specificSchedules) {
+        this.dailySchedules = dailySchedules;
+        this.specificSchedules = specificSchedules;
+    }
+}
@@ -0,0 +1,16 @@
+package flab.gotable.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@NoArgsConstructor
+@Getter
+@ToString
+public class WaitingRoomRequestDto {
+    private long memberSeq;
+
+    public WaitingRoomRequestDto(long memberSeq) {
+        this.memberSeq = memberSeq;
+    }
+}
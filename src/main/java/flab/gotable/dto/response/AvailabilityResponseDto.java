@@ -0,0 +1,35 @@
+package flab.gotable.dto.response;
+
+import flab.gotable.domain.entity.Availability;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class AvailabilityResponseDto {
+    private LocalDate date;
+    private boolean open;
+    private LocalTime openTime;
+    private LocalTime closeTime;
+    private Long splitTime;
+    private List<AvailableSlotDto> slots;
+
+    public AvailabilityResponseDto(Availability availability) {
+        this.date = availability.getDate();
+        this.open = availability.isOpen();
+        this.openTime = availability.getOpenTime();
+        this.closeTime = availability.getCloseTime();
+        this.splitTime = availability.getSplitTime();
+        this.slots = new ArrayList<>();
+
+        for (int i = 0; i < availability.getSlotCount(); i++) {
+            this.slots.add(new AvailableSlotDto(
+                    availability.getSlotStartAt(i).toLocalTime(),
+                    availability.isFree(i),
+                    availability.isCapacityBased() ? availability.getRemainingSeats(i) : null));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package flab.gotable.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+@Getter
+@AllArgsConstructor
+public class AvailableSlotDto {
+    private LocalTime time;
+    private boolean available;
+    // 좌석 수 기반 식당이 아니면 null
+    private Long remainingSeats;
+}
@@ -0,0 +1,30 @@
+package flab.gotable.dto.response;
+
+import flab.gotable.dto.request.ReservationRequestDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+public class ReservationHoldResponseDto {
+    private String holdId;
+    private long restaurantId;
+    private long memberSeq;
+    private LocalDateTime reservationStartTime;
+    private LocalDateTime reservationEndTime;
+    private long memberCount;
+    // 이 시각까지 확정하지 않으면 선점이 해제된다.
+    private LocalDateTime expiresAt;
+
+    public ReservationHoldResponseDto(ReservationRequestDto reservationRequestDto, LocalDateTime expiresAt) {
+        this.holdId = reservationRequestDto.getHoldId();
+        this.restaurantId = reservationRequestDto.getRestaurantId();
+        this.memberSeq = reservationRequestDto.getMemberSeq();
+        this.reservationStartTime = reservationRequestDto.getReservationStartTime();
+        this.reservationEndTime = reservationRequestDto.getReservationEndTime();
+        this.memberCount = reservationRequestDto.getMemberCount();
+        this.expiresAt = expiresAt;
+    }
+}
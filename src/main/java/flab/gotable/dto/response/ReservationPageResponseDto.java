@@ -0,0 +1,30 @@
+package flab.gotable.dto.response;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class ReservationPageResponseDto {
+    private List<ReservationResponseDto> reservations;
+    private boolean hasNext;
+    // 다음 페이지 조회 시 cursorStartAt, cursorId로 전달 (마지막 페이지인 경우 null)
+    // nextCursorId는 예약 id와 같이 문자열로 응답하며, cursorId 쿼리 파라미터는 문자열 그대로 전달하면 된다.
+    private LocalDateTime nextCursorStartAt;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long nextCursorId;
+
+    public ReservationPageResponseDto(List<ReservationResponseDto> reservations, boolean hasNext) {
+        this.reservations = reservations;
+        this.hasNext = hasNext;
+
+        if (hasNext) {
+            ReservationResponseDto last = reservations.get(reservations.size() - 1);
+            this.nextCursorStartAt = last.getReservationStartTime();
+            this.nextCursorId = last.getReservationId();
+        }
+    }
+}
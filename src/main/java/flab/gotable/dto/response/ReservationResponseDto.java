@@ -1,12 +1,18 @@
 package flab.gotable.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import flab.gotable.domain.entity.Reservation;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+@NoArgsConstructor
 @Getter
 public class ReservationResponseDto {
+    // Snowflake id는 2^53을 넘어 JavaScript number로 읽으면 정밀도가 손실되므로 문자열로 응답 (문자열로 받아도 역직렬화됨)
+    @JsonSerialize(using = ToStringSerializer.class)
     private long reservationId;
     private long restaurantId;
     private long memberSeq;
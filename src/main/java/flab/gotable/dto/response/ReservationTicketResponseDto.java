@@ -0,0 +1,35 @@
+package flab.gotable.dto.response;
+
+import flab.gotable.dto.TicketStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class ReservationTicketResponseDto {
+    private String ticketId;
+    private long restaurantId;
+    private TicketStatus status;
+    private ReservationResponseDto reservation;
+    private String errorMessage;
+
+    public ReservationTicketResponseDto(String ticketId, long restaurantId, TicketStatus status, ReservationResponseDto reservation, String errorMessage) {
+        this.ticketId = ticketId;
+        this.restaurantId = restaurantId;
+        this.status = status;
+        this.reservation = reservation;
+        this.errorMessage = errorMessage;
+    }
+
+    public static ReservationTicketResponseDto pending(String ticketId, long restaurantId) {
+        return new ReservationTicketResponseDto(ticketId, restaurantId, TicketStatus.PENDING, null, null);
+    }
+
+    public static ReservationTicketResponseDto succeeded(String ticketId, long restaurantId, ReservationResponseDto reservation) {
+        return new ReservationTicketResponseDto(ticketId, restaurantId, TicketStatus.SUCCEEDED, reservation, null);
+    }
+
+    public static ReservationTicketResponseDto failed(String ticketId, long restaurantId, String errorMessage) {
+        return new ReservationTicketResponseDto(ticketId, restaurantId, TicketStatus.FAILED, null, errorMessage);
+    }
+}
@@ -0,0 +1,31 @@
+package flab.gotable.dto.response;
+
+import flab.gotable.domain.shard.ShardSplitState;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor
+@Getter
+public class ShardSplitResponseDto {
+    private String shard;
+    private ShardSplitState.Status status;
+    // 이동 중인 식당 id와, 진행 중인 쓰기가 끝나 데이터 복사를 시작할 수 있는 시각
+    private Map<Long, LocalDateTime> movingRestaurants;
+    private Set<Long> movedRestaurantIds;
+
+    public ShardSplitResponseDto(ShardSplitState state) {
+        this.shard = state.shard();
+        this.status = state.status();
+        this.movingRestaurants = state.movingRestaurants().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getValue()), ZoneId.systemDefault())));
+        this.movedRestaurantIds = state.movedRestaurantIds();
+    }
+}
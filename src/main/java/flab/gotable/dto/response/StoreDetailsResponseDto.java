@@ -13,6 +13,7 @@ public class StoreDetailsResponseDto {
     private String name;
     private String address;
     private long maxMemberCount;
+    // 오늘부터 며칠 뒤까지 예약할 수 있는지를 나타내는 달력 기준 일수 (availableDays는 [오늘, 오늘 + maxAvailableDay] 중 영업하는 날짜)
     private long maxAvailableDay;
     private String openSchedule;
     private Map<String, DayInfo> availableDays;
@@ -0,0 +1,22 @@
+package flab.gotable.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class StoreScheduleResponseDto {
+    private long restaurantId;
+    // 변경 후 식당 버전
+    private long version;
+    private int upsertedSchedules;
+    private int deletedSchedules;
+    // 예약 가능 현황을 무효화한 날짜 수
+    private int invalidatedDates;
+
+    public StoreScheduleResponseDto(long restaurantId, long version, int upsertedSchedules, int deletedSchedules, int invalidatedDates) {
+        this.restaurantId = restaurantId;
+        this.version = version;
+        this.upsertedSchedules = upsertedSchedules;
+        this.deletedSchedules = deletedSchedules;
+        this.invalidatedDates = invalidatedDates;
+    }
+}
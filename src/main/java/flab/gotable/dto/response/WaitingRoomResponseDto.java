@@ -0,0 +1,22 @@
+package flab.gotable.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class WaitingRoomResponseDto {
+    private long restaurantId;
+    private long memberSeq;
+    // 입장한 경우 0
+    private long position;
+    private long estimatedWaitSeconds;
+    // 입장하지 않은 경우 null
+    private String admissionToken;
+
+    public WaitingRoomResponseDto(long restaurantId, long memberSeq, long position, long estimatedWaitSeconds, String admissionToken) {
+        this.restaurantId = restaurantId;
+        this.memberSeq = memberSeq;
+        this.position = position;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+        this.admissionToken = admissionToken;
+    }
+}
@@ -15,14 +15,47 @@ public enum ErrorCode {
     MEMBER_NOT_FOUND_PASSWORD(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
     MEMBER_UNAUTHENTICATED(HttpStatus.UNAUTHORIZED, "로그인이 필요한 기능입니다."),
     STORE_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 식당 id입니다."),
+    STORE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "식당 점주 또는 관리자만 이용할 수 있는 기능입니다."),
+    ADMIN_ACCESS_DENIED(HttpStatus.FORBIDDEN, "관리자만 이용할 수 있는 기능입니다."),
     DUPLICATED_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "해당 시간을 포함한 예약 내역이 존재합니다."),
     RESERVATION_TIME_NOT_FOUND(HttpStatus.BAD_REQUEST, "예약하고자 하는 시간이 일반/특수 영업 스케줄에 존재하지 않습니다."),
     LOCK_ACQUISITION_FAILED(HttpStatus.CONFLICT, "락 획득에 실패했습니다."),
     LOCK_SYSTEM_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "락 획득 중 시스템 에러가 발생했습니다."),
+    LOCK_LOST(HttpStatus.SERVICE_UNAVAILABLE, "예약 처리 중 락이 해제되어 예약을 취소했습니다. 잠시 후 다시 시도해주세요."),
     INVALID_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "예약 종료 시간이 예약 시작 시간보다 앞서거나 동일할 수 없습니다."),
     PAST_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "예약 시간이 현재 시간보다 이전일 수 없습니다."),
     EXCEEDS_MAX_MEMBER_COUNT(HttpStatus.BAD_REQUEST, "예약 가능 최대 인원 수를 초과했습니다."),
-    INVALID_MAX_MEMBER_COUNT(HttpStatus.BAD_REQUEST, "최대 예약 가능 인원 수는 0보다 커야 합니다.");
+    INVALID_MAX_MEMBER_COUNT(HttpStatus.BAD_REQUEST, "최대 예약 가능 인원 수는 0보다 커야 합니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1 ~ 64자리여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key입니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "동일한 Idempotency-Key의 요청이 처리 중입니다."),
+    RESERVATION_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않거나 만료된 예약 티켓입니다."),
+    RESERVATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "예약 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    WAITING_ROOM_NOT_OPEN(HttpStatus.BAD_REQUEST, "대기열이 운영 중인 식당이 아닙니다."),
+    WAITING_ROOM_ENTRY_NOT_FOUND(HttpStatus.NOT_FOUND, "대기열에 등록되지 않았거나 입장 시간이 만료되었습니다."),
+    ADMISSION_TOKEN_INVALID(HttpStatus.FORBIDDEN, "대기열 입장 후 발급된 유효한 입장 토큰이 필요합니다."),
+    RESERVATION_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "해당 식당의 예약 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    LOCK_WAIT_PREDICTED_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "예약 요청이 몰려 대기 시간 안에 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    REQUEST_DEADLINE_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 기한이 초과되었습니다."),
+    SLOT_ALREADY_HELD(HttpStatus.CONFLICT, "다른 사용자가 선점 중인 예약 시간입니다."),
+    RESERVATION_HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않거나 만료된 예약 선점입니다."),
+    SLOT_CAPACITY_EXCEEDED(HttpStatus.BAD_REQUEST, "해당 시간의 잔여 좌석이 예약 인원 수보다 적습니다."),
+    UNALIGNED_RESERVATION_TIME(HttpStatus.BAD_REQUEST, "예약 시간은 영업 스케줄의 예약 단위 시간에 맞아야 합니다."),
+    RESERVATION_EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 예약 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_SCHEDULE(HttpStatus.BAD_REQUEST, "영업 시작 시간은 종료 시간보다 앞서야 하고, 예약 단위 시간은 0보다 커야 합니다."),
+    DUPLICATED_SCHEDULE(HttpStatus.BAD_REQUEST, "같은 요일 또는 날짜의 스케줄이 중복되었습니다."),
+    EMPTY_SCHEDULE(HttpStatus.BAD_REQUEST, "일반 영업 스케줄과 특수 영업 스케줄을 모두 전달해야 하며, 일반 영업 스케줄은 한 요일 이상 있어야 합니다."),
+    PAST_SCHEDULE_DATE(HttpStatus.BAD_REQUEST, "특수 영업 스케줄의 날짜는 오늘보다 이전일 수 없습니다."),
+    CAPACITY_RESERVATION_NOT_IMPORTABLE(HttpStatus.BAD_REQUEST, "좌석 수 기반 식당의 예약은 잔여 좌석을 확인해야 하므로 가져올 수 없습니다."),
+    RESTAURANT_MOVING(HttpStatus.SERVICE_UNAVAILABLE, "식당 데이터를 다른 샤드로 이동하는 중입니다. 잠시 후 다시 시도해주세요."),
+    INVALID_SPLIT_SHARD(HttpStatus.BAD_REQUEST, "설정되지 않았거나 이미 사용 중인 샤드입니다."),
+    SHARD_SPLIT_IN_PROGRESS(HttpStatus.CONFLICT, "진행 중인 샤드 분할이 있거나, 이전 분할의 샤드가 아직 설정에 반영되지 않았습니다."),
+    SHARD_SPLIT_NOT_IN_PROGRESS(HttpStatus.CONFLICT, "진행 중인 샤드 분할이 없습니다."),
+    RESTAURANT_NOT_MOVABLE(HttpStatus.CONFLICT, "새 샤드로 이동할 식당이 아니거나 이미 이동한 식당입니다."),
+    RESTAURANT_NOT_MOVING(HttpStatus.CONFLICT, "이동을 시작하지 않은 식당입니다."),
+    RESTAURANT_MOVE_DRAINING(HttpStatus.CONFLICT, "진행 중인 쓰기가 끝나는 시각 전에는 이동을 완료할 수 없습니다."),
+    RESTAURANT_MOVE_REMAINING(HttpStatus.CONFLICT, "이동이 완료되지 않은 식당이 있습니다.");
 
     private HttpStatus httpStatus;
     private String message;
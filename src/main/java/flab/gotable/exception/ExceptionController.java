@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import flab.gotable.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -26,11 +27,21 @@ public class ExceptionController {
             MemberNotFoundException.class,
             UnAuthenticatedException.class,
             StoreNotFoundException.class,
+            StoreAccessDeniedException.class,
             DuplicatedReservationException.class,
             ScheduleNotFoundException.class,
             LockFailureException.class,
             InvalidReservationTimeException.class,
-            InvalidReservationMemberCountException.class
+            InvalidReservationMemberCountException.class,
+            IdempotencyException.class,
+            ReservationTicketNotFoundException.class,
+            ReservationQueueFullException.class,
+            WaitingRoomException.class,
+            ReservationHoldException.class,
+            ReservationExportException.class,
+            InvalidScheduleException.class,
+            RestaurantMovingException.class,
+            ShardSplitException.class
     })
     public ResponseEntity<ApiResponse> handleApplicationException(ApplicationException e) {
         log.error("handle" + e.getClass());
@@ -39,6 +50,15 @@ public class ExceptionController {
                 .body(ApiResponse.fail(e.getMessage()));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.error("handle" + e.getClass());
+
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) throws JsonProcessingException{
         log.error("handleMethodArgumentNotValidException", e);
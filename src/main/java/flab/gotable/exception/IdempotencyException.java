@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class IdempotencyException extends ApplicationException {
+    public IdempotencyException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class InvalidScheduleException extends ApplicationException {
+    public InvalidScheduleException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,14 @@
+package flab.gotable.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends ApplicationException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(ErrorCode errorCode, String message, long retryAfterSeconds) {
+        super(errorCode, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class ReservationExportException extends ApplicationException {
+    public ReservationExportException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
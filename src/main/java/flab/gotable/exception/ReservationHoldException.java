@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class ReservationHoldException extends ApplicationException {
+    public ReservationHoldException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
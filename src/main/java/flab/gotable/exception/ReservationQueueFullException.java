@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class ReservationQueueFullException extends ApplicationException {
+    public ReservationQueueFullException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
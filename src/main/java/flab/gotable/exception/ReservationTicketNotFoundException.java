@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class ReservationTicketNotFoundException extends ApplicationException {
+    public ReservationTicketNotFoundException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class RestaurantMovingException extends ApplicationException {
+    public RestaurantMovingException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class ShardSplitException extends ApplicationException {
+    public ShardSplitException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
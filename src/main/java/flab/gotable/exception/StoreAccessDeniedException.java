@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class StoreAccessDeniedException extends ApplicationException {
+    public StoreAccessDeniedException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,7 @@
+package flab.gotable.exception;
+
+public class WaitingRoomException extends ApplicationException {
+    public WaitingRoomException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+}
@@ -0,0 +1,42 @@
+package flab.gotable.mapper;
+
+import flab.gotable.domain.entity.Availability;
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.SlotCapacity;
+import flab.gotable.domain.entity.SpecificSchedule;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface AvailabilityMapper {
+    public List<Availability> findAvailabilities(@Param("restaurantId") long restaurantId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    public Availability findAvailabilityForUpdate(@Param("restaurantId") long restaurantId, @Param("date") LocalDate date);
+
+    public void lockAvailability(@Param("restaurantId") long restaurantId, @Param("date") LocalDate date);
+
+    public void updateAvailability(Availability availability);
+
+    public List<LocalDate> findAvailabilityDatesFrom(@Param("restaurantId") long restaurantId, @Param("from") LocalDate from);
+
+    public int deleteAvailabilities(@Param("restaurantId") long restaurantId, @Param("dates") List<LocalDate> dates);
+
+    public int deleteAvailabilitiesBefore(@Param("before") LocalDate before, @Param("limit") int limit);
+
+    public DailySchedule findDailySchedule(@Param("restaurantId") long restaurantId, @Param("day") DayOfWeek day);
+
+    public SpecificSchedule findSpecificSchedule(@Param("restaurantId") long restaurantId, @Param("date") LocalDate date);
+
+    public List<SlotCapacity> findSlotCapacities(@Param("restaurantId") long restaurantId,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to);
+
+    public List<Long> findRestaurantIds();
+}
@@ -14,4 +14,6 @@ public interface MemberMapper {
     public Member findMemberById(String id);
 
     public boolean isMemberExistSeq(long seq);
+
+    public boolean isAdmin(long seq);
 }
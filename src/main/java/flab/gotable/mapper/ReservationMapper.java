@@ -1,20 +1,24 @@
 package flab.gotable.mapper;
 
 import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.domain.entity.ReservationPartition;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
 @Mapper
 public interface ReservationMapper {
     public int getRestaurantLock(long restaurantId);
 
-    public Integer getNamedLock(@Param("lockName") String lockName);
+    public void setLockWaitTimeout(@Param("seconds") int seconds);
 
-    public Integer releaseNamedLock(@Param("lockName") String lockName);
+    public void resetLockWaitTimeout();
 
     public boolean isExistDailySchedule(@Param("restaurantId") long restaurantId,
                                         @Param("dayOfWeek") String dayOfWeek,
@@ -35,4 +39,78 @@ public interface ReservationMapper {
                                    @Param("reservationEndTime") LocalDateTime reservationEndTime);
 
     public void saveReservation(Reservation reservation);
+
+    public int saveReservations(@Param("reservations") List<Reservation> reservations);
+
+    public List<Reservation> findReservationsBetween(@Param("restaurantId") long restaurantId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    public List<Reservation> findReservationsByMember(@Param("memberSeq") long memberSeq,
+                                                      @Param("cursorStartAt") LocalDateTime cursorStartAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      @Param("limit") int limit);
+
+    public List<Reservation> findReservationsByRestaurant(@Param("restaurantId") long restaurantId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to,
+                                                          @Param("cursorStartAt") LocalDateTime cursorStartAt,
+                                                          @Param("cursorId") Long cursorId,
+                                                          @Param("limit") int limit);
+
+    public Cursor<Reservation> findReservationsForExport(@Param("restaurantId") long restaurantId,
+                                                         @Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
+
+    public void createSlotCapacity(@Param("restaurantId") long restaurantId,
+                                   @Param("reservationStartTime") LocalDateTime reservationStartTime,
+                                   @Param("reservationEndTime") LocalDateTime reservationEndTime,
+                                   @Param("capacity") long capacity);
+
+    public int decreaseSlotRemaining(@Param("restaurantId") long restaurantId,
+                                     @Param("reservationStartTime") LocalDateTime reservationStartTime,
+                                     @Param("reservationEndTime") LocalDateTime reservationEndTime,
+                                     @Param("memberCount") long memberCount);
+
+    public Long getSlotRemaining(@Param("restaurantId") long restaurantId,
+                                 @Param("reservationStartTime") LocalDateTime reservationStartTime,
+                                 @Param("reservationEndTime") LocalDateTime reservationEndTime);
+
+    public Reservation findReservation(@Param("memberSeq") long memberSeq,
+                                       @Param("restaurantId") long restaurantId,
+                                       @Param("reservationStartTime") LocalDateTime reservationStartTime,
+                                       @Param("reservationEndTime") LocalDateTime reservationEndTime);
+
+    public List<ReservationPartition> findReservationPartitions();
+
+    public void addReservationPartition(@Param("futurePartition") String futurePartition,
+                                        @Param("name") String name,
+                                        @Param("lessThan") long lessThan);
+
+    public boolean isReservationPartitionEmpty(@Param("name") String name);
+
+    public void dropReservationPartition(@Param("name") String name);
+
+    // 세션 시간대 기준 UNIX_TIMESTAMP (reservation_start_at을 저장하고 파티션을 나눌 때와 같은 시간대)
+    public long findUnixTimestamp(@Param("at") LocalDateTime at);
+
+    public List<Long> findArchivableReservationIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    public int copyReservationsToHistory(@Param("ids") List<Long> ids, @Param("before") LocalDateTime before);
+
+    public int deleteArchivedReservations(@Param("ids") List<Long> ids, @Param("before") LocalDateTime before);
+
+    public int deleteExpiredSlotCapacities(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    public void saveOutboxEvent(ReservationOutboxEvent reservationOutboxEvent);
+
+    public int saveOutboxEvents(@Param("events") List<ReservationOutboxEvent> events);
+
+    public List<ReservationOutboxEvent> findOutboxEvents(@Param("limit") int limit);
+
+    public int deleteOutboxEvents(@Param("ids") List<Long> ids);
+
+    public int retryOutboxEvent(@Param("id") long id, @Param("delaySeconds") long delaySeconds);
+
+    public int saveOutboxDeadLetter(@Param("id") long id, @Param("errorMessage") String errorMessage);
 }
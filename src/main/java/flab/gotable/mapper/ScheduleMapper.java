@@ -0,0 +1,33 @@
+package flab.gotable.mapper;
+
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.SpecificSchedule;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface ScheduleMapper {
+    public List<String> findPrimaryKeyColumns(@Param("tableName") String tableName);
+
+    public boolean hasColumn(@Param("tableName") String tableName, @Param("columnName") String columnName);
+
+    public int increaseRestaurantVersion(@Param("restaurantId") long restaurantId);
+
+    public long findRestaurantVersion(@Param("restaurantId") long restaurantId);
+
+    public List<SpecificSchedule> findSpecificSchedulesFrom(@Param("restaurantId") long restaurantId, @Param("from") LocalDate from);
+
+    public int upsertDailySchedules(@Param("restaurantId") long restaurantId, @Param("schedules") List<DailySchedule> schedules);
+
+    public int deleteDailySchedules(@Param("restaurantId") long restaurantId, @Param("days") List<DayOfWeek> days);
+
+    public int upsertSpecificSchedules(@Param("restaurantId") long restaurantId, @Param("schedules") List<SpecificSchedule> schedules);
+
+    public int deleteSpecificSchedules(@Param("restaurantId") long restaurantId, @Param("dates") List<LocalDate> dates);
+
+    public int deleteSpecificSchedulesBefore(@Param("before") LocalDate before, @Param("limit") int limit);
+}
@@ -4,14 +4,18 @@ import flab.gotable.domain.entity.DailySchedule;
 import flab.gotable.domain.entity.SpecificSchedule;
 import flab.gotable.domain.entity.Store;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
 public interface StoreMapper {
     public Store findStoreById(Long id);
     public List<DailySchedule> findDailyScheduleByStoreId(Long id);
-    public List<SpecificSchedule> findSpecificScheduleByStoreId(Long id);
+    // [from, to] 기간의 특수 영업 스케줄
+    public List<SpecificSchedule> findSpecificScheduleByStoreId(@Param("id") Long id, @Param("from") LocalDate from, @Param("to") LocalDate to);
     public boolean isRestaurantExistId(long restaurantId);
     public long getMaxMemberCount(long restaurantId);
+    public boolean isStoreOwner(@Param("restaurantId") long restaurantId, @Param("memberSeq") long memberSeq);
 }
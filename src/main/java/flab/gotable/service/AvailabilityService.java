@@ -0,0 +1,327 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Availability;
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.SlotCapacity;
+import flab.gotable.domain.entity.SpecificSchedule;
+import flab.gotable.domain.entity.Store;
+import flab.gotable.domain.event.ReservationChangedEvent;
+import flab.gotable.domain.event.ReservationEventType;
+import flab.gotable.dto.response.AvailabilityResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.InvalidReservationTimeException;
+import flab.gotable.exception.StoreNotFoundException;
+import flab.gotable.mapper.AvailabilityMapper;
+import flab.gotable.mapper.ReservationMapper;
+import flab.gotable.mapper.StoreMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/*
+* [예약 가능 현황을 read model로 분리한 이유]
+* 식당의 예약 가능 시간은 조회할 때마다 스케줄과 예약을 조인하여 계산하므로 예약이 많은 식당일수록 상세 조회가 느려집니다.
+* availability에는 식당의 하루마다 예약 시간별 빈 시간 bitmap과 잔여 좌석을 미리 계산해 두고, 조회는 기간에 해당하는 행만 읽습니다.
+*
+* 예약이 생성되면 outbox relay가 발행한 이벤트로 해당 예약 시간만 갱신하고, 예약 취소는 해당 날짜를 원본 데이터로 다시 계산합니다.
+* 스케줄이 변경되면 같은 트랜잭션에서 영향받는 날짜의 행만 삭제하여 다음 조회 시 다시 계산되도록 합니다.
+* 아직 만들어지지 않은 날짜는 조회 시 생성하며, 매일 모든 식당의 예약 가능 기간을 병렬로 다시 계산하여 누락된 갱신을 바로잡습니다.
+* 재계산은 먼저 행을 잠근 뒤 원본을 읽으므로, 그 사이에 커밋된 예약의 이벤트는 재계산이 끝날 때까지 기다렸다가 반영됩니다.
+* */
+@Service
+@Slf4j
+public class AvailabilityService {
+    private static final String BACKFILL_LOCK_KEY = "gotable:availability:backfill:lock";
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    // 락을 획득한 노드만 해제 (작업이 락 유지 시간을 넘겨 다른 노드가 다시 획득한 락은 지우지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final AvailabilityMapper availabilityMapper;
+    private final ReservationMapper reservationMapper;
+    private final StoreMapper storeMapper;
+    private final ReservationBusinessService reservationBusinessService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ThreadPoolTaskExecutor availabilityExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final int maxDays;
+
+    public AvailabilityService(AvailabilityMapper availabilityMapper,
+                               ReservationMapper reservationMapper,
+                               StoreMapper storeMapper,
+                               ReservationBusinessService reservationBusinessService,
+                               ShardRouter shardRouter,
+                               TransactionTemplate readCommittedTransactionTemplate,
+                               TransactionTemplate readOnlyTransactionTemplate,
+                               ThreadPoolTaskExecutor availabilityExecutor,
+                               StringRedisTemplate stringRedisTemplate,
+                               @Value("${availability.max-days:31}") int maxDays) {
+        this.availabilityMapper = availabilityMapper;
+        this.reservationMapper = reservationMapper;
+        this.storeMapper = storeMapper;
+        this.reservationBusinessService = reservationBusinessService;
+        this.shardRouter = shardRouter;
+        this.readCommittedTransactionTemplate = readCommittedTransactionTemplate;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.availabilityExecutor = availabilityExecutor;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxDays = maxDays;
+    }
+
+    // [from, to) 기간의 예약 가능 현황 (최대 max-days일)
+    public List<AvailabilityResponseDto> getAvailability(long restaurantId, LocalDate from, LocalDate to) {
+        // 조회 종료 날짜가 조회 시작 날짜보다 앞서거나 동일한 경우
+        if (!to.isAfter(from)) {
+            throw new InvalidReservationTimeException(ErrorCode.INVALID_RESERVATION_TIME, ErrorCode.INVALID_RESERVATION_TIME.getMessage());
+        }
+
+        final LocalDate until = to.isAfter(from.plusDays(maxDays)) ? from.plusDays(maxDays) : to;
+
+        Map<LocalDate, Availability> availabilities = new HashMap<>();
+        shardRouter.route(restaurantId, () -> readOnlyTransactionTemplate.execute(status ->
+                        availabilityMapper.findAvailabilities(restaurantId, from, until)))
+                .forEach(availability -> availabilities.put(availability.getDate(), availability));
+
+        // 아직 만들어지지 않은 날짜만 원본 데이터로 계산
+        List<LocalDate> missingDates = from.datesUntil(until).filter(date -> !availabilities.containsKey(date)).toList();
+        if (!missingDates.isEmpty()) {
+            rebuild(restaurantId, missingDates).forEach(availability -> availabilities.put(availability.getDate(), availability));
+        }
+
+        return from.datesUntil(until)
+                .map(availabilities::get)
+                .map(AvailabilityResponseDto::new)
+                .toList();
+    }
+
+    // 취소된 예약의 날짜 등을 원본 데이터로 다시 계산하여 저장
+    public List<Availability> rebuild(long restaurantId, Collection<LocalDate> dates) {
+        return shardRouter.route(restaurantId, () -> readCommittedTransactionTemplate.execute(status -> {
+            if (!storeMapper.isRestaurantExistId(restaurantId)) {
+                throw new StoreNotFoundException(ErrorCode.STORE_NOT_FOUND, ErrorCode.STORE_NOT_FOUND.getMessage());
+            }
+
+            final Long capacity = slotCapacity(restaurantId);
+            List<Availability> rebuilt = new ArrayList<>();
+
+            for (LocalDate date : dates) {
+                availabilityMapper.lockAvailability(restaurantId, date);
+
+                Availability availability = build(restaurantId, date, capacity);
+                availabilityMapper.updateAvailability(availability);
+                rebuilt.add(availability);
+            }
+
+            return rebuilt;
+        }));
+    }
+
+    // from 이후의 저장된 현황 중 affected에 해당하는 날짜를 삭제하고, 삭제한 날짜 수를 반환 (호출한 트랜잭션과 샤드에서 실행)
+    public int invalidate(long restaurantId, LocalDate from, Predicate<LocalDate> affected) {
+        List<LocalDate> dates = availabilityMapper.findAvailabilityDatesFrom(restaurantId, from).stream()
+                .filter(affected)
+                .toList();
+
+        for (int i = 0; i < dates.size(); i += DELETE_BATCH_SIZE) {
+            availabilityMapper.deleteAvailabilities(restaurantId, dates.subList(i, Math.min(i + DELETE_BATCH_SIZE, dates.size())));
+        }
+
+        return dates.size();
+    }
+
+    // relay 리더 노드에서 outbox 이벤트마다 호출된다.
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        final long restaurantId = event.getRestaurantId();
+        final LocalDate lastDate = event.getReservationEndAt().minusNanos(1).toLocalDate();
+
+        for (LocalDate date = event.getReservationStartAt().toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+            final LocalDate targetDate = date;
+
+            shardRouter.route(restaurantId, () -> readCommittedTransactionTemplate.execute(status -> {
+                apply(event, targetDate);
+                return null;
+            }));
+        }
+    }
+
+    @Scheduled(cron = "${availability.backfill-cron:0 30 3 * * *}")
+    public void scheduledBackfill() {
+        // 여러 노드 중 한 노드만 실행
+        final String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(BACKFILL_LOCK_KEY, owner, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            final LocalDate today = LocalDate.now();
+            int rebuilt = backfill(today);
+            shardRouter.forEachShard(() -> deleteExpired(today));
+
+            log.info("Availability backfill finished: {} restaurants", rebuilt);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(BACKFILL_LOCK_KEY), owner);
+        }
+    }
+
+    // 모든 식당의 예약 가능 기간(today부터 max_available_day일 뒤까지)의 현황을 식당 단위로 병렬 재계산하고, 재계산한 식당 수를 반환
+    public int backfill(LocalDate today) {
+        List<Long> restaurantIds = shardRouter.forEachShard(() -> readOnlyTransactionTemplate.execute(status -> availabilityMapper.findRestaurantIds()))
+                .stream()
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+
+        AtomicInteger rebuilt = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = restaurantIds.stream()
+                .map(restaurantId -> CompletableFuture.runAsync(() -> {
+                    try {
+                        rebuildAvailableDays(restaurantId, today);
+                        rebuilt.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to rebuild availability: {}", restaurantId, e);
+                    }
+                }, availabilityExecutor))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        return rebuilt.get();
+    }
+
+    private void rebuildAvailableDays(long restaurantId, LocalDate today) {
+        Store store = shardRouter.route(restaurantId, () -> readOnlyTransactionTemplate.execute(status -> storeMapper.findStoreById(restaurantId)));
+        if (store == null) {
+            return;
+        }
+
+        rebuild(restaurantId, today.datesUntil(store.getLastAvailableDate(today).plusDays(1)).toList());
+    }
+
+    // 지난 날짜의 현황은 더 이상 조회되지 않으므로 배치 단위로 삭제
+    private int deleteExpired(LocalDate today) {
+        int deleted = 0;
+        int batch;
+
+        do {
+            batch = availabilityMapper.deleteAvailabilitiesBefore(today, DELETE_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == DELETE_BATCH_SIZE);
+
+        return deleted;
+    }
+
+    private void apply(ReservationChangedEvent event, LocalDate date) {
+        Availability availability = availabilityMapper.findAvailabilityForUpdate(event.getRestaurantId(), date);
+
+        // 만들어지지 않은 날짜는 조회 시 최신 데이터로 계산된다.
+        if (availability == null) {
+            return;
+        }
+
+        // 취소된 예약의 시간은 다른 예약과 겹칠 수 있으므로 날짜 전체를 다시 계산
+        if (event.getType() == ReservationEventType.CANCELLED) {
+            availabilityMapper.updateAvailability(build(event.getRestaurantId(), date, slotCapacity(event.getRestaurantId())));
+            return;
+        }
+
+        if (availability.isCapacityBased()) {
+            // 재전달된 이벤트에도 결과가 같도록 차감하지 않고 slot_capacity의 잔여 좌석으로 갱신
+            // 예약은 여러 예약 시간에 걸칠 수 있으므로 예약과 겹치는 모든 예약 시간을 갱신
+            for (int i = 0; i < availability.getSlotCount(); i++) {
+                if (availability.getSlotStartAt(i).isBefore(event.getReservationEndAt()) && availability.getSlotEndAt(i).isAfter(event.getReservationStartAt())) {
+                    Long remaining = reservationMapper.getSlotRemaining(event.getRestaurantId(), availability.getSlotStartAt(i), availability.getSlotEndAt(i));
+                    if (remaining != null) {
+                        availability.setRemainingSeats(i, remaining);
+                    }
+                }
+            }
+        } else {
+            availability.occupy(event.getReservationStartAt(), event.getReservationEndAt());
+        }
+
+        availabilityMapper.updateAvailability(availability);
+    }
+
+    private Availability build(long restaurantId, LocalDate date, @Nullable Long capacity) {
+        Availability availability = openAvailability(restaurantId, date, capacity);
+        if (availability.getSlotCount() == 0) {
+            return availability;
+        }
+
+        final LocalDateTime from = availability.getSlotStartAt(0);
+        final LocalDateTime to = availability.getSlotEndAt(availability.getSlotCount() - 1);
+
+        if (capacity == null) {
+            for (Reservation reservation : reservationMapper.findReservationsBetween(restaurantId, from, to)) {
+                availability.occupy(reservation.getReservationStartAt(), reservation.getReservationEndAt());
+            }
+            return availability;
+        }
+
+        Map<LocalDateTime, SlotCapacity> slotCapacities = new HashMap<>();
+        for (SlotCapacity slotCapacity : availabilityMapper.findSlotCapacities(restaurantId, from, to)) {
+            slotCapacities.put(slotCapacity.getSlotStartAt(), slotCapacity);
+        }
+
+        for (int i = 0; i < availability.getSlotCount(); i++) {
+            SlotCapacity slotCapacity = slotCapacities.get(availability.getSlotStartAt(i));
+            if (slotCapacity != null && slotCapacity.getSlotEndAt().equals(availability.getSlotEndAt(i))) {
+                availability.setRemainingSeats(i, slotCapacity.getRemaining());
+            }
+        }
+
+        return availability;
+    }
+
+    // 특수 영업 스케줄이 있으면 우선 적용
+    private Availability openAvailability(long restaurantId, LocalDate date, @Nullable Long capacity) {
+        SpecificSchedule specificSchedule = availabilityMapper.findSpecificSchedule(restaurantId, date);
+        if (specificSchedule != null) {
+            return Availability.open(restaurantId, date, specificSchedule.getOpenTime(), specificSchedule.getCloseTime(), specificSchedule.getSplitTime(), capacity);
+        }
+
+        DailySchedule dailySchedule = availabilityMapper.findDailySchedule(restaurantId, date.getDayOfWeek());
+        if (dailySchedule != null) {
+            return Availability.open(restaurantId, date, dailySchedule.getOpenTime(), dailySchedule.getCloseTime(), dailySchedule.getSplitTime(), capacity);
+        }
+
+        return Availability.closed(restaurantId, date);
+    }
+
+    @Nullable
+    private Long slotCapacity(long restaurantId) {
+        return reservationBusinessService.isCapacityBased(restaurantId) ? reservationBusinessService.getSlotCapacity(restaurantId) : null;
+    }
+}
@@ -0,0 +1,148 @@
+package flab.gotable.service;
+
+import flab.gotable.utils.SnowflakeIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+* [애플리케이션에서 id를 발급하는 이유]
+* AUTO_INCREMENT id는 INSERT가 실행되어야 알 수 있으므로 예약을 한 건씩 저장해야 하고, 여러 건을 한 번에 저장하거나 나중에 저장할 수 없습니다.
+* 샤드마다 AUTO_INCREMENT를 사용하면 샤드 간에 같은 id가 발급될 수도 있습니다.
+* 노드마다 Redis에서 임대한 노드 id로 시간 순 64비트 id를 발급하므로, 저장하기 전에 DB 조회 없이 모든 샤드에서 유일한 id를 정할 수 있습니다.
+*
+* 임대는 renew-interval-millis마다 연장하며, 연장할 때 마지막으로 발급한 시각을 함께 기록합니다.
+* 같은 노드 id를 나중에 임대한 노드는 기록된 시각 이후부터 발급하므로 이전 노드가 발급한 id와 겹치지 않습니다.
+* */
+@Component
+@Slf4j
+public class IdGenerator {
+    private static final String KEY_PREFIX = "gotable:id-generator:node:";
+
+    // KEYS[1]: 노드 id 임대, KEYS[2]: 마지막 발급 시각, ARGV: 임대한 노드, 유지 시간(ms), 마지막 발급 시각
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('SET', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SnowflakeIdGenerator generator;
+    private final long leaseMillis;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    public IdGenerator(StringRedisTemplate stringRedisTemplate,
+                       @Value("${id-generator.lease-millis:30000}") long leaseMillis,
+                       @Value("${id-generator.max-drift-millis:1000}") long maxDriftMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.generator = new SnowflakeIdGenerator(maxDriftMillis);
+        this.leaseMillis = leaseMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!acquire()) {
+            throw new IllegalStateException("No node id is available for id generation");
+        }
+    }
+
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Scheduled(fixedDelayString = "${id-generator.renew-interval-millis:10000}")
+    public void renew() {
+        final int nodeId = generator.getNodeId();
+        if (nodeId < 0) {
+            acquire();
+            return;
+        }
+
+        final long leaseStartNanos = System.nanoTime();
+
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(nodeId), lastTimestampKey(nodeId)),
+                    owner, String.valueOf(leaseMillis), String.valueOf(generator.getLastTimestamp()));
+
+            if (Long.valueOf(1).equals(renewed)) {
+                generator.renew(leaseStartNanos, leaseMillis);
+                return;
+            }
+
+            // 임대가 만료되어 다른 노드가 같은 id를 임대했을 수 있으므로 새로운 노드 id를 임대
+            log.warn("Node id lease lost: {}", nodeId);
+            generator.revoke();
+            acquire();
+        } catch (RuntimeException e) {
+            // 연장하지 못한 채 유지 시간이 지나면 id 발급이 중단된다.
+            log.warn("Failed to renew node id lease: {}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        final int nodeId = generator.getNodeId();
+        if (nodeId < 0) {
+            return;
+        }
+
+        generator.revoke();
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(nodeId), lastTimestampKey(nodeId)),
+                owner, String.valueOf(generator.getLastTimestamp()));
+    }
+
+    // 노드 id를 무작위 위치부터 차례로 임대 시도
+    private synchronized boolean acquire() {
+        final int start = ThreadLocalRandom.current().nextInt(SnowflakeIdGenerator.MAX_NODE_ID + 1);
+
+        for (int i = 0; i <= SnowflakeIdGenerator.MAX_NODE_ID; i++) {
+            final int nodeId = (start + i) % (SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            final long leaseStartNanos = System.nanoTime();
+
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey(nodeId), owner, Duration.ofMillis(leaseMillis));
+            if (!Boolean.TRUE.equals(acquired)) {
+                continue;
+            }
+
+            String lastTimestamp = stringRedisTemplate.opsForValue().get(lastTimestampKey(nodeId));
+            generator.assign(nodeId, lastTimestamp == null ? -1 : Long.parseLong(lastTimestamp), leaseStartNanos, leaseMillis);
+            log.info("Node id leased: {}", nodeId);
+
+            return true;
+        }
+
+        log.error("No node id is available, all {} node ids are leased", SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        return false;
+    }
+
+    private String leaseKey(int nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+
+    private String lastTimestampKey(int nodeId) {
+        return KEY_PREFIX + nodeId + ":last";
+    }
+}
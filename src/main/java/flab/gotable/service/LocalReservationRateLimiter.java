@@ -0,0 +1,114 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 단위로 식당별 요청 속도와 동시 처리 수를 제한하는 구현체 (Redis 조회 없음)
+ * 반환되지 않은 허가는 Redis 구현체와 같이 유지 시간이 지나면 동시 처리 수에서 제외됩니다.
+ */
+@Service
+@ConditionalOnProperty(name = "reservation.rate-limit.mode", havingValue = "LOCAL", matchIfMissing = true)
+public class LocalReservationRateLimiter implements ReservationRateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxConcurrent;
+    private final long leaseNanos;
+
+    private final Map<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Long, InFlightPermits> inFlightPermits = new ConcurrentHashMap<>();
+
+    public LocalReservationRateLimiter(@Value("${reservation.rate-limit.permits-per-second:50}") double permitsPerSecond,
+                                       @Value("${reservation.rate-limit.burst:100}") int burst,
+                                       @Value("${reservation.rate-limit.max-concurrent:20}") int maxConcurrent,
+                                       @Value("${reservation.rate-limit.lease-millis:30000}") long leaseMillis) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxConcurrent = maxConcurrent;
+        this.leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+    }
+
+    @Override
+    public RateLimitPermit acquire(long restaurantId) {
+        InFlightPermits inFlight = inFlightPermits.computeIfAbsent(restaurantId, id -> new InFlightPermits());
+
+        // 동시 처리 수를 먼저 확인해 거절된 요청이 토큰을 소모하지 않도록 한다.
+        final long permitId = inFlight.tryAcquire(System.nanoTime(), maxConcurrent, leaseNanos);
+        if (permitId < 0) {
+            throw rateLimited(1);
+        }
+
+        long waitNanos = buckets.computeIfAbsent(restaurantId, id -> new TokenBucket(burst, System.nanoTime()))
+                .tryAcquire(System.nanoTime(), permitsPerSecond, burst);
+
+        if (waitNanos > 0) {
+            inFlight.release(permitId);
+            throw rateLimited(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+
+        return () -> inFlight.release(permitId);
+    }
+
+    private RateLimitExceededException rateLimited(long retryAfterSeconds) {
+        return new RateLimitExceededException(ErrorCode.RESERVATION_RATE_LIMITED, ErrorCode.RESERVATION_RATE_LIMITED.getMessage(), retryAfterSeconds);
+    }
+
+    private static class InFlightPermits {
+        // 허가 id -> 획득 시각 (획득 순서대로 저장)
+        private final Map<Long, Long> acquiredAt = new LinkedHashMap<>();
+        private long nextPermitId;
+
+        // 허가를 획득하면 허가 id, 동시 처리 수를 초과하면 -1을 반환
+        synchronized long tryAcquire(long now, int maxConcurrent, long leaseNanos) {
+            Iterator<Long> iterator = acquiredAt.values().iterator();
+            while (iterator.hasNext() && now - iterator.next() >= leaseNanos) {
+                iterator.remove();
+            }
+
+            if (acquiredAt.size() >= maxConcurrent) {
+                return -1;
+            }
+
+            final long permitId = nextPermitId++;
+            acquiredAt.put(permitId, now);
+            return permitId;
+        }
+
+        synchronized void release(long permitId) {
+            acquiredAt.remove(permitId);
+        }
+    }
+
+    private static class TokenBucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+
+        // 토큰을 획득하면 0, 부족하면 다음 토큰까지 남은 시간(ns)을 반환
+        synchronized long tryAcquire(long now, double permitsPerSecond, int burst) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+
+            return (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.lock.LockWaitOutcome;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.LockFailureException;
+import flab.gotable.utils.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+* [락 대기 정책을 도입한 이유]
+* 기존에는 모든 식당이 GET_LOCK 10초(비관적 락은 InnoDB 기본값 50초)를 기다렸기 때문에, 경합이 심한 식당의 요청은 스레드와 커넥션을 오래 점유한 뒤 결국 실패했습니다.
+* 대기 시간은 식당별 설정과 HTTP 요청의 남은 처리 기한 중 짧은 값으로 정하고,
+* 앞선 대기자 수 × 평균 락 보유 시간이 대기 시간을 넘으면 기다리지 않고 즉시 실패시킵니다.
+* 재시도는 최대 횟수 안에서 jitter를 적용한 지수 backoff로 수행하며, 대기마다 걸린 시간과 종료 이유를 기록합니다.
+* 락 이름마다 대기자 수와 평균 보유 시간을 두므로, 대기하거나 보유 중인 요청이 없고 정리 주기 동안 사용되지 않은 락의 정보는 주기적으로 제거합니다.
+* */
+@Service
+@Slf4j
+public class LockWaitPolicy {
+    // 락 보유 시간 이동 평균에서 최근 값의 가중치
+    private static final double HOLD_TIME_WEIGHT = 0.2;
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final long defaultWaitTimeoutNanos;
+    private final Map<Long, Long> restaurantWaitTimeoutMillis;
+    private final int maxAttempts;
+    private final long minBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private final Map<String, LockQueue> queues = new ConcurrentHashMap<>();
+    private final Map<LockWaitOutcome, LongAdder> outcomeCounts = new EnumMap<>(LockWaitOutcome.class);
+    private final Map<LockWaitOutcome, LongAdder> outcomeWaitNanos = new EnumMap<>(LockWaitOutcome.class);
+
+    public LockWaitPolicy(@Value("${reservation.lock.wait-timeout-millis:10000}") long waitTimeoutMillis,
+                          @Value("#{${reservation.lock.restaurant-wait-timeout-millis:{:}}}") Map<Long, Long> restaurantWaitTimeoutMillis,
+                          @Value("${reservation.lock.max-attempts:100}") int maxAttempts,
+                          @Value("${reservation.lock.min-backoff-millis:5}") long minBackoffMillis,
+                          @Value("${reservation.lock.max-backoff-millis:100}") long maxBackoffMillis) {
+        this.defaultWaitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        this.restaurantWaitTimeoutMillis = Map.copyOf(restaurantWaitTimeoutMillis);
+        this.maxAttempts = maxAttempts;
+        this.minBackoffNanos = TimeUnit.MILLISECONDS.toNanos(minBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+
+        for (LockWaitOutcome outcome : LockWaitOutcome.values()) {
+            outcomeCounts.put(outcome, new LongAdder());
+            outcomeWaitNanos.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * 락 대기를 시작합니다. 처리 기한이 지났거나 대기 시간 안에 획득할 수 없다고 예측되면 즉시 LockFailureException을 발생시킵니다.
+     */
+    public LockWait begin(String lockName, long restaurantId) {
+        final long startedAt = System.nanoTime();
+        final Long configuredMillis = restaurantWaitTimeoutMillis.get(restaurantId);
+        final long timeoutNanos = configuredMillis == null ? defaultWaitTimeoutNanos : TimeUnit.MILLISECONDS.toNanos(configuredMillis);
+        final long deadlineRemainingNanos = RequestDeadline.remainingNanos();
+
+        // 대기열 정리와 겹치지 않도록 대기열 조회와 사용 표시를 한 번에 실행
+        final LockQueue queue = queues.compute(lockName, (name, current) -> {
+            LockQueue lockQueue = current == null ? new LockQueue() : current;
+            lockQueue.active.incrementAndGet();
+            lockQueue.used = true;
+            return lockQueue;
+        });
+        final int waitersAhead = queue.waiters.getAndIncrement();
+        final LockWait wait = new LockWait(lockName, queue, startedAt,
+                startedAt + Math.min(timeoutNanos, deadlineRemainingNanos), deadlineRemainingNanos < timeoutNanos);
+
+        if (deadlineRemainingNanos <= 0) {
+            throw wait.fail(LockWaitOutcome.DEADLINE_EXCEEDED);
+        }
+
+        // 평균 보유 시간을 아직 모르는 경우에는 예측하지 않는다.
+        final double averageHoldNanos = queue.averageHoldNanos;
+        if (waitersAhead > 0 && averageHoldNanos > 0 && waitersAhead * averageHoldNanos > wait.remainingNanos()) {
+            throw wait.fail(LockWaitOutcome.PREDICTED_TIMEOUT);
+        }
+
+        return wait;
+    }
+
+    // 대기하거나 보유 중인 요청이 없고, 이전 정리 이후 사용되지 않은 락의 대기열을 제거
+    @Scheduled(fixedDelayString = "${reservation.lock.queue-cleanup-millis:60000}")
+    public void removeIdleQueues() {
+        for (String lockName : queues.keySet()) {
+            queues.computeIfPresent(lockName, (name, queue) -> {
+                if (queue.active.get() > 0) {
+                    return queue;
+                }
+
+                if (queue.used) {
+                    queue.used = false;
+                    return queue;
+                }
+
+                return null;
+            });
+        }
+    }
+
+    int getQueueCount() {
+        return queues.size();
+    }
+
+    public long getCount(LockWaitOutcome outcome) {
+        return outcomeCounts.get(outcome).sum();
+    }
+
+    public long getTotalWaitMillis(LockWaitOutcome outcome) {
+        return TimeUnit.NANOSECONDS.toMillis(outcomeWaitNanos.get(outcome).sum());
+    }
+
+    private void report(LockWait wait, LockWaitOutcome outcome, long waitedNanos) {
+        outcomeCounts.get(outcome).increment();
+        outcomeWaitNanos.get(outcome).add(waitedNanos);
+
+        if (outcome == LockWaitOutcome.ACQUIRED) {
+            log.debug("Lock wait ended: lock={}, outcome={}, waited={}ms, attempts={}",
+                    wait.lockName, outcome, TimeUnit.NANOSECONDS.toMillis(waitedNanos), wait.attempts);
+        } else {
+            log.warn("Lock wait ended: lock={}, outcome={}, waited={}ms, attempts={}",
+                    wait.lockName, outcome, TimeUnit.NANOSECONDS.toMillis(waitedNanos), wait.attempts);
+        }
+    }
+
+    private static ErrorCode errorCodeOf(LockWaitOutcome outcome) {
+        return switch (outcome) {
+            case PREDICTED_TIMEOUT -> ErrorCode.LOCK_WAIT_PREDICTED_TIMEOUT;
+            case DEADLINE_EXCEEDED -> ErrorCode.REQUEST_DEADLINE_EXCEEDED;
+            case ERROR -> ErrorCode.LOCK_SYSTEM_FAILURE;
+            default -> ErrorCode.LOCK_ACQUISITION_FAILED;
+        };
+    }
+
+    /**
+     * 하나의 락 대기. 획득(acquired) 또는 실패(fail) 중 하나로 한 번만 종료된다.
+     */
+    public class LockWait {
+        private final String lockName;
+        private final LockQueue queue;
+        private final long startedAt;
+        private final long deadline;
+        // 대기 시간이 식당별 설정이 아닌 요청의 처리 기한으로 정해졌는지 여부
+        private final boolean deadlineBound;
+
+        private int attempts;
+        private long acquiredAt;
+        private boolean finished;
+
+        private LockWait(String lockName, LockQueue queue, long startedAt, long deadline, boolean deadlineBound) {
+            this.lockName = lockName;
+            this.queue = queue;
+            this.startedAt = startedAt;
+            this.deadline = deadline;
+            this.deadlineBound = deadlineBound;
+        }
+
+        public String getLockName() {
+            return lockName;
+        }
+
+        public long remainingNanos() {
+            return deadline - System.nanoTime();
+        }
+
+        // InnoDB 락 대기 시간은 초 단위(최소 1초)로만 설정할 수 있다.
+        public int remainingSeconds() {
+            return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+
+        /**
+         * 다음 시도까지 대기할 시간(ns)을 반환합니다. 대기 시간이 지났거나 재시도 횟수를 초과하면 LockFailureException을 발생시킵니다.
+         */
+        public long nextBackoffNanos() {
+            attempts++;
+
+            final long remainingNanos = remainingNanos();
+            if (remainingNanos <= 0) {
+                throw expired();
+            }
+
+            if (attempts >= maxAttempts) {
+                throw fail(LockWaitOutcome.RETRIES_EXHAUSTED);
+            }
+
+            // 여러 요청이 같은 시점에 다시 시도하지 않도록 [min, 지수 증가 상한] 범위에서 무작위로 선택
+            final long ceiling = Math.min(maxBackoffNanos, minBackoffNanos << Math.min(attempts, MAX_BACKOFF_SHIFT));
+            final long backoffNanos = ThreadLocalRandom.current().nextLong(minBackoffNanos, Math.max(minBackoffNanos, ceiling) + 1);
+
+            return Math.min(backoffNanos, remainingNanos);
+        }
+
+        public void acquired() {
+            attempts++;
+            acquiredAt = System.nanoTime();
+            finish(LockWaitOutcome.ACQUIRED, acquiredAt);
+        }
+
+        // 락 해제 시 보유 시간을 대기 시간 예측에 반영
+        public void released() {
+            queue.recordHold(System.nanoTime() - acquiredAt);
+            queue.active.decrementAndGet();
+        }
+
+        // 대기 시간이 지난 원인에 따라 TIMED_OUT 또는 DEADLINE_EXCEEDED로 종료
+        public LockFailureException expired() {
+            return fail(deadlineBound ? LockWaitOutcome.DEADLINE_EXCEEDED : LockWaitOutcome.TIMED_OUT);
+        }
+
+        public LockFailureException fail(LockWaitOutcome outcome) {
+            finish(outcome, System.nanoTime());
+
+            final ErrorCode errorCode = errorCodeOf(outcome);
+            return new LockFailureException(errorCode, errorCode.getMessage());
+        }
+
+        private void finish(LockWaitOutcome outcome, long endedAt) {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            queue.waiters.decrementAndGet();
+            // 획득한 경우에는 해제(released)할 때까지 대기열을 사용 중으로 유지
+            if (outcome != LockWaitOutcome.ACQUIRED) {
+                queue.active.decrementAndGet();
+            }
+            report(this, outcome, endedAt - startedAt);
+        }
+    }
+
+    private static class LockQueue {
+        private final AtomicInteger waiters = new AtomicInteger();
+        // 대기 중이거나 락을 보유 중인 요청 수
+        private final AtomicInteger active = new AtomicInteger();
+        // 이전 정리 이후 대기가 시작되었는지 여부
+        private volatile boolean used;
+        private volatile double averageHoldNanos;
+
+        synchronized void recordHold(long holdNanos) {
+            averageHoldNanos = averageHoldNanos == 0 ? holdNanos
+                    : averageHoldNanos * (1 - HOLD_TIME_WEIGHT) + holdNanos * HOLD_TIME_WEIGHT;
+        }
+    }
+}
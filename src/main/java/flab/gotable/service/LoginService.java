@@ -1,7 +1,14 @@
 package flab.gotable.service;
 
+import flab.gotable.domain.auth.AuthMode;
+import flab.gotable.domain.auth.AuthToken;
+import flab.gotable.domain.event.AuthTokenRevokedEvent;
+import flab.gotable.domain.event.MemberLogoutEvent;
+import flab.gotable.utils.AuthTokenProvider;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,14 +16,36 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class LoginService {
     public static final String MEMBER_ID = "MEMBER_ID";
+    public static final String AUTH_TOKEN = "AUTH_TOKEN";
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final AuthTokenProvider authTokenProvider;
+
+    @Value("${auth.mode:SESSION}")
+    private AuthMode authMode = AuthMode.SESSION;
+
+    public boolean isTokenMode() {
+        return authMode == AuthMode.TOKEN;
+    }
 
     @Transactional
     public void login(String id, HttpSession httpSession) {
         httpSession.setAttribute(MEMBER_ID, id);
     }
 
+    public String issueToken(long memberSeq) {
+        return authTokenProvider.issue(memberSeq);
+    }
+
     @Transactional
     public void logout(HttpSession httpSession) {
         httpSession.removeAttribute(MEMBER_ID);
+
+        // 각 노드의 세션 near-cache 무효화
+        applicationEventPublisher.publishEvent(new MemberLogoutEvent(httpSession.getId()));
+    }
+
+    public void revokeToken(AuthToken authToken) {
+        applicationEventPublisher.publishEvent(new AuthTokenRevokedEvent(authToken.getTokenId(), authToken.getExpiresAt()));
     }
 }
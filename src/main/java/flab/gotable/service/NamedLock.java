@@ -0,0 +1,14 @@
+package flab.gotable.service;
+
+/**
+ * NamedLockManager에서 획득한 MySQL 네임드 락. try-with-resources로 반드시 해제한다.
+ */
+public interface NamedLock extends AutoCloseable {
+    /**
+     * 락을 아직 보유하고 있는지 확인하고, 락 세션의 커넥션이 끊겨 잃었으면 LockFailureException을 발생시킵니다.
+     */
+    void verify();
+
+    @Override
+    void close();
+}
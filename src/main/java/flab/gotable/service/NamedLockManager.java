@@ -0,0 +1,247 @@
+package flab.gotable.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import flab.gotable.domain.lock.LockWaitOutcome;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.LockFailureException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+* [락 전용 커넥션을 분리한 이유]
+* 기존 reserveNamedLock은 GET_LOCK을 기다리는 동안 메인 트랜잭션의 커넥션을 점유하고, 락을 얻은 뒤에는 REQUIRES_NEW로 커넥션을 하나 더 사용했습니다.
+* 요청 하나가 커넥션 두 개를 사용하므로 동시 요청이 풀 크기의 절반만 되어도 두 번째 커넥션을 기다리며 풀이 고갈될 수 있습니다.
+* 네임드 락은 세션 단위로 유지되며 하나의 세션이 여러 락을 동시에 보유할 수 있으므로, 작은 전용 풀의 커넥션 몇 개에 락 이름을 해시로 나누어 배정합니다.
+* GET_LOCK은 대기 없이(timeout 0) 호출하고 대기와 재시도는 LockWaitPolicy에 따라 애플리케이션에서 처리하므로, 락을 기다리는 요청은 어떤 커넥션도 점유하지 않습니다.
+* 같은 노드의 요청은 로컬 락에서 먼저 순서를 기다리므로 DB에 락을 시도하는 요청은 락 이름당 노드별 1개입니다.
+* 로컬 락은 사용하는 요청이 없으면 제거하여 식당 수만큼 계속 쌓이지 않도록 합니다.
+*
+* 세션에서 에러가 발생하면 커넥션을 닫고, 이때 같은 세션의 다른 락도 DB에서 함께 해제됩니다.
+* 보유자는 이를 알 수 없으므로 커밋 직전에 verify로 락을 아직 이 세션이 보유하고 있는지 확인하고, 잃었으면 트랜잭션을 롤백합니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NamedLockManager {
+    private static final String GET_LOCK_SQL = "SELECT GET_LOCK(?, 0)";
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK(?)";
+    private static final String IS_LOCK_HELD_SQL = "SELECT IS_USED_LOCK(?) = CONNECTION_ID()";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final Map<String, LocalLock> localLocks = new ConcurrentHashMap<>();
+
+    private HikariDataSource lockDataSource;
+    private LockSession[] sessions;
+
+    @Value("${reservation.lock.connection-count:4}")
+    private int connectionCount;
+
+    @PostConstruct
+    public void init() {
+        lockDataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        lockDataSource.setPoolName("named-lock-pool");
+        lockDataSource.setMaximumPoolSize(connectionCount);
+        lockDataSource.setMinimumIdle(0);
+
+        sessions = new LockSession[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            sessions[i] = new LockSession();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        for (LockSession session : sessions) {
+            session.close();
+        }
+        lockDataSource.close();
+    }
+
+    /**
+     * LockWaitPolicy에서 시작한 대기의 남은 시간 안에서 락을 획득합니다.
+     * 획득 결과는 대기에 기록되며, 실패하면 LockFailureException을 발생시킵니다.
+     */
+    public NamedLock acquire(LockWaitPolicy.LockWait wait) {
+        final String lockName = wait.getLockName();
+        final ReentrantLock localLock = retainLocalLock(lockName);
+
+        try {
+            if (!localLock.tryLock(Math.max(0, wait.remainingNanos()), TimeUnit.NANOSECONDS)) {
+                releaseLocalLock(lockName);
+                throw wait.expired();
+            }
+        } catch (InterruptedException e) {
+            releaseLocalLock(lockName);
+            Thread.currentThread().interrupt();
+            throw wait.fail(LockWaitOutcome.NOT_ACQUIRED);
+        }
+
+        try {
+            final LockSession session = sessionFor(lockName);
+
+            // 다른 노드가 락을 보유한 경우 커넥션을 반환한 상태로 대기 후 다시 시도
+            while (true) {
+                Integer result = session.tryLock(lockName);
+
+                // 락 획득 중 에러 발생
+                if (result == null) {
+                    throw wait.fail(LockWaitOutcome.ERROR);
+                }
+
+                if (result == 1) {
+                    break;
+                }
+
+                TimeUnit.NANOSECONDS.sleep(wait.nextBackoffNanos());
+            }
+
+            wait.acquired();
+
+            return new NamedLock() {
+                @Override
+                public void verify() {
+                    if (!session.isHeld(lockName)) {
+                        throw new LockFailureException(ErrorCode.LOCK_LOST, ErrorCode.LOCK_LOST.getMessage());
+                    }
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        wait.released();
+                        session.unlock(lockName);
+                    } finally {
+                        localLock.unlock();
+                        releaseLocalLock(lockName);
+                    }
+                }
+            };
+        } catch (InterruptedException e) {
+            localLock.unlock();
+            releaseLocalLock(lockName);
+            Thread.currentThread().interrupt();
+            throw wait.fail(LockWaitOutcome.NOT_ACQUIRED);
+        } catch (RuntimeException e) {
+            localLock.unlock();
+            releaseLocalLock(lockName);
+            throw e;
+        }
+    }
+
+    // 사용 중인 요청 수와 함께 로컬 락을 가져온다. 같은 이름에 서로 다른 로컬 락이 만들어지지 않도록 compute 안에서만 사용 수를 변경
+    private ReentrantLock retainLocalLock(String lockName) {
+        return localLocks.compute(lockName, (name, localLock) -> {
+            final LocalLock retained = localLock == null ? new LocalLock() : localLock;
+            retained.users++;
+            return retained;
+        }).lock;
+    }
+
+    // 마지막 사용자가 반환하면 로컬 락을 제거
+    private void releaseLocalLock(String lockName) {
+        localLocks.computeIfPresent(lockName, (name, localLock) -> --localLock.users == 0 ? null : localLock);
+    }
+
+    int getLocalLockCount() {
+        return localLocks.size();
+    }
+
+    // 락은 획득한 세션에서만 해제할 수 있으므로 락 이름마다 항상 같은 세션을 사용
+    private LockSession sessionFor(String lockName) {
+        return sessions[Math.floorMod(lockName.hashCode(), sessions.length)];
+    }
+
+    private static class LocalLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int users;
+    }
+
+    /**
+     * 여러 락을 보유하는 하나의 DB 세션
+     * JDBC 커넥션은 스레드 안전하지 않으므로 짧은 GET_LOCK / RELEASE_LOCK 호출만 직렬화합니다.
+     * 커넥션이 끊기면 해당 세션의 락은 DB에서 모두 해제되므로 다음 호출에서 새 커넥션을 연결합니다.
+     */
+    private class LockSession {
+        private Connection connection;
+
+        // 1 = 획득, 0 = 다른 세션이 보유 중, null = 에러
+        synchronized Integer tryLock(String lockName) {
+            return execute(GET_LOCK_SQL, lockName);
+        }
+
+        synchronized void unlock(String lockName) {
+            Integer result = execute(RELEASE_LOCK_SQL, lockName);
+
+            // 락이 존재하지 않거나 이 세션이 보유한 락이 아닌 경우
+            if (result == null || result == 0) {
+                log.warn("Failed to release lock: {}", lockName);
+            }
+        }
+
+        // 커넥션이 끊겼거나 다시 연결된 경우 이 세션은 더 이상 락을 보유하지 않는다.
+        synchronized boolean isHeld(String lockName) {
+            if (connection == null) {
+                return false;
+            }
+
+            Integer result = execute(IS_LOCK_HELD_SQL, lockName);
+            return result != null && result == 1;
+        }
+
+        synchronized void close() {
+            if (connection != null) {
+                closeQuietly();
+            }
+        }
+
+        private Integer execute(String sql, String lockName) {
+            try {
+                if (connection == null) {
+                    connection = lockDataSource.getConnection();
+                    connection.setAutoCommit(true);
+                }
+
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, lockName);
+
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        int result = resultSet.getInt(1);
+                        return resultSet.wasNull() ? null : result;
+                    }
+                }
+            } catch (SQLException e) {
+                log.error("Named lock session failed: {}", lockName, e);
+                closeQuietly();
+                return null;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                if (connection != null) {
+                    connection.close();
+                }
+            } catch (SQLException e) {
+                log.debug("Failed to close named lock connection", e);
+            } finally {
+                connection = null;
+            }
+        }
+    }
+}
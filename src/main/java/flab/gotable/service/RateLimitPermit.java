@@ -0,0 +1,9 @@
+package flab.gotable.service;
+
+/**
+ * 식당별 동시 처리 한도에서 획득한 허가. try-with-resources로 반드시 반환한다.
+ */
+public interface RateLimitPermit extends AutoCloseable {
+    @Override
+    void close();
+}
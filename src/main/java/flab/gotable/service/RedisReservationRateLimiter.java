@@ -0,0 +1,104 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 모든 노드가 Redis를 통해 식당별 요청 속도와 동시 처리 수를 공유하는 구현체
+ * 토큰 버킷과 동시 처리 수 확인을 하나의 Lua 스크립트로 처리해 요청당 Redis 왕복은 획득/반환 2회입니다.
+ */
+@Service
+@ConditionalOnProperty(name = "reservation.rate-limit.mode", havingValue = "REDIS")
+public class RedisReservationRateLimiter implements ReservationRateLimiter {
+    private static final String KEY_PREFIX = "gotable:rate-limit:reservation:";
+
+    /*
+    * KEYS[1]: 토큰 버킷(hash), KEYS[2]: 처리 중인 요청(sorted set, score = 획득 시각)
+    * ARGV: 초당 토큰 수, 버킷 크기, 최대 동시 처리 수, 허가 유지 시간(ms), 허가 id
+    * 반환값: 0 = 허가, -1 = 동시 처리 수 초과, 양수 = 다음 토큰까지 대기 시간(ms)
+    * 반환되지 않은 허가(노드 장애 등)는 유지 시간이 지나면 자동으로 제거됩니다.
+    * */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local maxConcurrent = tonumber(ARGV[3])
+            local lease = tonumber(ARGV[4])
+
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - lease)
+            if redis.call('ZCARD', KEYS[2]) >= maxConcurrent then
+                return -1
+            end
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'timestamp')
+            local tokens = tonumber(bucket[1]) or burst
+            local timestamp = tonumber(bucket[2]) or now
+            tokens = math.min(burst, tokens + math.max(0, now - timestamp) * rate / 1000)
+
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                redis.call('ZADD', KEYS[2], now, ARGV[5])
+                redis.call('PEXPIRE', KEYS[2], lease)
+            else
+                wait = math.ceil((1 - tokens) * 1000 / rate)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'timestamp', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxConcurrent;
+    private final long leaseMillis;
+
+    public RedisReservationRateLimiter(StringRedisTemplate stringRedisTemplate,
+                                       @Value("${reservation.rate-limit.permits-per-second:50}") double permitsPerSecond,
+                                       @Value("${reservation.rate-limit.burst:100}") int burst,
+                                       @Value("${reservation.rate-limit.max-concurrent:20}") int maxConcurrent,
+                                       @Value("${reservation.rate-limit.lease-millis:30000}") long leaseMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxConcurrent = maxConcurrent;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Override
+    public RateLimitPermit acquire(long restaurantId) {
+        final String bucketKey = KEY_PREFIX + restaurantId + ":bucket";
+        final String concurrencyKey = KEY_PREFIX + restaurantId + ":concurrency";
+        final String permitId = UUID.randomUUID().toString();
+
+        Long result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(bucketKey, concurrencyKey),
+                String.valueOf(permitsPerSecond), String.valueOf(burst), String.valueOf(maxConcurrent), String.valueOf(leaseMillis), permitId);
+
+        if (result == null || result < 0) {
+            throw rateLimited(1);
+        }
+
+        if (result > 0) {
+            throw rateLimited(Math.max(1, (result + 999) / 1000));
+        }
+
+        return () -> stringRedisTemplate.opsForZSet().remove(concurrencyKey, permitId);
+    }
+
+    private RateLimitExceededException rateLimited(long retryAfterSeconds) {
+        return new RateLimitExceededException(ErrorCode.RESERVATION_RATE_LIMITED, ErrorCode.RESERVATION_RATE_LIMITED.getMessage(), retryAfterSeconds);
+    }
+}
@@ -0,0 +1,164 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.shard.ShardSplitState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 샤드 분할 상태를 Redis에 저장하는 구현체
+ * 상태 변경과 조회는 각각 하나의 Lua 스크립트로 처리하여, 분할 단계와 식당별 이동 상태를 항상 함께 읽고 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisShardSplitStore implements ShardSplitStore {
+    private static final String SPLIT_KEY = "gotable:shard-split";
+    private static final String MOVING_KEY = "gotable:shard-split:moving";
+    private static final String MOVED_KEY = "gotable:shard-split:moved";
+    private static final List<String> KEYS = List.of(SPLIT_KEY, MOVING_KEY, MOVED_KEY);
+
+    /*
+    * KEYS[1]: 분할 단계(hash: shard, status), KEYS[2]: 이동 중인 식당(hash: 식당 id -> 복사 가능 시각), KEYS[3]: 이동한 식당(set)
+    * ARGV[1]: 식당 id (없으면 모든 식당)
+    * 반환값: shard, status, 이동 중인 식당 수, (식당 id, 복사 가능 시각)..., 이동한 식당 id...
+    * */
+    private static final RedisScript<List> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            local split = redis.call('HMGET', KEYS[1], 'shard', 'status')
+            local result = {split[1] or '', split[2] or 'NONE'}
+            local moving
+            local moved
+
+            if ARGV[1] then
+                local copyableAt = redis.call('HGET', KEYS[2], ARGV[1])
+                moving = copyableAt and {ARGV[1], copyableAt} or {}
+                moved = redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 and {ARGV[1]} or {}
+            else
+                moving = redis.call('HGETALL', KEYS[2])
+                moved = redis.call('SMEMBERS', KEYS[3])
+            end
+
+            table.insert(result, tostring(#moving / 2))
+            for _, value in ipairs(moving) do
+                table.insert(result, value)
+            end
+            for _, value in ipairs(moved) do
+                table.insert(result, value)
+            end
+            return result
+            """, List.class);
+
+    // ARGV[1]: 새 샤드. 반환값: 1 = 시작, 0 = 다른 분할이 진행 중
+    private static final RedisScript<Long> BEGIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') == 'SPLITTING' then
+                return 0
+            end
+
+            redis.call('DEL', KEYS[2], KEYS[3])
+            redis.call('HSET', KEYS[1], 'shard', ARGV[1], 'status', 'SPLITTING')
+            return 1
+            """, Long.class);
+
+    // ARGV[1]: 식당 id, ARGV[2]: 진행 중인 쓰기를 기다리는 시간(ms). 반환값: 복사 가능 시각, -1 = 분할 중이 아니거나 이미 이동한 식당
+    private static final RedisScript<Long> MARK_MOVING_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= 'SPLITTING' or redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then
+                return -1
+            end
+
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('HSETNX', KEYS[2], ARGV[1], now + tonumber(ARGV[2]))
+            return tonumber(redis.call('HGET', KEYS[2], ARGV[1]))
+            """, Long.class);
+
+    // ARGV[1]: 식당 id. 반환값: 0 = 이동 완료, -1 = 이동 중이 아닌 식당, 양수 = 복사 가능 시각까지 남은 시간(ms)
+    private static final RedisScript<Long> MARK_MOVED_SCRIPT = new DefaultRedisScript<>("""
+            local copyableAt = redis.call('HGET', KEYS[2], ARGV[1])
+            if not copyableAt then
+                return -1
+            end
+
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if tonumber(copyableAt) > now then
+                return tonumber(copyableAt) - now
+            end
+
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            return 0
+            """, Long.class);
+
+    // 반환값: 0 = 분할 완료, -1 = 분할 중이 아님, 양수 = 이동 중인 식당 수
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= 'SPLITTING' then
+                return -1
+            end
+
+            local moving = redis.call('HLEN', KEYS[2])
+            if moving > 0 then
+                return moving
+            end
+
+            redis.call('HSET', KEYS[1], 'status', 'FINISHED')
+            redis.call('DEL', KEYS[3])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public ShardSplitState load() {
+        return toState(stringRedisTemplate.execute(LOAD_SCRIPT, KEYS));
+    }
+
+    @Override
+    public ShardSplitState load(long restaurantId) {
+        return toState(stringRedisTemplate.execute(LOAD_SCRIPT, KEYS, String.valueOf(restaurantId)));
+    }
+
+    @Override
+    public boolean begin(String shard) {
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(BEGIN_SCRIPT, KEYS, shard));
+    }
+
+    @Override
+    public long markMoving(long restaurantId, long drainMillis) {
+        return stringRedisTemplate.execute(MARK_MOVING_SCRIPT, KEYS, String.valueOf(restaurantId), String.valueOf(drainMillis));
+    }
+
+    @Override
+    public long markMoved(long restaurantId) {
+        return stringRedisTemplate.execute(MARK_MOVED_SCRIPT, KEYS, String.valueOf(restaurantId));
+    }
+
+    @Override
+    public long finish() {
+        return stringRedisTemplate.execute(FINISH_SCRIPT, KEYS);
+    }
+
+    private ShardSplitState toState(List<?> result) {
+        final String shard = (String) result.get(0);
+        final ShardSplitState.Status status = ShardSplitState.Status.valueOf((String) result.get(1));
+        final int movingCount = Integer.parseInt((String) result.get(2));
+
+        Map<Long, Long> moving = new HashMap<>();
+        for (int i = 0; i < movingCount; i++) {
+            moving.put(Long.parseLong((String) result.get(3 + i * 2)), Long.parseLong((String) result.get(4 + i * 2)));
+        }
+
+        Set<Long> moved = new HashSet<>();
+        for (int i = 3 + movingCount * 2; i < result.size(); i++) {
+            moved.add(Long.parseLong((String) result.get(i)));
+        }
+
+        return new ShardSplitState(shard.isEmpty() ? null : shard, status, moving, moved);
+    }
+}
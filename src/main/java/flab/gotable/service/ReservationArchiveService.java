@@ -0,0 +1,201 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.ReservationPartition;
+import flab.gotable.mapper.ReservationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+* [예약 테이블을 월별 파티션과 이력 테이블로 나눈 이유]
+* 겹침 확인과 예약 현황 조회는 앞으로의 예약과 최근 예약만 사용하지만, reservation에는 지난 예약이 계속 쌓여 버퍼 풀에 올라가야 할 데이터가 늘어납니다.
+* reservation은 reservation_start_at 기준 월별 파티션으로 나누어 조회가 필요한 파티션만 읽도록 하고,
+* 종료된 지 retention-days가 지난 예약은 reservation_history로 배치 단위로 옮겨 reservation에는 최근 예약만 남깁니다.
+* 비워진 지난 파티션은 DELETE 없이 DROP PARTITION으로 제거합니다.
+*
+* REORGANIZE PARTITION은 나누는 파티션의 행을 모두 복사하므로 p_future가 비어 있을 때만 나눕니다.
+* 테이블을 만들 때 현재 달까지 월별 파티션을 만들고, 이후에는 months-ahead만큼 다음 달의 파티션을 미리 만들어 p_future를 비워 둡니다.
+* p_future에 행이 있으면 파티션을 추가하지 않고 경고만 남깁니다. (그 달의 행은 p_future에 남고, 파티션은 운영자가 직접 나눠야 함)
+* 파티션 경계와 보관 기준 시각은 MySQL의 UNIX_TIMESTAMP로 계산하여, reservation_start_at을 저장할 때와 같은 세션 시간대를 사용합니다.
+* 배치는 READ_COMMITTED로 실행하여 INSERT ... SELECT가 reservation에 공유 락을 잡지 않도록 합니다.
+* */
+@Service
+@Slf4j
+public class ReservationArchiveService {
+    private static final String LOCK_KEY = "gotable:reservation:archive:lock";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAX_VALUE = "MAXVALUE";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    // 락을 획득한 노드만 해제 (작업이 락 유지 시간을 넘겨 다른 노드가 다시 획득한 락은 지우지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final long retentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long batchPauseMillis;
+    private final int monthsAhead;
+
+    public ReservationArchiveService(ReservationMapper reservationMapper,
+                                     ShardRouter shardRouter,
+                                     TransactionTemplate readCommittedTransactionTemplate,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     @Value("${reservation.archive.retention-days:90}") long retentionDays,
+                                     @Value("${reservation.archive.batch-size:1000}") int batchSize,
+                                     @Value("${reservation.archive.max-batches:1000}") int maxBatches,
+                                     @Value("${reservation.archive.batch-pause-millis:50}") long batchPauseMillis,
+                                     @Value("${reservation.archive.months-ahead:3}") int monthsAhead) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.readCommittedTransactionTemplate = readCommittedTransactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.batchPauseMillis = batchPauseMillis;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${reservation.archive.cron:0 0 4 * * *}")
+    public void maintain() {
+        // 여러 노드 중 한 노드만 실행
+        final String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            final LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+            shardRouter.forEachShard(() -> {
+                ensurePartitions(YearMonth.now().plusMonths(monthsAhead));
+                long archived = archive(before);
+                dropArchivedPartitions(before);
+
+                log.info("Reservation archive finished: {} rows moved before {}", archived, before);
+                return archived;
+            });
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    // until이 속한 달까지 월별 파티션을 생성 (파티션되지 않은 테이블은 무시)
+    public void ensurePartitions(YearMonth until) {
+        List<ReservationPartition> partitions = reservationMapper.findReservationPartitions();
+
+        if (partitions.isEmpty() || !FUTURE_PARTITION.equals(partitions.get(partitions.size() - 1).getPartitionName())) {
+            log.warn("reservation is not partitioned by month, skip adding partitions");
+            return;
+        }
+
+        // 행이 있는 p_future를 나누면 그 행을 모두 복사하므로 나누지 않는다.
+        if (!reservationMapper.isReservationPartitionEmpty(FUTURE_PARTITION)) {
+            log.warn("{} is not empty, skip adding partitions to avoid copying its rows", FUTURE_PARTITION);
+            return;
+        }
+
+        final Set<String> names = partitions.stream().map(ReservationPartition::getPartitionName).collect(Collectors.toSet());
+        long maxBound = partitions.stream()
+                .map(ReservationPartition::getPartitionDescription)
+                .filter(description -> !MAX_VALUE.equals(description))
+                .mapToLong(Long::parseLong)
+                .max()
+                .orElse(Long.MIN_VALUE);
+
+        for (YearMonth month = YearMonth.now(); !month.isAfter(until); month = month.plusMonths(1)) {
+            final String name = month.format(PARTITION_NAME_FORMAT);
+            final long lessThan = reservationMapper.findUnixTimestamp(month.plusMonths(1).atDay(1).atStartOfDay());
+
+            // 이미 존재하거나 기존 파티션 범위에 포함된 달
+            if (names.contains(name) || lessThan <= maxBound) {
+                continue;
+            }
+
+            reservationMapper.addReservationPartition(FUTURE_PARTITION, name, lessThan);
+            maxBound = lessThan;
+            log.info("Reservation partition added: {}", name);
+        }
+    }
+
+    // 종료 시간이 before 이전인 예약을 이력 테이블로 이동하고 이동한 행 수를 반환
+    public long archive(LocalDateTime before) {
+        long archived = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = readCommittedTransactionTemplate.execute(status -> {
+                List<Long> ids = reservationMapper.findArchivableReservationIds(before, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                reservationMapper.copyReservationsToHistory(ids, before);
+                return reservationMapper.deleteArchivedReservations(ids, before);
+            });
+
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+
+            pause();
+        }
+
+        // 지난 시간의 잔여 좌석은 더 이상 차감되지 않으므로 삭제
+        while (reservationMapper.deleteExpiredSlotCapacities(before, batchSize) == batchSize) {
+            pause();
+        }
+
+        return archived;
+    }
+
+    // 경계가 before 이전이고 비어 있는 지난 파티션을 제거
+    public void dropArchivedPartitions(LocalDateTime before) {
+        final long beforeEpochSecond = reservationMapper.findUnixTimestamp(before);
+
+        for (ReservationPartition partition : reservationMapper.findReservationPartitions()) {
+            if (MAX_VALUE.equals(partition.getPartitionDescription())
+                    || Long.parseLong(partition.getPartitionDescription()) > beforeEpochSecond) {
+                continue;
+            }
+
+            if (reservationMapper.isReservationPartitionEmpty(partition.getPartitionName())) {
+                reservationMapper.dropReservationPartition(partition.getPartitionName());
+                log.info("Reservation partition dropped: {}", partition.getPartitionName());
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
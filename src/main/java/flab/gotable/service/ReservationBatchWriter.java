@@ -0,0 +1,165 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.domain.event.ReservationEventType;
+import flab.gotable.dto.ReservationSaveResult;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.RestaurantMovingException;
+import flab.gotable.mapper.ReservationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+* [예약을 묶어서 저장하는 이유]
+* 예약을 한 건씩 INSERT하고 커밋하면 건마다 네트워크 왕복과 커밋 비용이 발생하여, 가져오기나 대기열 소비처럼 많은 예약을 저장할 때 처리량이 낮습니다.
+* 예약 id는 저장하기 전에 발급하므로 generated key 없이 여러 건을 한 번에 저장할 수 있습니다.
+* - 이미 시작된 트랜잭션 안에서 몇 건을 함께 저장할 때는 saveReservations (다중 행 INSERT)
+* - 외부 시스템에서 많은 예약을 가져올 때는 importAll (ExecutorType.BATCH + rewriteBatchedStatements)
+*   BATCH 세션은 이미 SIMPLE 세션을 사용 중인 트랜잭션에 참여할 수 없으므로 importAll은 트랜잭션 밖에서 호출해야 합니다.
+*
+* importAll은 샤드별로 chunk-size 건씩 한 트랜잭션에서 저장하고, 실패한 chunk는 한 건씩 다시 저장하여 예약마다 결과를 반환합니다.
+* importAll은 가져오기 전용 경로입니다. 식당 잠금, 영업 시간, 겹침을 확인하지 않으므로 호출하는 쪽에서 검증을 마친 예약만 전달해야 하며,
+* 회원의 예약 요청은 ReservationService를 통해 저장해야 합니다.
+* slot_capacity의 잔여 좌석도 차감하지 않으므로 좌석 수 기반 식당의 예약은 저장하지 않고 실패로 반환합니다.
+* */
+@Service
+@Slf4j
+public class ReservationBatchWriter {
+
+    private final ReservationMapper reservationMapper;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final IdGenerator idGenerator;
+    private final ShardRouter shardRouter;
+    private final ReservationIntervalIndex reservationIntervalIndex;
+    private final ReservationBusinessService reservationBusinessService;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+
+    private final int chunkSize;
+
+    public ReservationBatchWriter(ReservationMapper reservationMapper,
+                                  SqlSessionFactory sqlSessionFactory,
+                                  IdGenerator idGenerator,
+                                  ShardRouter shardRouter,
+                                  ReservationIntervalIndex reservationIntervalIndex,
+                                  ReservationBusinessService reservationBusinessService,
+                                  TransactionTemplate readCommittedTransactionTemplate,
+                                  @Value("${reservation.batch.chunk-size:1000}") int chunkSize) {
+        this.reservationMapper = reservationMapper;
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.idGenerator = idGenerator;
+        this.shardRouter = shardRouter;
+        this.reservationIntervalIndex = reservationIntervalIndex;
+        this.reservationBusinessService = reservationBusinessService;
+        this.readCommittedTransactionTemplate = readCommittedTransactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 예약과 outbox 이벤트를 다중 행 INSERT로 저장합니다. interval index에는 커밋 후에 반영됩니다.
+     */
+    public void saveReservations(List<Reservation> reservations) {
+        reservations.forEach(reservation -> reservation.setId(idGenerator.nextId()));
+
+        reservationMapper.saveReservations(reservations);
+        reservationMapper.saveOutboxEvents(reservations.stream()
+                .map(reservation -> ReservationOutboxEvent.of(ReservationEventType.CREATED, reservation))
+                .toList());
+
+        reservations.forEach(reservationIntervalIndex::add);
+    }
+
+    /**
+     * 검증을 마친 예약을 가져오기 위해 묶어서 저장하고, 전달된 순서대로 예약마다 저장 결과를 반환합니다.
+     * 겹침과 잔여 좌석을 확인하지 않으므로 회원의 예약 요청을 저장하는 데 사용하면 안 됩니다.
+     */
+    public List<ReservationSaveResult> importAll(List<Reservation> reservations) {
+        Map<Reservation, ReservationSaveResult> results = new IdentityHashMap<>();
+        Map<Long, Optional<String>> writeShards = new HashMap<>();
+        Map<String, List<Reservation>> reservationsByShard = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            reservation.setId(idGenerator.nextId());
+
+            if (reservationBusinessService.isCapacityBased(reservation.getRestaurantId())) {
+                results.put(reservation, ReservationSaveResult.failed(reservation, ErrorCode.CAPACITY_RESERVATION_NOT_IMPORTABLE.getMessage()));
+                continue;
+            }
+
+            try {
+                // 샤딩하지 않는 경우 null이므로 Optional로 감싸서 식당마다 한 번만 조회
+                Optional<String> shard = writeShards.computeIfAbsent(reservation.getRestaurantId(),
+                        restaurantId -> Optional.ofNullable(shardRouter.writeShardFor(restaurantId)));
+                reservationsByShard.computeIfAbsent(shard.orElse(null), key -> new ArrayList<>()).add(reservation);
+            } catch (RestaurantMovingException e) {
+                results.put(reservation, ReservationSaveResult.failed(reservation, e.getMessage()));
+            }
+        }
+
+        for (List<Reservation> shardReservations : reservationsByShard.values()) {
+            for (int from = 0; from < shardReservations.size(); from += chunkSize) {
+                List<Reservation> chunk = shardReservations.subList(from, Math.min(from + chunkSize, shardReservations.size()));
+                saveChunk(chunk).forEach(result -> results.put(result.reservation(), result.result()));
+            }
+        }
+
+        return reservations.stream().map(results::get).toList();
+    }
+
+    private List<ChunkResult> saveChunk(List<Reservation> chunk) {
+        try {
+            // 같은 샤드의 예약이므로 첫 예약의 식당으로 샤드를 지정
+            shardRouter.routeWrite(chunk.get(0).getRestaurantId(), () -> readCommittedTransactionTemplate.execute(status -> {
+                ReservationMapper batchMapper = batchSqlSessionTemplate.getMapper(ReservationMapper.class);
+
+                // 같은 statement가 연속되어야 하나의 JDBC batch로 묶인다.
+                chunk.forEach(batchMapper::saveReservation);
+                chunk.forEach(reservation -> batchMapper.saveOutboxEvent(ReservationOutboxEvent.of(ReservationEventType.CREATED, reservation)));
+                batchSqlSessionTemplate.flushStatements();
+
+                chunk.forEach(reservationIntervalIndex::add);
+                return null;
+            }));
+        } catch (DataAccessException | RestaurantMovingException e) {
+            // rewrite된 batch는 chunk 전체의 성공/실패만 알 수 있으므로 한 건씩 다시 저장하여 실패한 예약을 찾는다.
+            log.warn("Failed to save {} reservations in batch, retrying one by one", chunk.size(), e);
+
+            return chunk.stream().map(reservation -> new ChunkResult(reservation, saveOne(reservation))).toList();
+        }
+
+        return chunk.stream().map(reservation -> new ChunkResult(reservation, ReservationSaveResult.saved(reservation))).toList();
+    }
+
+    private ReservationSaveResult saveOne(Reservation reservation) {
+        try {
+            shardRouter.routeWrite(reservation.getRestaurantId(), () -> readCommittedTransactionTemplate.execute(status -> {
+                reservationMapper.saveReservation(reservation);
+                reservationMapper.saveOutboxEvent(ReservationOutboxEvent.of(ReservationEventType.CREATED, reservation));
+                reservationIntervalIndex.add(reservation);
+                return null;
+            }));
+
+            return ReservationSaveResult.saved(reservation);
+        } catch (DataAccessException e) {
+            return ReservationSaveResult.failed(reservation, e.getMostSpecificCause().getMessage());
+        } catch (RestaurantMovingException e) {
+            return ReservationSaveResult.failed(reservation, e.getMessage());
+        }
+    }
+
+    private record ChunkResult(Reservation reservation, ReservationSaveResult result) {
+    }
+}
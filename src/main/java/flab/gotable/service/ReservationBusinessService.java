@@ -1,33 +1,137 @@
 package flab.gotable.service;
 
+import flab.gotable.domain.entity.DailySchedule;
 import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.domain.entity.SpecificSchedule;
+import flab.gotable.domain.event.ReservationEventType;
 import flab.gotable.dto.request.ReservationRequestDto;
 import flab.gotable.dto.response.ReservationResponseDto;
 import flab.gotable.exception.DuplicatedReservationException;
 import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.InvalidReservationTimeException;
 import flab.gotable.exception.ScheduleNotFoundException;
 import flab.gotable.mapper.ReservationMapper;
+import flab.gotable.mapper.StoreMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationBusinessService {
 
     private final ReservationMapper reservationMapper;
+    private final StoreMapper storeMapper;
+    private final ReservationIntervalIndex reservationIntervalIndex;
+    private final IdGenerator idGenerator;
+
+    // false이면 interval index만으로 겹침을 확인 (예약을 저장하는 노드가 하나인 경우)
+    @Value("${reservation.interval-index.verify-with-database:true}")
+    private boolean verifyWithDatabase;
+
+    // 좌석 수 기반으로 예약을 받는 식당별 시간당 테이블 수 (설정되지 않은 식당은 시간이 겹치는 예약을 허용하지 않음)
+    @Value("#{${reservation.capacity.tables-per-slot:{:}}}")
+    private Map<Long, Long> tablesPerSlot;
 
     public ReservationResponseDto executePessimisticLockReservation(ReservationRequestDto reservationRequestDto) {
         return executeReservation(reservationRequestDto);
     }
 
+    // 락 세션의 커넥션이 끊겨 락을 잃은 경우 다른 요청과 겹쳐 저장될 수 있으므로 커밋 전에 확인하여 롤백
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public ReservationResponseDto executeNamedLockReservation(ReservationRequestDto reservationRequestDto) {
-        return executeReservation(reservationRequestDto);
+    public ReservationResponseDto executeNamedLockReservation(ReservationRequestDto reservationRequestDto, NamedLock lock) {
+        final ReservationResponseDto reservationResponseDto = executeReservation(reservationRequestDto);
+        lock.verify();
+
+        return reservationResponseDto;
+    }
+
+    public boolean isCapacityBased(long restaurantId) {
+        return tablesPerSlot.containsKey(restaurantId);
+    }
+
+    // 좌석 수 기반 식당의 예약 시간별 최대 좌석 수
+    public long getSlotCapacity(long restaurantId) {
+        return storeMapper.getMaxMemberCount(restaurantId) * tablesPerSlot.get(restaurantId);
+    }
+
+    /*
+    * [좌석 수 기반 예약]
+    * 시간이 겹치는 예약을 모두 충돌로 처리하면 식당에 테이블이 하나뿐인 것과 같아 큰 식당은 한 시간에 한 팀만 예약할 수 있습니다.
+    * 좌석 수 기반 식당은 예약 시간마다 최대 인원 수 × 테이블 수만큼의 잔여 좌석을 slot_capacity에 두고,
+    * 조건부 UPDATE 한 번으로 잔여 좌석을 차감하므로 식당 락이나 COUNT(*) 조회 없이 같은 시간에 여러 예약을 동시에 처리할 수 있습니다.
+    * 잔여 좌석은 영업 스케줄의 예약 단위 시간(split_time)마다 두며, 예약 시간은 이 단위에 맞아야 합니다.
+    * 여러 단위에 걸친 예약은 걸쳐 있는 모든 단위의 잔여 좌석을 시간 순서대로 차감하므로, 겹치는 예약이 서로 다른 행만 차감하여 좌석을 초과하지 않습니다.
+    * INSERT ... SELECT가 reservation을 잠그지 않도록 READ_COMMITTED로 실행합니다.
+    * */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ReservationResponseDto executeCapacityReservation(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
+        final LocalDateTime reservationStartTime = reservationRequestDto.getReservationStartTime();
+        final LocalDateTime reservationEndTime = reservationRequestDto.getReservationEndTime();
+
+        // 예약하려는 시간이 일반 또는 영업 스케줄 중에 존재하지 않는 경우
+        if (!isExistSchedule(restaurantId, reservationStartTime, reservationEndTime)) {
+            throw new ScheduleNotFoundException(ErrorCode.RESERVATION_TIME_NOT_FOUND, ErrorCode.RESERVATION_TIME_NOT_FOUND.getMessage());
+        }
+
+        final List<Slot> slots = findSlots(restaurantId, reservationStartTime, reservationEndTime);
+
+        // 예약 시간이 예약 단위 시간에 맞지 않는 경우
+        if (slots.isEmpty()) {
+            throw new InvalidReservationTimeException(ErrorCode.UNALIGNED_RESERVATION_TIME, ErrorCode.UNALIGNED_RESERVATION_TIME.getMessage());
+        }
+
+        final long capacity = getSlotCapacity(restaurantId);
+        for (Slot slot : slots) {
+            reservationMapper.createSlotCapacity(restaurantId, slot.startAt(), slot.endAt(), capacity);
+
+            // 잔여 좌석이 예약 인원 수보다 적은 경우 (앞에서 차감한 단위는 롤백된다)
+            if (reservationMapper.decreaseSlotRemaining(restaurantId, slot.startAt(), slot.endAt(), reservationRequestDto.getMemberCount()) == 0) {
+                throw new DuplicatedReservationException(ErrorCode.SLOT_CAPACITY_EXCEEDED, ErrorCode.SLOT_CAPACITY_EXCEEDED.getMessage());
+            }
+        }
+
+        Reservation reservation = ReservationRequestDto.toEntity(reservationRequestDto);
+        saveReservation(reservation);
+
+        return new ReservationResponseDto(reservation);
+    }
+
+    // 락 없이 예약 가능 여부만 확인 (선점 시 사용)
+    public boolean hasAvailability(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
+
+        if (!isCapacityBased(restaurantId)) {
+            return isReservationAvailable(restaurantId, reservationRequestDto.getReservationStartTime(), reservationRequestDto.getReservationEndTime());
+        }
+
+        final List<Slot> slots = findSlots(restaurantId, reservationRequestDto.getReservationStartTime(), reservationRequestDto.getReservationEndTime());
+        if (slots.isEmpty()) {
+            return false;
+        }
+
+        for (Slot slot : slots) {
+            Long remaining = reservationMapper.getSlotRemaining(restaurantId, slot.startAt(), slot.endAt());
+            if (remaining != null && remaining < reservationRequestDto.getMemberCount()) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     private ReservationResponseDto executeReservation(ReservationRequestDto reservationRequestDto) {
@@ -46,13 +150,27 @@ public class ReservationBusinessService {
         }
 
         Reservation reservation = ReservationRequestDto.toEntity(reservationRequestDto);
-        reservationMapper.saveReservation(reservation);
+        saveReservation(reservation);
 
         return new ReservationResponseDto(reservation);
     }
 
+    // 예약과 같은 트랜잭션에서 outbox에 이벤트를 기록하여 예약이 커밋된 경우에만 이벤트가 전달되도록 한다.
+    // 좌석 수 기반 식당의 예약도 index에 반영하여 겹침 기반으로 바뀌더라도 index가 DB와 어긋나지 않도록 한다.
+    private void saveReservation(Reservation reservation) {
+        reservation.setId(idGenerator.nextId());
+        reservationMapper.saveReservation(reservation);
+        reservationMapper.saveOutboxEvent(ReservationOutboxEvent.of(ReservationEventType.CREATED, reservation));
+        reservationIntervalIndex.add(reservation);
+    }
+
     private boolean isReservationAvailable(long restaurantId, LocalDateTime reservationStartTime, LocalDateTime reservationEndTime) {
-        return !reservationMapper.isDuplicatedReservation(restaurantId, reservationStartTime, reservationEndTime);
+        // index에서 찾은 겹침은 항상 유효하므로 DB를 조회하지 않는다.
+        if (reservationIntervalIndex.overlaps(restaurantId, reservationStartTime, reservationEndTime)) {
+            return false;
+        }
+
+        return !verifyWithDatabase || !reservationMapper.isDuplicatedReservation(restaurantId, reservationStartTime, reservationEndTime);
     }
 
     private boolean isExistSchedule(long restaurantId, LocalDateTime reservationStartTime, LocalDateTime reservationEndTime) {
@@ -65,4 +183,53 @@ public class ReservationBusinessService {
 
         return isExistDailySchedule || isExistSpecificSchedule;
     }
+
+    // 예약 시간이 걸쳐 있는 예약 단위 시간 목록 (예약 시간이 단위에 맞지 않으면 빈 목록)
+    private List<Slot> findSlots(long restaurantId, LocalDateTime reservationStartTime, LocalDateTime reservationEndTime) {
+        final LocalDate date = reservationStartTime.toLocalDate();
+
+        // 특수 영업 스케줄이 있는 날짜는 일반 영업 스케줄을 사용하지 않는다.
+        final List<SpecificSchedule> specificSchedules = storeMapper.findSpecificScheduleByStoreId(restaurantId, date, date);
+        final LocalTime openTime;
+        final LocalTime closeTime;
+        final long splitMinutes;
+
+        if (!specificSchedules.isEmpty()) {
+            openTime = specificSchedules.get(0).getOpenTime();
+            closeTime = specificSchedules.get(0).getCloseTime();
+            splitMinutes = specificSchedules.get(0).getSplitTime();
+        } else {
+            DailySchedule dailySchedule = storeMapper.findDailyScheduleByStoreId(restaurantId).stream()
+                    .filter(schedule -> schedule.getDay() == date.getDayOfWeek())
+                    .findFirst()
+                    .orElse(null);
+            if (dailySchedule == null) {
+                return List.of();
+            }
+
+            openTime = dailySchedule.getOpenTime();
+            closeTime = dailySchedule.getCloseTime();
+            splitMinutes = dailySchedule.getSplitTime();
+        }
+
+        final long splitSeconds = TimeUnit.MINUTES.toSeconds(splitMinutes);
+        final long offsetSeconds = Duration.between(date.atTime(openTime), reservationStartTime).toSeconds();
+        final long lengthSeconds = Duration.between(reservationStartTime, reservationEndTime).toSeconds();
+
+        if (splitSeconds <= 0 || offsetSeconds < 0 || offsetSeconds % splitSeconds != 0
+                || lengthSeconds <= 0 || lengthSeconds % splitSeconds != 0
+                || reservationEndTime.isAfter(date.atTime(closeTime))) {
+            return List.of();
+        }
+
+        final List<Slot> slots = new ArrayList<>();
+        for (LocalDateTime slotStartAt = reservationStartTime; slotStartAt.isBefore(reservationEndTime); slotStartAt = slotStartAt.plusMinutes(splitMinutes)) {
+            slots.add(new Slot(slotStartAt, slotStartAt.plusMinutes(splitMinutes)));
+        }
+
+        return slots;
+    }
+
+    private record Slot(LocalDateTime startAt, LocalDateTime endAt) {
+    }
 }
@@ -0,0 +1,121 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.dto.ExportFormat;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.InvalidReservationTimeException;
+import flab.gotable.exception.ReservationExportException;
+import flab.gotable.mapper.ReservationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+
+/*
+* [예약 내보내기를 Cursor로 스트리밍하는 이유]
+* 점주가 몇 달치 예약을 내보내는 경우 List<Reservation>으로 조회하면 모든 행이 힙에 올라가고, 예약을 처리하는 노드에서 GC 정지나 OOM이 발생할 수 있습니다.
+* Cursor로 한 행씩 읽어 바로 응답에 쓰므로 내보내는 행 수와 관계없이 사용하는 메모리는 버퍼 크기로 일정합니다.
+* 클라이언트가 느리게 읽으면 소켓 쓰기가 블로킹되고, 그동안 다음 행도 읽지 않으므로 DB에서 읽는 속도가 클라이언트가 받는 속도를 넘지 않습니다.
+* 내보내기는 스트리밍 동안 DB 커넥션을 점유하므로 동시 실행 수를 제한합니다.
+* */
+@Service
+@Slf4j
+public class ReservationExportService {
+    private static final String CSV_HEADER = "reservationId,restaurantId,memberSeq,reservationStartTime,reservationEndTime,memberCount";
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    private final ReservationMapper reservationMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ShardRouter shardRouter;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final int flushRows;
+
+    public ReservationExportService(ReservationMapper reservationMapper,
+                                    TransactionTemplate readOnlyTransactionTemplate,
+                                    ShardRouter shardRouter,
+                                    ObjectMapper objectMapper,
+                                    @Value("${reservation.export.max-concurrent:4}") int maxConcurrent,
+                                    @Value("${reservation.export.flush-rows:500}") int flushRows) {
+        this.reservationMapper = reservationMapper;
+        this.readOnlyTransactionTemplate = readOnlyTransactionTemplate;
+        this.shardRouter = shardRouter;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+        this.flushRows = flushRows;
+    }
+
+    public StreamingResponseBody export(long restaurantId, LocalDateTime from, LocalDateTime to, ExportFormat format) {
+        // 조회 종료 시간이 조회 시작 시간보다 앞서거나 동일한 경우
+        if (!to.isAfter(from)) {
+            throw new InvalidReservationTimeException(ErrorCode.INVALID_RESERVATION_TIME, ErrorCode.INVALID_RESERVATION_TIME.getMessage());
+        }
+
+        // 응답을 시작하기 전에 거절해야 클라이언트가 오류 응답을 받을 수 있다.
+        if (!permits.tryAcquire()) {
+            throw new ReservationExportException(ErrorCode.RESERVATION_EXPORT_BUSY, ErrorCode.RESERVATION_EXPORT_BUSY.getMessage());
+        }
+
+        return outputStream -> {
+            try {
+                shardRouter.route(restaurantId, () -> readOnlyTransactionTemplate.execute(status -> write(restaurantId, from, to, format, outputStream)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private long write(long restaurantId, LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream outputStream) {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        try (Cursor<Reservation> cursor = reservationMapper.findReservationsForExport(restaurantId, from, to)) {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            for (Reservation reservation : cursor) {
+                writeRow(writer, new ReservationResponseDto(reservation), format);
+
+                // 버퍼가 찰 때까지 기다리지 않고 주기적으로 클라이언트에 전달
+                if (++rows % flushRows == 0) {
+                    writer.flush();
+                }
+            }
+
+            writer.flush();
+            return rows;
+        } catch (IOException e) {
+            log.warn("Reservation export aborted: restaurant {}, {} rows written", restaurantId, rows);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(Writer writer, ReservationResponseDto reservation, ExportFormat format) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(reservation));
+        } else {
+            writer.write(reservation.getReservationId() + "," + reservation.getRestaurantId() + "," + reservation.getMemberSeq() + ","
+                    + reservation.getReservationStartTime() + "," + reservation.getReservationEndTime() + "," + reservation.getMemberCount());
+        }
+
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,221 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationHoldResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.ReservationHoldException;
+import flab.gotable.utils.TimingWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+* [예약 시간 선점(hold)을 도입한 이유]
+* 사용자가 식당 상세 화면에서 시간을 고른 뒤 확정하기까지 시간이 걸리는 동안 다른 사용자가 같은 시간을 예약할 수 있어, 확정 시점에야 실패를 알게 됩니다.
+* 선점은 Redis에 제한 시간(TTL) 동안만 시간을 점유하므로 경합에서 진 사용자는 선점 시점에 바로 실패를 알 수 있고,
+* 락을 잡고 DB에 저장하는 비싼 트랜잭션은 실제로 확정하는 사용자에게만 실행됩니다.
+* 만료된 선점은 DB를 조회하지 않고 노드의 timing wheel이 만료 시각에 맞춰 Redis에서 제거합니다.
+* 선점을 만든 노드가 종료되더라도 선점/조회 시 만료 시각(score)이 지난 항목은 무시하고 제거하므로 시간이 영구히 점유되지 않습니다.
+* 자정을 넘기는 선점은 걸쳐 있는 모든 날짜의 선점 목록에 등록하여 다음 날 시작하는 선점과도 겹침을 확인합니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationHoldService {
+    private static final String KEY_PREFIX = "gotable:reservation:hold:";
+
+    /*
+    * KEYS[1]: 선점 정보, KEYS[2..n]: 선점 시간이 걸쳐 있는 식당/날짜별 선점 목록(sorted set, member = 선점id:시작분:종료분, score = 만료 시각(ms))
+    * ARGV: 선점 member, 시작(epoch 분), 종료(epoch 분), 선점 정보(JSON), 선점 유지 시간(ms)
+    * 반환값: 만료 시각(ms) = 선점 성공, 0 = 다른 선점과 시간이 겹침
+    * */
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local startMinute = tonumber(ARGV[2])
+            local endMinute = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[5])
+
+            for i = 2, #KEYS do
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', now)
+                for _, member in ipairs(redis.call('ZRANGE', KEYS[i], 0, -1)) do
+                    local heldStart, heldEnd = string.match(member, ':(%d+):(%d+)$')
+                    if tonumber(heldStart) < endMinute and tonumber(heldEnd) > startMinute then
+                        return 0
+                    end
+                end
+            end
+
+            local expireAt = now + ttl
+            for i = 2, #KEYS do
+                redis.call('ZADD', KEYS[i], expireAt, ARGV[1])
+                redis.call('PEXPIRE', KEYS[i], ttl)
+            end
+            redis.call('SET', KEYS[1], ARGV[4], 'PX', ttl)
+            return expireAt
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final TimingWheel<HeldSlot> expiryWheel = new TimingWheel<>(1000, 512, System.currentTimeMillis());
+
+    @Value("${reservation.hold.ttl-seconds:300}")
+    private long holdTtlSeconds;
+
+    /**
+     * 예약 시간을 선점합니다. 다른 사용자가 선점 중인 시간과 겹치면 ReservationHoldException을 발생시킵니다.
+     */
+    public ReservationHoldResponseDto hold(ReservationRequestDto reservationRequestDto) {
+        final String holdId = UUID.randomUUID().toString();
+        reservationRequestDto.setHoldId(holdId);
+
+        final HeldSlot slot = HeldSlot.of(reservationRequestDto);
+        final String value;
+        try {
+            value = objectMapper.writeValueAsString(reservationRequestDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final List<String> keys = new ArrayList<>();
+        keys.add(holdKey(holdId));
+        keys.addAll(slot.slotsKeys());
+
+        Long expireAtMillis = stringRedisTemplate.execute(HOLD_SCRIPT, keys,
+                slot.member(), String.valueOf(slot.startMinute()), String.valueOf(slot.endMinute()), value,
+                String.valueOf(holdTtlSeconds * 1000));
+
+        if (expireAtMillis == null || expireAtMillis == 0) {
+            throw new ReservationHoldException(ErrorCode.SLOT_ALREADY_HELD, ErrorCode.SLOT_ALREADY_HELD.getMessage());
+        }
+
+        expiryWheel.schedule(slot, expireAtMillis);
+
+        return new ReservationHoldResponseDto(reservationRequestDto,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expireAtMillis), ZoneId.systemDefault()));
+    }
+
+    /**
+     * 선점 정보를 예약 요청으로 반환합니다. 선점이 없거나, 만료되었거나, 다른 회원의 선점이면 ReservationHoldException을 발생시킵니다.
+     */
+    public ReservationRequestDto getHold(String holdId, long memberSeq) {
+        String value = stringRedisTemplate.opsForValue().get(holdKey(holdId));
+        if (value == null) {
+            throw new ReservationHoldException(ErrorCode.RESERVATION_HOLD_NOT_FOUND, ErrorCode.RESERVATION_HOLD_NOT_FOUND.getMessage());
+        }
+
+        final ReservationRequestDto reservationRequestDto;
+        try {
+            reservationRequestDto = objectMapper.readValue(value, ReservationRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (reservationRequestDto.getMemberSeq() != memberSeq) {
+            throw new ReservationHoldException(ErrorCode.RESERVATION_HOLD_NOT_FOUND, ErrorCode.RESERVATION_HOLD_NOT_FOUND.getMessage());
+        }
+
+        // 선점 id는 JSON에 저장하지 않으므로 소유자 확인이 끝난 뒤 키에서 복원
+        reservationRequestDto.setHoldId(holdId);
+
+        return reservationRequestDto;
+    }
+
+    /**
+     * 예약하려는 시간이 다른 사용자의 선점과 겹치면 ReservationHoldException을 발생시킵니다.
+     * 요청이 자신의 선점을 확정하는 경우 해당 선점은 제외합니다.
+     */
+    public void validateNotHeldByOthers(ReservationRequestDto reservationRequestDto) {
+        final HeldSlot slot = HeldSlot.of(reservationRequestDto);
+        final String ownHoldPrefix = reservationRequestDto.getHoldId() == null ? null : reservationRequestDto.getHoldId() + ":";
+
+        final long now = System.currentTimeMillis();
+
+        for (String slotsKey : slot.slotsKeys()) {
+            Set<String> holds = stringRedisTemplate.opsForZSet().rangeByScore(slotsKey, now, Double.POSITIVE_INFINITY);
+            if (holds == null) {
+                continue;
+            }
+
+            for (String member : holds) {
+                if (ownHoldPrefix != null && member.startsWith(ownHoldPrefix)) {
+                    continue;
+                }
+
+                final String[] parts = member.split(":");
+                final long heldStart = Long.parseLong(parts[1]);
+                final long heldEnd = Long.parseLong(parts[2]);
+
+                if (heldStart < slot.endMinute() && heldEnd > slot.startMinute()) {
+                    throw new ReservationHoldException(ErrorCode.SLOT_ALREADY_HELD, ErrorCode.SLOT_ALREADY_HELD.getMessage());
+                }
+            }
+        }
+    }
+
+    // 확정된 선점은 만료를 기다리지 않고 바로 해제
+    public void release(ReservationRequestDto reservationRequestDto) {
+        if (reservationRequestDto.getHoldId() == null) {
+            return;
+        }
+
+        final HeldSlot slot = HeldSlot.of(reservationRequestDto);
+        slot.slotsKeys().forEach(slotsKey -> stringRedisTemplate.opsForZSet().remove(slotsKey, slot.member()));
+        stringRedisTemplate.delete(holdKey(reservationRequestDto.getHoldId()));
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void releaseExpiredHolds() {
+        for (HeldSlot slot : expiryWheel.advance(System.currentTimeMillis())) {
+            try {
+                // 선점 정보는 TTL로 삭제되므로 식당/날짜별 선점 목록에서만 제거
+                slot.slotsKeys().forEach(slotsKey -> stringRedisTemplate.opsForZSet().remove(slotsKey, slot.member()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to release expired hold: {}", slot.member(), e);
+            }
+        }
+    }
+
+    private static String holdKey(String holdId) {
+        return KEY_PREFIX + holdId;
+    }
+
+    private record HeldSlot(List<String> slotsKeys, String member, long startMinute, long endMinute) {
+        static HeldSlot of(ReservationRequestDto reservationRequestDto) {
+            final LocalDateTime startTime = reservationRequestDto.getReservationStartTime();
+            final LocalDateTime endTime = reservationRequestDto.getReservationEndTime();
+            final long startMinute = startTime.toEpochSecond(ZoneOffset.UTC) / 60;
+            final long endMinute = endTime.toEpochSecond(ZoneOffset.UTC) / 60;
+
+            // 선점 시간이 걸쳐 있는 모든 날짜 (자정에 끝나는 선점은 다음 날을 포함하지 않음)
+            final List<String> slotsKeys = new ArrayList<>();
+            final LocalDate lastDate = endTime.minusNanos(1).toLocalDate();
+            for (LocalDate date = startTime.toLocalDate(); !date.isAfter(lastDate); date = date.plusDays(1)) {
+                slotsKeys.add(KEY_PREFIX + reservationRequestDto.getRestaurantId() + ":" + date);
+            }
+            if (slotsKeys.isEmpty()) {
+                slotsKeys.add(KEY_PREFIX + reservationRequestDto.getRestaurantId() + ":" + startTime.toLocalDate());
+            }
+
+            return new HeldSlot(slotsKeys, reservationRequestDto.getHoldId() + ":" + startMinute + ":" + endMinute, startMinute, endMinute);
+        }
+    }
+}
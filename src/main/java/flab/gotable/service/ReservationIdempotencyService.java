@@ -0,0 +1,218 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.IdempotencyException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+* [예약 요청에 Idempotency-Key를 도입한 이유]
+* 네트워크가 불안정한 환경에서 타임아웃 후 재시도된 요청은 락 획득과 검증을 다시 거친 뒤 본인의 예약 때문에 DuplicatedReservationException으로 실패합니다.
+* 동일한 Idempotency-Key로 들어온 요청은 락을 획득하지 않고 Redis에 저장된 첫 번째 요청의 결과를 그대로 반환합니다.
+* 첫 번째 요청이 아직 처리 중이라면 같은 노드에서는 결과를 기다리고, 다른 노드에서는 결과가 저장될 때까지 Redis를 조회합니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationIdempotencyService {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "gotable:idempotency:reservation:";
+    private static final String IN_PROGRESS_SUFFIX = ":lock";
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final long MAX_POLL_INTERVAL_MILLIS = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 같은 노드에서 처리 중인 요청 (재시도 요청은 Redis 조회 없이 결과를 기다린다)
+    private final Map<String, CompletableFuture<ReservationResponseDto>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Value("${reservation.idempotency.result-ttl-seconds:86400}")
+    private long resultTtlSeconds;
+
+    @Value("${reservation.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    @Value("${reservation.idempotency.wait-timeout-millis:15000}")
+    private long waitTimeoutMillis;
+
+    public ReservationResponseDto execute(String idempotencyKey, ReservationRequestDto reservationRequestDto, Supplier<ReservationResponseDto> reservation) {
+        validateIdempotencyKey(idempotencyKey);
+
+        final String key = KEY_PREFIX + reservationRequestDto.getMemberSeq() + ":" + idempotencyKey;
+        final String fingerprint = fingerprint(reservationRequestDto);
+
+        CompletableFuture<ReservationResponseDto> created = new CompletableFuture<>();
+        CompletableFuture<ReservationResponseDto> existing = inFlightRequests.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            ReservationResponseDto result = executeOnce(key, fingerprint, reservation);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, created);
+        }
+    }
+
+    private ReservationResponseDto executeOnce(String key, String fingerprint, Supplier<ReservationResponseDto> reservation) {
+        // 이미 처리된 요청
+        IdempotentResult stored = findResult(key);
+        if (stored != null) {
+            return stored.verify(fingerprint);
+        }
+
+        // 다른 노드에서 처리 중인 요청
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(key + IN_PROGRESS_SUFFIX, fingerprint, Duration.ofSeconds(inProgressTtlSeconds));
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return waitForResult(key, fingerprint);
+        }
+
+        try {
+            // 락 획득 직전에 다른 요청이 결과를 저장했을 수 있으므로 다시 확인
+            stored = findResult(key);
+            if (stored != null) {
+                return stored.verify(fingerprint);
+            }
+
+            ReservationResponseDto result = reservation.get();
+            saveResult(key, new IdempotentResult(fingerprint, result));
+
+            return result;
+        } finally {
+            stringRedisTemplate.delete(key + IN_PROGRESS_SUFFIX);
+        }
+    }
+
+    private ReservationResponseDto waitForResult(String key, String fingerprint) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        long pollIntervalMillis = 20;
+
+        while (System.nanoTime() < deadline) {
+            sleep(pollIntervalMillis);
+            pollIntervalMillis = Math.min(pollIntervalMillis * 2, MAX_POLL_INTERVAL_MILLIS);
+
+            IdempotentResult stored = findResult(key);
+            if (stored != null) {
+                return stored.verify(fingerprint);
+            }
+
+            // 첫 번째 요청이 실패하여 처리 중 표시가 사라진 경우 재시도할 수 있도록 알린다.
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + IN_PROGRESS_SUFFIX))) {
+                break;
+            }
+        }
+
+        throw new IdempotencyException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+    }
+
+    private ReservationResponseDto await(CompletableFuture<ReservationResponseDto> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+        }
+    }
+
+    @Nullable
+    private IdempotentResult findResult(String key) {
+        String value = stringRedisTemplate.opsForValue().get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, IdempotentResult.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read idempotent result: {}", key, e);
+            return null;
+        }
+    }
+
+    private void saveResult(String key, IdempotentResult result) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), Duration.ofSeconds(resultTtlSeconds));
+        } catch (JsonProcessingException e) {
+            // 예약은 완료되었으므로 결과 저장 실패로 요청을 실패시키지 않는다.
+            log.warn("Failed to save idempotent result: {}", key, e);
+        }
+    }
+
+    // 입장 토큰과 선점 id는 재시도마다 달라질 수 있으므로 예약 내용만 비교한다.
+    private String fingerprint(ReservationRequestDto reservationRequestDto) {
+        return reservationRequestDto.getRestaurantId()
+                + ":" + reservationRequestDto.getMemberSeq()
+                + ":" + reservationRequestDto.getReservationStartTime()
+                + ":" + reservationRequestDto.getReservationEndTime()
+                + ":" + reservationRequestDto.getMemberCount();
+    }
+
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException(ErrorCode.INVALID_IDEMPOTENCY_KEY, ErrorCode.INVALID_IDEMPOTENCY_KEY.getMessage());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class IdempotentResult {
+        private String fingerprint;
+        private ReservationResponseDto response;
+
+        // 같은 키로 다른 내용의 예약을 요청한 경우
+        ReservationResponseDto verify(String requestFingerprint) {
+            if (!fingerprint.equals(requestFingerprint)) {
+                throw new IdempotencyException(ErrorCode.IDEMPOTENCY_KEY_REUSED, ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+            }
+            return response;
+        }
+    }
+}
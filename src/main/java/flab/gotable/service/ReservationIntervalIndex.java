@@ -0,0 +1,142 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.mapper.ReservationMapper;
+import flab.gotable.utils.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+* [예약 시간 interval index를 도입한 이유]
+* 요일마다 split_time(30분/60분)이 다르고 예약 시간도 임의의 범위일 수 있어 고정 크기 bitmap으로는 겹침을 정확히 표현할 수 없습니다.
+* 식당/날짜별 interval tree를 처음 조회할 때 reservation에서 불러오고, 이후 저장되는 예약은 커밋 후에 반영하여 겹침 확인을 O(log n)에 처리합니다.
+* 구간은 LocalDateTime 대신 epoch 분(long)으로 저장하여 조회 시 객체를 생성하지 않습니다.
+* 다른 노드에서 저장된 예약은 이 노드의 index에 반영되지 않으므로, verify-with-database가 true이면 index에서 겹침이 없을 때만 DB로 한 번 더 확인합니다.
+* 예약은 보관 기간이 지난 뒤 reservation_history로 옮겨질 때만 삭제되고 지난 시간에는 예약할 수 없으므로,
+* 예약 가능한 시간에 대해 index에서 찾은 겹침은 항상 유효하며 경합이 심한 시간대의 실패 요청은 SQL 없이 처리됩니다.
+* verify-with-database가 false이면 index만으로 겹침을 판단하므로, 예약을 저장하는 모든 경로(ReservationBusinessService, ReservationBatchWriter)는 add를 호출해야 합니다.
+* */
+@Service
+@RequiredArgsConstructor
+public class ReservationIntervalIndex {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final ReservationMapper reservationMapper;
+
+    @Value("${reservation.interval-index.max-days:10000}")
+    private int maxDays;
+
+    // 최근에 사용한 식당/날짜 순서로 유지하여 오래 사용하지 않은 index부터 제거
+    private final Map<DayKey, DayIndex> days = new LinkedHashMap<>(16, 0.75f, true);
+
+    public boolean overlaps(long restaurantId, LocalDateTime startTime, LocalDateTime endTime) {
+        final long startMinute = toEpochMinute(startTime);
+        final long endMinute = toEpochMinute(endTime);
+
+        // 자정을 넘는 예약은 걸쳐 있는 모든 날짜의 index를 확인
+        for (long epochDay = Math.floorDiv(startMinute, MINUTES_PER_DAY); epochDay * MINUTES_PER_DAY < endMinute; epochDay++) {
+            if (dayIndex(restaurantId, epochDay).overlaps(startMinute, endMinute)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 저장된 예약을 index에 반영합니다. 트랜잭션 안에서 호출되면 롤백된 예약이 반영되지 않도록 커밋 후에 반영합니다.
+     */
+    public void add(Reservation reservation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(reservation);
+                }
+            });
+            return;
+        }
+
+        addNow(reservation);
+    }
+
+    private void addNow(Reservation reservation) {
+        final long startMinute = toEpochMinute(reservation.getReservationStartAt());
+        final long endMinute = toEpochMinute(reservation.getReservationEndAt());
+
+        for (long epochDay = Math.floorDiv(startMinute, MINUTES_PER_DAY); epochDay * MINUTES_PER_DAY < endMinute; epochDay++) {
+            DayIndex dayIndex;
+            synchronized (days) {
+                dayIndex = days.get(new DayKey(reservation.getRestaurantId(), epochDay));
+            }
+
+            // 아직 불러오지 않은 날짜는 처음 조회할 때 DB에서 함께 불러온다.
+            if (dayIndex != null) {
+                dayIndex.add(reservation.getId(), startMinute, endMinute);
+            }
+        }
+    }
+
+    private DayIndex dayIndex(long restaurantId, long epochDay) {
+        final DayKey key = new DayKey(restaurantId, epochDay);
+        DayIndex dayIndex;
+
+        synchronized (days) {
+            dayIndex = days.get(key);
+            if (dayIndex == null) {
+                dayIndex = new DayIndex();
+                days.put(key, dayIndex);
+
+                if (days.size() > maxDays) {
+                    days.remove(days.keySet().iterator().next());
+                }
+            }
+        }
+
+        dayIndex.loadIfNecessary(key);
+        return dayIndex;
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private record DayKey(long restaurantId, long epochDay) {
+    }
+
+    private class DayIndex {
+        private final IntervalTree tree = new IntervalTree();
+        private boolean loaded;
+
+        // 불러오는 동안 커밋된 예약은 add가 대기했다가 반영하므로 누락되지 않는다. (같은 id는 한 번만 추가된다)
+        synchronized void loadIfNecessary(DayKey key) {
+            if (loaded) {
+                return;
+            }
+
+            final LocalDateTime dayStart = LocalDate.ofEpochDay(key.epochDay()).atStartOfDay();
+            for (Reservation reservation : reservationMapper.findReservationsBetween(key.restaurantId(), dayStart, dayStart.plusDays(1))) {
+                tree.add(reservation.getId(), toEpochMinute(reservation.getReservationStartAt()), toEpochMinute(reservation.getReservationEndAt()));
+            }
+
+            loaded = true;
+        }
+
+        synchronized boolean overlaps(long startMinute, long endMinute) {
+            return tree.overlaps(startMinute, endMinute);
+        }
+
+        synchronized void add(long id, long startMinute, long endMinute) {
+            tree.add(id, startMinute, endMinute);
+        }
+    }
+}
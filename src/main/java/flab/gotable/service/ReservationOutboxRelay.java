@@ -0,0 +1,191 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.domain.event.ReservationChangedEvent;
+import flab.gotable.mapper.ReservationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+* [transactional outbox를 도입한 이유]
+* 예약 가능 시간 캐시, 식당 상세 캐시, 검색 index 등 예약에서 파생된 데이터는 예약이 생성/취소될 때마다 갱신되어야 합니다.
+* 예약을 저장한 뒤 Redis나 리스너를 직접 호출하면 커밋과 발행 중 하나만 성공할 수 있으므로, 이벤트는 예약과 같은 트랜잭션에서 reservation_outbox에 기록합니다.
+* relay는 한 노드에서만 실행되며 outbox를 id 순으로 배치 조회하여 애플리케이션 이벤트로 발행하고, 리스너가 성공한 이벤트만 Redis Stream에 추가한 뒤 삭제합니다.
+* 리스너 처리에 실패한 이벤트는 outbox에 남겨 재시도하고, 최대 재시도 횟수를 넘으면 reservation_outbox_dead_letter로 옮깁니다.
+*
+* [식당 단위 발행 순서]
+* 이벤트가 재시도되는 동안 같은 식당의 이후 이벤트는 발행하지 않습니다. (배치 안에서는 건너뛰고, 조회 시에는 재시도를 기다리는 이전 이벤트가 있는 식당의 이벤트를 제외)
+* 이전 이벤트가 발행되거나 dead letter로 옮겨지면 같은 식당의 이후 이벤트를 id 순으로 이어서 발행합니다. 다른 식당의 이벤트는 기다리지 않습니다.
+* 식당 락으로 예약을 직렬화하는 식당은 id 순서가 커밋 순서와 같으므로 식당 단위 순서가 보장됩니다.
+* 좌석 수 기반 식당은 식당 락 없이 동시에 예약을 저장하고 id는 커밋이 아닌 저장 시점에 발급되므로, relay가 아직 커밋되지 않은 이전 id를 볼 수 없어 순서를 보장할 수 없습니다.
+* 이 식당의 소비자는 이벤트 순서 대신 현재 잔여 좌석(slot_capacity)으로 파생 데이터를 갱신해야 합니다.
+* 발행 후 삭제 전에 장애가 발생하면 같은 이벤트가 다시 발행되므로(at-least-once) 소비자는 eventId로 중복을 처리해야 합니다.
+* */
+@Service
+@Slf4j
+public class ReservationOutboxRelay {
+    public static final String STREAM_KEY = "gotable:reservation:events";
+    private static final String LEADER_KEY = "gotable:reservation:outbox:leader";
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    // 리더가 없으면 리더가 되고, 리더이면 유지 시간을 연장. ARGV[1]: 노드 id, ARGV[2]: 유지 시간(ms). 반환값: 1 = 리더, 0 = 다른 노드가 리더
+    private static final RedisScript<Long> LEADER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 1
+            end
+
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final long streamMaxLength;
+    private final long leaderTtlMillis;
+    private final int maxAttempts;
+    private final long retryDelaySeconds;
+    private final long maxRetryDelaySeconds;
+
+    public ReservationOutboxRelay(ReservationMapper reservationMapper,
+                                  ShardRouter shardRouter,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  @Value("${reservation.outbox.batch-size:500}") int batchSize,
+                                  @Value("${reservation.outbox.stream-max-length:100000}") long streamMaxLength,
+                                  @Value("${reservation.outbox.leader-ttl-millis:5000}") long leaderTtlMillis,
+                                  @Value("${reservation.outbox.max-attempts:10}") int maxAttempts,
+                                  @Value("${reservation.outbox.retry-delay-seconds:5}") long retryDelaySeconds,
+                                  @Value("${reservation.outbox.max-retry-delay-seconds:3600}") long maxRetryDelaySeconds) {
+        this.reservationMapper = reservationMapper;
+        this.shardRouter = shardRouter;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.batchSize = batchSize;
+        this.streamMaxLength = streamMaxLength;
+        this.leaderTtlMillis = leaderTtlMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.maxRetryDelaySeconds = maxRetryDelaySeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.outbox.poll-interval-millis:200}")
+    public void relay() {
+        if (!isLeader()) {
+            return;
+        }
+
+        shardRouter.forEachShard(() -> {
+            // 배치가 가득 찬 경우 다음 주기를 기다리지 않고 이어서 발행
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+
+            return published;
+        });
+    }
+
+    // 현재 샤드의 outbox에서 한 배치를 발행하고 처리한 이벤트 수를 반환
+    public int relayBatch() {
+        List<ReservationOutboxEvent> outboxEvents = reservationMapper.findOutboxEvents(batchSize);
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        // 이번 배치에서 재시도하게 된 식당 (이후 이벤트는 순서를 지키기 위해 다음 배치로 미룬다)
+        Set<Long> blockedRestaurantIds = new HashSet<>();
+        int retried = 0;
+        try {
+            for (ReservationOutboxEvent outboxEvent : outboxEvents) {
+                if (blockedRestaurantIds.contains(outboxEvent.getRestaurantId())) {
+                    continue;
+                }
+
+                ReservationChangedEvent event = outboxEvent.toEvent();
+
+                try {
+                    applicationEventPublisher.publishEvent(event);
+                } catch (RuntimeException e) {
+                    // 리스너의 실패가 다른 식당의 발행을 막지 않도록 이벤트를 남겨두고 다음 이벤트를 발행
+                    log.error("Reservation event listener failed: {}, attempts: {}", event.getEventId(), outboxEvent.getAttempts() + 1, e);
+                    retry(outboxEvent, e);
+                    blockedRestaurantIds.add(outboxEvent.getRestaurantId());
+                    retried++;
+                    continue;
+                }
+
+                // 재시도마다 Stream에 중복으로 추가되지 않도록 리스너가 성공한 이벤트만 추가
+                addToStream(event);
+                publishedIds.add(outboxEvent.getId());
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시 발행하지 못한 이벤트부터 다음 주기에 다시 발행
+            log.warn("Failed to relay reservation outbox, {} of {} events published", publishedIds.size(), outboxEvents.size(), e);
+        }
+
+        if (!publishedIds.isEmpty()) {
+            reservationMapper.deleteOutboxEvents(publishedIds);
+            stringRedisTemplate.opsForStream().trim(STREAM_KEY, streamMaxLength, true);
+        }
+
+        return publishedIds.size() + retried;
+    }
+
+    private void addToStream(ReservationChangedEvent event) {
+        stringRedisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                "eventId", String.valueOf(event.getEventId()),
+                "type", event.getType().name(),
+                "restaurantId", String.valueOf(event.getRestaurantId()),
+                "reservationId", String.valueOf(event.getReservationId()),
+                "memberCount", String.valueOf(event.getMemberCount()),
+                "reservationStartAt", event.getReservationStartAt().toString(),
+                "reservationEndAt", event.getReservationEndAt().toString()
+        )).withStreamKey(STREAM_KEY));
+    }
+
+    // 재시도할 때마다 대기 시간을 두 배로 늘리고, 최대 재시도 횟수를 넘은 이벤트는 dead letter로 옮긴다.
+    private void retry(ReservationOutboxEvent outboxEvent, RuntimeException cause) {
+        final int attempts = outboxEvent.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            reservationMapper.saveOutboxDeadLetter(outboxEvent.getId(), errorMessage(cause));
+            reservationMapper.deleteOutboxEvents(List.of(outboxEvent.getId()));
+            return;
+        }
+
+        final long delaySeconds = Math.min(retryDelaySeconds << Math.min(attempts - 1, 30), maxRetryDelaySeconds);
+        reservationMapper.retryOutboxEvent(outboxEvent.getId(), delaySeconds);
+    }
+
+    private String errorMessage(RuntimeException cause) {
+        final String message = cause.getClass().getName() + ": " + cause.getMessage();
+        return message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    // 키 확인과 유지 시간 연장 사이에 리더가 바뀌지 않도록 하나의 Lua 스크립트로 처리
+    private boolean isLeader() {
+        return Long.valueOf(1).equals(stringRedisTemplate.execute(LEADER_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(leaderTtlMillis)));
+    }
+}
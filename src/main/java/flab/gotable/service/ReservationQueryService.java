@@ -0,0 +1,83 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.dto.response.ReservationPageResponseDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.InvalidReservationTimeException;
+import flab.gotable.mapper.ReservationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+* [예약현황 조회에 keyset 페이지네이션을 사용한 이유]
+* OFFSET은 건너뛸 행을 모두 읽은 뒤 버리기 때문에 페이지가 깊어질수록 느려지고, 예약 테이블이 커질수록 점주 대시보드의 응답 시간이 늘어납니다.
+* 마지막으로 조회한 (reservation_start_at, id) 이후부터 인덱스를 탐색하므로 몇 번째 페이지든 읽는 행 수는 페이지 크기와 같습니다.
+* 페이지에 해당하는 id는 (member_seq | restaurant_id, reservation_start_at, id) 인덱스만으로 찾고, 나머지 컬럼은 해당 id의 행만 읽습니다.
+* 회원의 예약은 여러 샤드에 나뉘어 있으므로 샤드마다 같은 커서로 한 페이지씩 조회한 뒤 병합합니다.
+* */
+@Service
+@RequiredArgsConstructor
+public class ReservationQueryService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<Reservation> CURSOR_ORDER = Comparator.comparing(Reservation::getReservationStartAt)
+            .thenComparingLong(Reservation::getId);
+
+    private final ReservationMapper reservationMapper;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    // 샤드마다 별도의 읽기 전용 트랜잭션으로 조회 (하나의 트랜잭션은 하나의 커넥션만 사용)
+    public ReservationPageResponseDto getMemberReservations(long memberSeq, @Nullable LocalDateTime cursorStartAt, @Nullable Long cursorId, int size) {
+        final int pageSize = pageSize(size);
+
+        List<Reservation> reservations = shardRouter.forEachShard(() -> readOnlyTransactionTemplate.execute(status ->
+                        reservationMapper.findReservationsByMember(memberSeq, cursorStartAt, cursorId, pageSize + 1)))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(CURSOR_ORDER)
+                .toList();
+
+        return toPage(reservations, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPageResponseDto getStoreReservations(long restaurantId, LocalDateTime from, LocalDateTime to,
+                                                           @Nullable LocalDateTime cursorStartAt, @Nullable Long cursorId, int size) {
+        // 조회 종료 시간이 조회 시작 시간보다 앞서거나 동일한 경우
+        if (!to.isAfter(from)) {
+            throw new InvalidReservationTimeException(ErrorCode.INVALID_RESERVATION_TIME, ErrorCode.INVALID_RESERVATION_TIME.getMessage());
+        }
+
+        final int pageSize = pageSize(size);
+
+        List<Reservation> reservations = shardRouter.route(restaurantId,
+                () -> reservationMapper.findReservationsByRestaurant(restaurantId, from, to, cursorStartAt, cursorId, pageSize + 1));
+
+        return toPage(reservations, pageSize);
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 확인
+    private ReservationPageResponseDto toPage(List<Reservation> reservations, int pageSize) {
+        final boolean hasNext = reservations.size() > pageSize;
+
+        List<ReservationResponseDto> page = reservations.stream()
+                .limit(pageSize)
+                .map(ReservationResponseDto::new)
+                .toList();
+
+        return new ReservationPageResponseDto(page, hasNext);
+    }
+}
@@ -0,0 +1,13 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.RateLimitExceededException;
+
+/**
+ * 락 대기열 앞단에서 식당별 요청 속도(token bucket)와 동시 처리 수를 제한하는 인터페이스
+ */
+public interface ReservationRateLimiter {
+    /**
+     * @throws RateLimitExceededException 요청 속도 또는 동시 처리 수 한도를 초과한 경우
+     */
+    RateLimitPermit acquire(long restaurantId);
+}
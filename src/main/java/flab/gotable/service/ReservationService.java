@@ -1,6 +1,9 @@
 package flab.gotable.service;
 
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.lock.LockWaitOutcome;
 import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationHoldResponseDto;
 import flab.gotable.dto.response.ReservationResponseDto;
 import flab.gotable.exception.*;
 import flab.gotable.mapper.MemberMapper;
@@ -8,9 +11,9 @@ import flab.gotable.mapper.ReservationMapper;
 import flab.gotable.mapper.StoreMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -23,60 +26,168 @@ public class ReservationService {
     private final ReservationMapper reservationMapper;
     private final MemberMapper memberMapper;
     private final StoreMapper storeMapper;
-
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    private final WaitingRoomService waitingRoomService;
+    private final ReservationRateLimiter reservationRateLimiter;
+    private final NamedLockManager namedLockManager;
+    private final LockWaitPolicy lockWaitPolicy;
+    private final TransactionRetryExecutor transactionRetryExecutor;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+    private final ReservationHoldService reservationHoldService;
+    private final ShardRouter shardRouter;
+
+    /*
+    * 데드락(1213)이나 락 대기 시간 초과(1205)로 롤백된 트랜잭션은 TransactionRetryExecutor가 트랜잭션 밖에서 다시 실행합니다.
+    * 재시도 전에는 같은 예약이 이미 저장되었는지 확인하여 이전 시도가 커밋된 경우 중복 예약 에러 대신 기존 예약을 반환합니다.
+    * */
     public ReservationResponseDto reservePessimisticLock(ReservationRequestDto reservationRequestDto) {
+        return shardRouter.routeWrite(reservationRequestDto.getRestaurantId(), () -> reservePessimisticLockOnShard(reservationRequestDto));
+    }
 
-        validateReservationRequest(reservationRequestDto);
+    private ReservationResponseDto reservePessimisticLockOnShard(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
 
-        // 락 획득 여부
-        if(reservationMapper.getRestaurantLock(reservationRequestDto.getRestaurantId()) <= 0) {
-            // 락 획득 실패
-            throw new LockFailureException(ErrorCode.LOCK_ACQUISITION_FAILED, ErrorCode.LOCK_ACQUISITION_FAILED.getMessage());
-        }
+        // 식당별 요청 속도와 동시 처리 수를 초과한 요청은 락을 기다리지 않고 즉시 거절
+        try (RateLimitPermit permit = reservationRateLimiter.acquire(restaurantId)) {
+            validateReservationRequest(reservationRequestDto);
+
+            // 좌석 수 기반 식당은 식당 락 없이 잔여 좌석 차감만으로 예약
+            if (reservationBusinessService.isCapacityBased(restaurantId)) {
+                return reserveWithCapacity(reservationRequestDto);
+            }
+
+            return transactionRetryExecutor.execute("reservePessimisticLock", attempt -> {
+                if (attempt > 1) {
+                    Reservation reservation = reservationMapper.findReservation(reservationRequestDto.getMemberSeq(), restaurantId,
+                            reservationRequestDto.getReservationStartTime(), reservationRequestDto.getReservationEndTime());
+
+                    if (reservation != null) {
+                        return new ReservationResponseDto(reservation);
+                    }
+                }
 
-        return reservationBusinessService.executePessimisticLockReservation(reservationRequestDto);
+                return readCommittedTransactionTemplate.execute(status -> executePessimisticLockReservation(reservationRequestDto));
+            });
+        }
     }
 
-    @Transactional
+    /*
+    * 락 대기 중에는 메인 풀의 커넥션을 점유하지 않도록 트랜잭션 밖에서 NamedLockManager의 전용 커넥션으로 락을 획득하고,
+    * 예약 트랜잭션은 락을 획득한 뒤에 메인 풀의 커넥션 하나로만 수행합니다.
+    * */
     public ReservationResponseDto reserveNamedLock(ReservationRequestDto reservationRequestDto) {
+        return shardRouter.routeWrite(reservationRequestDto.getRestaurantId(), () -> reserveNamedLockOnShard(reservationRequestDto));
+    }
 
-        validateReservationRequest(reservationRequestDto);
+    private ReservationResponseDto reserveNamedLockOnShard(ReservationRequestDto reservationRequestDto) {
 
-        String lockName = "reservation_" + reservationRequestDto.getRestaurantId();
-        Integer lockResult = reservationMapper.getNamedLock(lockName);
+        // 식당별 요청 속도와 동시 처리 수를 초과한 요청은 락을 기다리지 않고 즉시 거절
+        try (RateLimitPermit permit = reservationRateLimiter.acquire(reservationRequestDto.getRestaurantId())) {
+            validateReservationRequest(reservationRequestDto);
 
-        // 락 획득 중 에러 발생
-        if(lockResult == null) {
-            throw new LockFailureException(ErrorCode.LOCK_SYSTEM_FAILURE, ErrorCode.LOCK_SYSTEM_FAILURE.getMessage());
-        }
+            // 좌석 수 기반 식당은 네임드 락 없이 잔여 좌석 차감만으로 예약
+            if (reservationBusinessService.isCapacityBased(reservationRequestDto.getRestaurantId())) {
+                return reserveWithCapacity(reservationRequestDto);
+            }
+
+            String lockName = "reservation_" + reservationRequestDto.getRestaurantId();
+            LockWaitPolicy.LockWait wait = lockWaitPolicy.begin(lockName, reservationRequestDto.getRestaurantId());
 
-        // 락 획득 실패
-        if(lockResult == 0) {
-            throw new LockFailureException(ErrorCode.LOCK_ACQUISITION_FAILED, ErrorCode.LOCK_ACQUISITION_FAILED.getMessage());
+            try (NamedLock lock = namedLockManager.acquire(wait)) {
+                ReservationResponseDto reservationResponseDto = reservationBusinessService.executeNamedLockReservation(reservationRequestDto, lock);
+                waitingRoomService.consumeAdmission(reservationRequestDto);
+
+                return reservationResponseDto;
+            }
         }
+    }
+
+    /*
+    * 선점은 락 없이 Redis에서만 처리하고, 이미 예약된 시간인지만 DB에서 확인합니다.
+    * 락을 잡고 저장하는 트랜잭션은 confirmHold에서 실제로 확정하는 사용자에게만 실행됩니다.
+    * */
+    public ReservationHoldResponseDto holdSlot(ReservationRequestDto reservationRequestDto) {
+        reservationRequestDto.setHoldId(null);
+
+        shardRouter.route(reservationRequestDto.getRestaurantId(), () -> {
+            validateReservationRequest(reservationRequestDto);
+
+            if (!reservationBusinessService.hasAvailability(reservationRequestDto)) {
+                throw new DuplicatedReservationException(ErrorCode.DUPLICATED_RESERVATION_TIME, ErrorCode.DUPLICATED_RESERVATION_TIME.getMessage());
+            }
+
+            return null;
+        });
+
+        return reservationHoldService.hold(reservationRequestDto);
+    }
+
+    public ReservationResponseDto confirmHold(String holdId, long memberSeq) {
+        ReservationRequestDto reservationRequestDto = reservationHoldService.getHold(holdId, memberSeq);
+
+        ReservationResponseDto reservationResponseDto = reserveNamedLock(reservationRequestDto);
+        reservationHoldService.release(reservationRequestDto);
+
+        return reservationResponseDto;
+    }
+
+    private ReservationResponseDto reserveWithCapacity(ReservationRequestDto reservationRequestDto) {
+        ReservationResponseDto reservationResponseDto = reservationBusinessService.executeCapacityReservation(reservationRequestDto);
+        waitingRoomService.consumeAdmission(reservationRequestDto);
+
+        return reservationResponseDto;
+    }
+
+    private ReservationResponseDto executePessimisticLockReservation(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
+
+        LockWaitPolicy.LockWait wait = lockWaitPolicy.begin("restaurant_" + restaurantId, restaurantId);
+        acquireRestaurantLock(wait, restaurantId);
 
         try {
-            return reservationBusinessService.executeNamedLockReservation(reservationRequestDto);
+            ReservationResponseDto reservationResponseDto = reservationBusinessService.executePessimisticLockReservation(reservationRequestDto);
+            waitingRoomService.consumeAdmission(reservationRequestDto);
+
+            return reservationResponseDto;
         } finally {
-            Integer releaseResult = reservationMapper.releaseNamedLock(lockName);
+            wait.released();
+        }
+    }
 
-            // 락이 존재하지 않는 경우
-            if(releaseResult == null) {
-                log.warn("Failed to release lock: {}", lockName);
+    // 식당 row의 FOR UPDATE 대기 시간을 대기 정책의 남은 시간으로 제한하고, 락을 획득하면 세션 기본값으로 되돌린다.
+    private void acquireRestaurantLock(LockWaitPolicy.LockWait wait, long restaurantId) {
+        reservationMapper.setLockWaitTimeout(wait.remainingSeconds());
+
+        try {
+            // 락 획득 실패
+            if(reservationMapper.getRestaurantLock(restaurantId) <= 0) {
+                throw wait.fail(LockWaitOutcome.NOT_ACQUIRED);
             }
+        } catch (CannotAcquireLockException e) {
+            throw wait.expired();
+        } catch (RuntimeException e) {
+            wait.fail(LockWaitOutcome.ERROR);
+            throw e;
+        } finally {
+            reservationMapper.resetLockWaitTimeout();
         }
+
+        wait.acquired();
     }
 
     private void validateReservationRequest(ReservationRequestDto reservationRequestDto) {
+        // 대기열이 운영 중인 식당은 입장 토큰을 가진 요청만 처리
+        waitingRoomService.validateAdmission(reservationRequestDto);
+        // 다른 사용자가 선점 중인 시간은 예약할 수 없음
+        reservationHoldService.validateNotHeldByOthers(reservationRequestDto);
         validateMemberExists(reservationRequestDto.getMemberSeq());
         validateRestaurantExists(reservationRequestDto.getRestaurantId());
         checkMemberCount(reservationRequestDto.getRestaurantId(), reservationRequestDto.getMemberCount());
         checkReservationTime(reservationRequestDto.getReservationStartTime(), reservationRequestDto.getReservationEndTime());
     }
 
+    // 회원은 샤딩하지 않으므로 공용 DB에서 조회
     private boolean isMemberExists(long memberSeq) {
-        return memberMapper.isMemberExistSeq(memberSeq);
+        return shardRouter.global(() -> memberMapper.isMemberExistSeq(memberSeq));
     }
 
     private boolean isRestaurantExists(long restaurantId) {
@@ -0,0 +1,256 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.TicketStatus;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.dto.response.ReservationTicketResponseDto;
+import flab.gotable.exception.ApplicationException;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.ReservationQueueFullException;
+import flab.gotable.exception.ReservationTicketNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+* [비동기 예약 접수를 도입한 이유]
+* 오픈 시간에는 예약 요청이 GET_LOCK 대기(최대 10초) 동안 Tomcat 스레드를 점유하여 스레드 풀이 쉽게 고갈됩니다.
+* 비동기 접수는 요청을 식당별 대기열에 넣고 즉시 티켓 id를 반환하며, 식당별 대기열은 한 번에 하나의 워커만 처리하므로 같은 노드 안에서는 락 경합이 발생하지 않습니다.
+* 처리 결과는 SSE로 전달되며, 다른 노드에서도 조회할 수 있도록 접수 상태(PENDING)와 처리 결과를 Redis에 저장합니다.
+* 처리할 요청이 없는 식당의 대기열은 만료된 티켓과 함께 주기적으로 제거합니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationTicketService {
+    private static final String TICKET_KEY_PREFIX = "gotable:reservation:ticket:";
+    private static final String RESULT_EVENT_NAME = "result";
+    // 한 식당의 대기열을 연속으로 처리할 최대 건수 (다른 식당의 대기열이 굶지 않도록)
+    private static final int DRAIN_BATCH_SIZE = 32;
+
+    private final ReservationService reservationService;
+    private final ThreadPoolTaskExecutor reservationExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, RestaurantQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @Value("${reservation.async.queue-capacity-per-restaurant:1000}")
+    private int queueCapacityPerRestaurant;
+
+    @Value("${reservation.async.ticket-ttl-seconds:600}")
+    private long ticketTtlSeconds;
+
+    @Value("${reservation.async.sse-timeout-millis:60000}")
+    private long sseTimeoutMillis;
+
+    public ReservationTicketResponseDto submit(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
+        final String ticketId = UUID.randomUUID().toString();
+        final Ticket ticket = new Ticket(ReservationTicketResponseDto.pending(ticketId, restaurantId));
+
+        // 대기열 정리와 겹치지 않도록 대기열 조회와 크기 증가를 한 번에 실행
+        RestaurantQueue queue = queues.compute(restaurantId, (id, current) -> {
+            RestaurantQueue restaurantQueue = current == null ? new RestaurantQueue() : current;
+            restaurantQueue.size.incrementAndGet();
+            return restaurantQueue;
+        });
+
+        // 대기열이 가득 찬 경우 스레드를 붙잡지 않고 즉시 거절
+        if (queue.size.get() > queueCapacityPerRestaurant) {
+            queue.size.decrementAndGet();
+            throw new ReservationQueueFullException(ErrorCode.RESERVATION_QUEUE_FULL, ErrorCode.RESERVATION_QUEUE_FULL.getMessage());
+        }
+
+        tickets.put(ticketId, ticket);
+        // 처리 결과보다 먼저 저장되도록 대기열에 넣기 전에 저장
+        save(ticket.state);
+        queue.tasks.add(() -> process(ticket, reservationRequestDto));
+        schedule(queue);
+
+        return ticket.state;
+    }
+
+    public ReservationTicketResponseDto getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket != null) {
+            return ticket.state;
+        }
+
+        // 다른 노드에서 접수된 티켓
+        String value = stringRedisTemplate.opsForValue().get(TICKET_KEY_PREFIX + ticketId);
+        if (value == null) {
+            throw new ReservationTicketNotFoundException(ErrorCode.RESERVATION_TICKET_NOT_FOUND, ErrorCode.RESERVATION_TICKET_NOT_FOUND.getMessage());
+        }
+
+        try {
+            return objectMapper.readValue(value, ReservationTicketResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public SseEmitter subscribe(String ticketId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Ticket ticket = tickets.get(ticketId);
+
+        if (ticket == null) {
+            // 다른 노드에서 접수된 티켓은 저장된 현재 상태만 전달 (처리 중이면 PENDING을 받고 폴링으로 결과를 조회)
+            send(emitter, getTicket(ticketId));
+            emitter.complete();
+            return emitter;
+        }
+
+        synchronized (ticket) {
+            if (ticket.state.getStatus() == TicketStatus.PENDING) {
+                ticket.emitters.add(emitter);
+                emitter.onCompletion(() -> ticket.removeEmitter(emitter));
+                emitter.onTimeout(() -> ticket.removeEmitter(emitter));
+                return emitter;
+            }
+        }
+
+        send(emitter, ticket.state);
+        emitter.complete();
+        return emitter;
+    }
+
+    // 만료된 티켓과 처리할 요청이 없는 식당 대기열을 제거
+    @Scheduled(fixedDelayString = "${reservation.async.ticket-cleanup-millis:60000}")
+    public void cleanUp() {
+        final long expiredBefore = System.nanoTime() - TimeUnit.SECONDS.toNanos(ticketTtlSeconds);
+
+        tickets.values().removeIf(ticket -> ticket.completedAt != 0 && ticket.completedAt - expiredBefore < 0);
+
+        for (Long restaurantId : queues.keySet()) {
+            queues.computeIfPresent(restaurantId, (id, queue) -> queue.isIdle() ? null : queue);
+        }
+    }
+
+    boolean hasQueue(long restaurantId) {
+        return queues.containsKey(restaurantId);
+    }
+
+    private void schedule(RestaurantQueue queue) {
+        if (queue.running.compareAndSet(false, true)) {
+            reservationExecutor.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(RestaurantQueue queue) {
+        try {
+            Runnable task;
+            int processed = 0;
+
+            while (processed < DRAIN_BATCH_SIZE && (task = queue.tasks.poll()) != null) {
+                queue.size.decrementAndGet();
+                task.run();
+                processed++;
+            }
+        } finally {
+            queue.running.set(false);
+
+            if (!queue.tasks.isEmpty()) {
+                schedule(queue);
+            }
+        }
+    }
+
+    private void process(Ticket ticket, ReservationRequestDto reservationRequestDto) {
+        final String ticketId = ticket.state.getTicketId();
+        final long restaurantId = ticket.state.getRestaurantId();
+        ReservationTicketResponseDto result;
+
+        try {
+            ReservationResponseDto reservation = reservationService.reserveNamedLock(reservationRequestDto);
+            result = ReservationTicketResponseDto.succeeded(ticketId, restaurantId, reservation);
+        } catch (ApplicationException e) {
+            result = ReservationTicketResponseDto.failed(ticketId, restaurantId, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to process reservation ticket: {}", ticketId, e);
+            result = ReservationTicketResponseDto.failed(ticketId, restaurantId, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+
+        complete(ticket, result);
+    }
+
+    private void complete(Ticket ticket, ReservationTicketResponseDto result) {
+        save(result);
+
+        List<SseEmitter> emitters;
+        synchronized (ticket) {
+            ticket.state = result;
+            ticket.completedAt = System.nanoTime();
+            emitters = new ArrayList<>(ticket.emitters);
+            ticket.emitters.clear();
+        }
+
+        for (SseEmitter emitter : emitters) {
+            send(emitter, result);
+            emitter.complete();
+        }
+    }
+
+    private void save(ReservationTicketResponseDto state) {
+        try {
+            stringRedisTemplate.opsForValue().set(TICKET_KEY_PREFIX + state.getTicketId(),
+                    objectMapper.writeValueAsString(state), Duration.ofSeconds(ticketTtlSeconds));
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Failed to save reservation ticket: {}", state.getTicketId(), e);
+        }
+    }
+
+    private void send(SseEmitter emitter, ReservationTicketResponseDto result) {
+        try {
+            emitter.send(SseEmitter.event().name(RESULT_EVENT_NAME).id(result.getTicketId()).data(result));
+        } catch (IOException e) {
+            // 클라이언트 연결이 끊긴 경우 폴링으로 결과를 조회할 수 있다.
+            log.debug("Failed to push reservation ticket: {}", result.getTicketId(), e);
+        }
+    }
+
+    private static class RestaurantQueue {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        boolean isIdle() {
+            return size.get() == 0 && !running.get();
+        }
+    }
+
+    private static class Ticket {
+        private volatile ReservationTicketResponseDto state;
+        private volatile long completedAt;
+        private final List<SseEmitter> emitters = new ArrayList<>();
+
+        Ticket(ReservationTicketResponseDto state) {
+            this.state = state;
+        }
+
+        synchronized void removeEmitter(SseEmitter emitter) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.event.MemberLogoutEvent;
+import flab.gotable.utils.SecurityUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+* [세션 near-cache를 도입한 이유]
+* 인증이 필요한 모든 요청은 LoginInterceptor에서 MEMBER_ID를 확인하기 위해 Redis에서 세션을 조회하고, 요청 종료 시 마지막 접근 시간을 다시 저장합니다.
+* 세션 쿠키로 식별한 세션 id의 인증 결과를 애플리케이션 노드에 짧은 TTL로 캐싱해 대부분의 요청에서 Redis 조회를 생략합니다.
+* 마지막 접근 시간 갱신은 touch-interval 마다 한 번만 세션을 조회하는 방식으로 모아서 처리하고,
+* 로그아웃 시에는 Redis pub/sub으로 모든 노드의 캐시를 무효화합니다.
+* 세션 저장소에서 세션이 만료된 경우에는 다음 갱신 때 세션을 찾지 못하므로 캐시를 제거하고 요청을 거절합니다.
+* (만료된 세션이 캐시로 인증되는 시간은 TTL이 아닌 touch-interval 이내)
+* */
+@Service
+@Slf4j
+public class SessionNearCacheService implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "gotable:session:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectProvider<CookieSerializer> cookieSerializerProvider;
+
+    private final Map<String, CachedSession> cache = new ConcurrentHashMap<>();
+    // 무효화 직후 다른 요청이 아직 저장되지 않은 세션을 다시 캐싱하지 않도록 TTL 동안 기록해둔다.
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    private CookieSerializer cookieSerializer;
+
+    private final long ttlMillis;
+    private final long touchIntervalMillis;
+    private final int maxSize;
+
+    public SessionNearCacheService(StringRedisTemplate stringRedisTemplate,
+                                   RedisMessageListenerContainer redisMessageListenerContainer,
+                                   ObjectProvider<CookieSerializer> cookieSerializerProvider,
+                                   @Value("${session.near-cache.ttl-millis:30000}") long ttlMillis,
+                                   @Value("${session.near-cache.touch-interval-millis:10000}") long touchIntervalMillis,
+                                   @Value("${session.near-cache.max-size:100000}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.cookieSerializerProvider = cookieSerializerProvider;
+        this.ttlMillis = ttlMillis;
+        this.touchIntervalMillis = touchIntervalMillis;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        cookieSerializer = cookieSerializerProvider.getIfAvailable(DefaultCookieSerializer::new);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public boolean hasAuthentication(HttpServletRequest request) {
+        final String sessionId = resolveSessionId(request);
+
+        // 세션 쿠키가 없는 경우 캐시를 사용할 수 없으므로 세션 저장소에서 직접 확인
+        if (sessionId == null) {
+            return SecurityUtils.hasAuthentication(request);
+        }
+
+        final long now = System.nanoTime();
+        final CachedSession cachedSession = cache.get(sessionId);
+
+        if (cachedSession != null && cachedSession.isFresh(now)) {
+            // 세션을 조회하면 SessionRepositoryFilter가 요청 종료 시 마지막 접근 시간을 저장한다.
+            // 세션 저장소에서 만료되었다면 캐시를 제거하고 거절
+            if (cachedSession.tryTouch(now, TimeUnit.MILLISECONDS.toNanos(touchIntervalMillis))
+                    && !SecurityUtils.hasAuthentication(request)) {
+                cache.remove(sessionId, cachedSession);
+                return false;
+            }
+            return true;
+        }
+
+        if (!SecurityUtils.hasAuthentication(request)) {
+            cache.remove(sessionId);
+            return false;
+        }
+
+        if (isCacheable(sessionId, now)) {
+            cache.put(sessionId, new CachedSession(now + TimeUnit.MILLISECONDS.toNanos(ttlMillis), now));
+        }
+
+        return true;
+    }
+
+    @EventListener
+    public void onLogout(MemberLogoutEvent event) {
+        evict(event.getSessionId());
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.getSessionId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    public void evict(String sessionId) {
+        final long now = System.nanoTime();
+
+        if (invalidatedAt.size() >= maxSize) {
+            removeExpired(now);
+        }
+
+        invalidatedAt.put(sessionId, now);
+        cache.remove(sessionId);
+    }
+
+    private String resolveSessionId(HttpServletRequest request) {
+        List<String> sessionIds = cookieSerializer.readCookieValues(request);
+        return sessionIds.isEmpty() ? null : sessionIds.get(0);
+    }
+
+    private boolean isCacheable(String sessionId, long now) {
+        final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        final Long invalidated = invalidatedAt.get(sessionId);
+
+        if (invalidated != null) {
+            if (now - invalidated < ttlNanos) {
+                return false;
+            }
+            invalidatedAt.remove(sessionId, invalidated);
+        }
+
+        if (cache.size() >= maxSize) {
+            removeExpired(now);
+        }
+
+        return cache.size() < maxSize;
+    }
+
+    private void removeExpired(long now) {
+        final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+
+        cache.entrySet().removeIf(entry -> !entry.getValue().isFresh(now));
+        invalidatedAt.entrySet().removeIf(entry -> now - entry.getValue() >= ttlNanos);
+    }
+
+    private static class CachedSession {
+        private final long expiresAt;
+        private final AtomicLong lastTouchedAt;
+
+        CachedSession(long expiresAt, long lastTouchedAt) {
+            this.expiresAt = expiresAt;
+            this.lastTouchedAt = new AtomicLong(lastTouchedAt);
+        }
+
+        boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+
+        // 동시에 들어온 요청 중 하나만 마지막 접근 시간을 갱신한다.
+        boolean tryTouch(long now, long touchIntervalNanos) {
+            long last = lastTouchedAt.get();
+            return now - last >= touchIntervalNanos && lastTouchedAt.compareAndSet(last, now);
+        }
+    }
+}
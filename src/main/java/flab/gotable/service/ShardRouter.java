@@ -0,0 +1,272 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.shard.ShardSplitState;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.RestaurantMovingException;
+import flab.gotable.exception.ShardSplitException;
+import flab.gotable.utils.ConsistentHashRing;
+import flab.gotable.utils.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/*
+* [식당 id 기준으로 샤딩한 이유]
+* 모든 식당의 예약이 하나의 primary에 저장되어 예약 쓰기 처리량이 한 노드의 한계에 묶입니다.
+* 예약, 식당, 스케줄 데이터는 식당 id로 샤드를 결정하고, 한 식당의 락 획득과 예약 트랜잭션은 항상 같은 샤드에서 수행됩니다.
+* 회원처럼 식당에 속하지 않는 데이터는 샤드 밖의 공용 DB(spring.datasource)에 남습니다.
+* 샤드 배치는 consistent hash ring으로 결정하므로 샤드를 추가할 때 일부 식당만 이동합니다.
+*
+* [샤드 분할]
+* 분할 상태는 ShardSplitStore(Redis)에 저장하여 모든 노드가 공유하고, 관리자 API(/admin/shards)로 진행합니다.
+* 1. datasource.shard-urls에 새 샤드를 추가하고 datasource.pending-shards에 등록하여 배포 (아직 링에 포함되지 않음)
+* 2. beginSplit으로 새 샤드를 포함한 다음 링을 준비
+* 3. beginMove로 식당을 이동 중으로 표시하면 이후 그 식당의 쓰기는 RestaurantMovingException으로 거절됩니다.
+*    표시하기 전에 시작된 쓰기가 끝나도록 drain 시간이 지난 뒤 데이터를 복사하고, completeMove를 호출하면 해당 식당부터 새 샤드로 라우팅
+* 4. 모든 이동이 끝나면 finishSplit으로 다음 링을 현재 링으로 교체하고, 이후 pending-shards에서 새 샤드를 제거하여 배포
+*
+* 쓰기(routeWrite)는 요청마다 공유 상태에서 식당의 이동 상태를 확인하므로 노드마다 상태가 늦게 반영되어도 이동 중인 식당에 쓰지 않습니다.
+* 조회(route)는 주기적으로 동기화하는 노드의 상태를 사용하므로 이동 직후 잠시 이전 샤드의 데이터를 조회할 수 있습니다.
+* 예약 가능 현황(availability)처럼 원본에서 다시 계산할 수 있는 데이터는 이동 후 backfill로 다시 만듭니다.
+* */
+@Component
+@Slf4j
+public class ShardRouter {
+
+    private final Set<String> shards;
+    private final ConsistentHashRing configuredRing;
+    private final ShardSplitStore splitStore;
+    private final long drainMillis;
+
+    private volatile Topology topology;
+
+    public ShardRouter(@Value("#{${datasource.shard-urls:{:}}}") Map<String, String> shardUrls,
+                       @Value("${datasource.shard-virtual-nodes:128}") int virtualNodes,
+                       @Value("${datasource.pending-shards:}") List<String> pendingShards,
+                       ShardSplitStore splitStore,
+                       @Value("${datasource.shard-split-drain-millis:30000}") long drainMillis) {
+        this.shards = Set.copyOf(shardUrls.keySet());
+        this.splitStore = splitStore;
+        this.drainMillis = drainMillis;
+
+        Set<String> activeShards = new HashSet<>(shards);
+        activeShards.removeAll(pendingShards);
+        this.configuredRing = new ConsistentHashRing(activeShards, virtualNodes);
+        this.topology = new Topology(configuredRing, null, ShardSplitState.NONE);
+    }
+
+    public boolean isSharded() {
+        return !topology.ring().isEmpty();
+    }
+
+    // 샤딩하지 않는 경우 null
+    @Nullable
+    public String shardFor(long restaurantId) {
+        if (!isSharded()) {
+            return null;
+        }
+
+        Topology current = topology;
+        return current.shardFor(restaurantId, current.state());
+    }
+
+    // 식당이 속한 샤드에서 조회 (트랜잭션은 action 안에서 시작하거나, 첫 쿼리 전에 호출해야 함)
+    public <T> T route(long restaurantId, Supplier<T> action) {
+        return onShard(shardFor(restaurantId), action);
+    }
+
+    /**
+     * 식당의 데이터를 변경하는 작업을 식당이 속한 샤드에서 실행합니다.
+     * @throws RestaurantMovingException 샤드 분할로 식당의 데이터를 이동하는 중인 경우
+     */
+    public <T> T routeWrite(long restaurantId, Supplier<T> action) {
+        return onShard(writeShardFor(restaurantId), action);
+    }
+
+    /**
+     * 공유 상태를 기준으로 식당의 데이터를 써야 할 샤드를 반환합니다. (샤딩하지 않는 경우 null)
+     * @throws RestaurantMovingException 샤드 분할로 식당의 데이터를 이동하는 중인 경우
+     */
+    @Nullable
+    public String writeShardFor(long restaurantId) {
+        if (shards.isEmpty()) {
+            return null;
+        }
+
+        ShardSplitState state = splitStore.load(restaurantId);
+        if (state.isMoving(restaurantId)) {
+            throw new RestaurantMovingException(ErrorCode.RESTAURANT_MOVING, ErrorCode.RESTAURANT_MOVING.getMessage());
+        }
+
+        Topology current = topology;
+        if (!current.state().isSameStage(state)) {
+            // 노드의 상태가 아직 동기화되지 않은 경우 공유 상태의 분할 단계로 링을 구성
+            current = topologyOf(state);
+        }
+
+        return current.ring().isEmpty() ? null : current.shardFor(restaurantId, state);
+    }
+
+    // 식당에 속하지 않는 데이터(회원 등)를 공용 DB에서 조회
+    public <T> T global(Supplier<T> action) {
+        return onShard(null, action);
+    }
+
+    // 모든 샤드에서 각각 실행한 결과 (샤딩하지 않는 경우 공용 DB에서 한 번 실행)
+    public <T> List<T> forEachShard(Supplier<T> action) {
+        if (!isSharded()) {
+            return List.of(action.get());
+        }
+
+        Topology current = topology;
+        List<T> results = new ArrayList<>();
+        for (String shard : current.ring().getNodes()) {
+            results.add(onShard(shard, action));
+        }
+
+        ConsistentHashRing next = current.nextRing();
+        if (next != null) {
+            for (String shard : next.getNodes()) {
+                if (!current.ring().getNodes().contains(shard)) {
+                    results.add(onShard(shard, action));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    // 다른 노드에서 변경한 분할 상태를 반영
+    @Scheduled(fixedDelayString = "${datasource.shard-split-sync-millis:1000}")
+    public void sync() {
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        try {
+            topology = topologyOf(splitStore.load());
+        } catch (RuntimeException e) {
+            log.warn("Failed to sync shard split state", e);
+        }
+    }
+
+    public ShardSplitState getSplitState() {
+        return topology.state();
+    }
+
+    public synchronized void beginSplit(String shard) {
+        sync();
+        Topology current = topology;
+
+        if (!shards.contains(shard) || current.ring().getNodes().contains(shard)) {
+            throw new ShardSplitException(ErrorCode.INVALID_SPLIT_SHARD, ErrorCode.INVALID_SPLIT_SHARD.getMessage());
+        }
+        // 이전 분할의 샤드를 설정(pending-shards)에 반영하기 전에 새 분할을 시작하면 이전 샤드가 링에서 빠진다.
+        ShardSplitState state = current.state();
+        if (state.status() == ShardSplitState.Status.FINISHED && !configuredRing.getNodes().contains(state.shard())) {
+            throw new ShardSplitException(ErrorCode.SHARD_SPLIT_IN_PROGRESS, ErrorCode.SHARD_SPLIT_IN_PROGRESS.getMessage());
+        }
+        if (!splitStore.begin(shard)) {
+            throw new ShardSplitException(ErrorCode.SHARD_SPLIT_IN_PROGRESS, ErrorCode.SHARD_SPLIT_IN_PROGRESS.getMessage());
+        }
+
+        sync();
+        log.info("Shard split started: {}", shard);
+    }
+
+    /**
+     * 식당의 쓰기를 막고, 데이터 복사를 시작할 수 있는 시각을 반환합니다.
+     */
+    public synchronized Instant beginMove(long restaurantId) {
+        sync();
+        Topology current = topology;
+
+        if (current.nextRing() == null) {
+            throw new ShardSplitException(ErrorCode.SHARD_SPLIT_NOT_IN_PROGRESS, ErrorCode.SHARD_SPLIT_NOT_IN_PROGRESS.getMessage());
+        }
+        if (current.nextRing().get(restaurantId).equals(current.ring().get(restaurantId))) {
+            throw new ShardSplitException(ErrorCode.RESTAURANT_NOT_MOVABLE, ErrorCode.RESTAURANT_NOT_MOVABLE.getMessage());
+        }
+
+        final long copyableAt = splitStore.markMoving(restaurantId, drainMillis);
+        if (copyableAt < 0) {
+            throw new ShardSplitException(ErrorCode.RESTAURANT_NOT_MOVABLE, ErrorCode.RESTAURANT_NOT_MOVABLE.getMessage());
+        }
+
+        sync();
+        log.info("Restaurant move started: restaurant={}, from={}, to={}", restaurantId, current.ring().get(restaurantId), current.nextRing().get(restaurantId));
+        return Instant.ofEpochMilli(copyableAt);
+    }
+
+    public synchronized void completeMove(long restaurantId) {
+        final long result = splitStore.markMoved(restaurantId);
+        if (result < 0) {
+            throw new ShardSplitException(ErrorCode.RESTAURANT_NOT_MOVING, ErrorCode.RESTAURANT_NOT_MOVING.getMessage());
+        }
+        if (result > 0) {
+            throw new ShardSplitException(ErrorCode.RESTAURANT_MOVE_DRAINING, ErrorCode.RESTAURANT_MOVE_DRAINING.getMessage());
+        }
+
+        sync();
+        log.info("Restaurant move completed: restaurant={}", restaurantId);
+    }
+
+    public synchronized void finishSplit() {
+        final long result = splitStore.finish();
+        if (result < 0) {
+            throw new ShardSplitException(ErrorCode.SHARD_SPLIT_NOT_IN_PROGRESS, ErrorCode.SHARD_SPLIT_NOT_IN_PROGRESS.getMessage());
+        }
+        if (result > 0) {
+            throw new ShardSplitException(ErrorCode.RESTAURANT_MOVE_REMAINING, ErrorCode.RESTAURANT_MOVE_REMAINING.getMessage());
+        }
+
+        sync();
+        log.info("Shard split finished: {}", topology.ring().getNodes());
+    }
+
+    private Topology topologyOf(ShardSplitState state) {
+        final String shard = state.shard();
+        if (shard == null || !shards.contains(shard)) {
+            return new Topology(configuredRing, null, state);
+        }
+
+        return switch (state.status()) {
+            case SPLITTING -> new Topology(configuredRing, configuredRing.withNode(shard), state);
+            case FINISHED -> new Topology(configuredRing.withNode(shard), null, state);
+            case NONE -> new Topology(configuredRing, null, state);
+        };
+    }
+
+    private <T> T onShard(@Nullable String shard, Supplier<T> action) {
+        final String previous = ShardContext.current();
+        ShardContext.set(shard);
+
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    // 현재 링, 분할 중인 경우 다음 링, 링을 구성한 분할 상태 (함께 교체하여 한 시점의 값을 읽는다)
+    private record Topology(ConsistentHashRing ring, @Nullable ConsistentHashRing nextRing, ShardSplitState state) {
+
+        String shardFor(long restaurantId, ShardSplitState restaurantState) {
+            if (nextRing != null && restaurantState.isMoved(restaurantId)) {
+                return nextRing.get(restaurantId);
+            }
+
+            return ring.get(restaurantId);
+        }
+    }
+}
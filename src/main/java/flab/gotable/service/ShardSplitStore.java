@@ -0,0 +1,38 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.shard.ShardSplitState;
+
+/**
+ * 샤드 분할 상태를 모든 노드가 공유하는 저장소
+ * 상태 변경은 ShardRouter를 통해서만 호출합니다.
+ */
+public interface ShardSplitStore {
+    ShardSplitState load();
+
+    /**
+     * 분할 단계와 해당 식당의 이동 상태만 조회합니다. (쓰기 요청마다 호출)
+     */
+    ShardSplitState load(long restaurantId);
+
+    /**
+     * @return 다른 분할이 진행 중이면 false
+     */
+    boolean begin(String shard);
+
+    /**
+     * 식당을 이동 중으로 표시하고, 진행 중인 쓰기가 끝나 데이터 복사를 시작할 수 있는 시각(epoch ms)을 반환합니다.
+     * 이미 이동 중이면 처음 표시한 시각을 반환합니다.
+     * @return 분할 중이 아니거나 이미 이동한 식당이면 -1
+     */
+    long markMoving(long restaurantId, long drainMillis);
+
+    /**
+     * @return 이동 완료 시 0, 이동 중이 아닌 식당이면 -1, 복사를 시작할 수 있는 시각 전이면 남은 시간(ms)
+     */
+    long markMoved(long restaurantId);
+
+    /**
+     * @return 분할 완료 시 0, 분할 중이 아니면 -1, 이동 중인 식당이 남아있으면 그 수
+     */
+    long finish();
+}
@@ -0,0 +1,45 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.StoreAccessDeniedException;
+import flab.gotable.mapper.MemberMapper;
+import flab.gotable.mapper.StoreMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/*
+* [식당 관리 기능의 권한 확인]
+* 식당의 예약 현황(회원 seq 포함)과 스케줄은 해당 식당의 점주(restaurant.owner_member_seq)와 관리자(member.role = ADMIN)만 조회/변경할 수 있습니다.
+* 샤드 분할처럼 식당 전체에 영향을 주는 기능은 관리자만 사용할 수 있습니다.
+* 회원 정보는 기본 데이터소스, 식당 정보는 식당의 샤드에서 조회합니다.
+* */
+@Service
+@RequiredArgsConstructor
+public class StoreAuthorizationService {
+
+    private final MemberMapper memberMapper;
+    private final StoreMapper storeMapper;
+    private final ShardRouter shardRouter;
+
+    /**
+     * 회원이 식당의 점주나 관리자가 아니면 StoreAccessDeniedException을 발생시킵니다.
+     */
+    public void checkManageable(long restaurantId, long memberSeq) {
+        if (memberMapper.isAdmin(memberSeq)) {
+            return;
+        }
+
+        if (!shardRouter.route(restaurantId, () -> storeMapper.isStoreOwner(restaurantId, memberSeq))) {
+            throw new StoreAccessDeniedException(ErrorCode.STORE_ACCESS_DENIED, ErrorCode.STORE_ACCESS_DENIED.getMessage());
+        }
+    }
+
+    /**
+     * 회원이 관리자가 아니면 StoreAccessDeniedException을 발생시킵니다.
+     */
+    public void checkAdmin(long memberSeq) {
+        if (!memberMapper.isAdmin(memberSeq)) {
+            throw new StoreAccessDeniedException(ErrorCode.ADMIN_ACCESS_DENIED, ErrorCode.ADMIN_ACCESS_DENIED.getMessage());
+        }
+    }
+}
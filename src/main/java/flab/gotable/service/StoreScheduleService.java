@@ -0,0 +1,254 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.SpecificSchedule;
+import flab.gotable.dto.request.StoreScheduleRequestDto;
+import flab.gotable.dto.response.StoreScheduleResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.InvalidScheduleException;
+import flab.gotable.exception.StoreNotFoundException;
+import flab.gotable.mapper.ScheduleMapper;
+import flab.gotable.mapper.StoreMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/*
+* [스케줄을 한 번에 교체하는 이유]
+* 계절마다 바뀌는 영업 시간과 수천 개의 휴일/특수 영업일을 한 건씩 수정하면 요청 수만큼 트랜잭션이 생기고, 중간에 실패하면 일부만 반영됩니다.
+* 요청에는 한 주의 일반 영업 스케줄과 오늘 이후의 특수 영업 스케줄 전체를 담고, 현재 스케줄과 비교하여 달라진 행만 한 트랜잭션에서 반영합니다.
+* - 추가/변경된 행은 batch-size 건씩 다중 행 upsert, 요청에 없는 행은 batch-size 건씩 삭제
+* - 식당 버전을 올리면서 식당 행을 배타 잠금하므로 같은 식당의 스케줄 변경은 차례로 실행됩니다.
+*   이 잠금은 커밋까지 같은 식당의 예약(식당 행 FOR UPDATE, 스케줄 FOR SHARE 조회)도 기다리게 하므로, 달라진 행만 반영하여 트랜잭션을 짧게 유지합니다.
+*   다른 식당의 스케줄 변경과 예약은 기다리지 않습니다.
+* - 필드가 빠진 요청({})이나 일반 영업 스케줄이 없는 요청은 모든 스케줄을 지우게 되므로 거절합니다.
+* - 예약 가능 현황은 스케줄이 달라진 날짜의 행만 삭제하여 다음 조회 시 다시 계산합니다.
+* upsert는 daily_schedule (id, day), specific_schedule (id, date) 기본 키로 기존 행을 찾고 잠금은 restaurant.version을 사용하므로,
+* 시작할 때 모든 샤드에 이 키와 컬럼이 있는지 확인하고 없으면 스케줄을 중복 저장하지 않도록 애플리케이션을 시작하지 않습니다.
+*
+* 지난 특수 영업 스케줄은 예약과 상세 조회에 사용되지 않으므로 retention-days가 지나면 배치 단위로 삭제합니다.
+* */
+@Service
+@Slf4j
+public class StoreScheduleService {
+    private static final String PURGE_LOCK_KEY = "gotable:schedule:purge:lock";
+
+    // 락을 획득한 노드만 해제 (삭제가 락 유지 시간을 넘겨 다른 노드가 다시 획득한 락은 지우지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ScheduleMapper scheduleMapper;
+    private final StoreMapper storeMapper;
+    private final AvailabilityService availabilityService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readCommittedTransactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final int batchSize;
+    private final long retentionDays;
+
+    public StoreScheduleService(ScheduleMapper scheduleMapper,
+                                StoreMapper storeMapper,
+                                AvailabilityService availabilityService,
+                                ShardRouter shardRouter,
+                                TransactionTemplate readCommittedTransactionTemplate,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Value("${schedule.batch-size:500}") int batchSize,
+                                @Value("${schedule.retention-days:30}") long retentionDays) {
+        this.scheduleMapper = scheduleMapper;
+        this.storeMapper = storeMapper;
+        this.availabilityService = availabilityService;
+        this.shardRouter = shardRouter;
+        this.readCommittedTransactionTemplate = readCommittedTransactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void validateSchema() {
+        shardRouter.forEachShard(() -> {
+            requirePrimaryKey("daily_schedule", List.of("id", "day"));
+            requirePrimaryKey("specific_schedule", List.of("id", "date"));
+
+            if (!scheduleMapper.hasColumn("restaurant", "version")) {
+                throw new IllegalStateException("Schedule updates require the restaurant.version column");
+            }
+
+            return null;
+        });
+    }
+
+    public StoreScheduleResponseDto updateSchedules(long restaurantId, StoreScheduleRequestDto storeScheduleRequestDto) {
+        final LocalDate today = LocalDate.now();
+
+        // 필드가 빠지거나 일반 영업 스케줄이 비어있는 요청으로 기존 스케줄을 모두 삭제하지 않도록 한다.
+        if (storeScheduleRequestDto.getDailySchedules() == null || storeScheduleRequestDto.getSpecificSchedules() == null
+                || storeScheduleRequestDto.getDailySchedules().isEmpty()) {
+            throw new InvalidScheduleException(ErrorCode.EMPTY_SCHEDULE, ErrorCode.EMPTY_SCHEDULE.getMessage());
+        }
+
+        final Map<DayOfWeek, DailySchedule> dailySchedules = toMap(storeScheduleRequestDto.getDailySchedules(), DailySchedule::getDay);
+        final Map<LocalDate, SpecificSchedule> specificSchedules = toMap(storeScheduleRequestDto.getSpecificSchedules(), SpecificSchedule::getDate);
+
+        dailySchedules.values().forEach(schedule -> validate(schedule.getOpenTime(), schedule.getCloseTime(), schedule.getSplitTime()));
+        for (SpecificSchedule schedule : specificSchedules.values()) {
+            validate(schedule.getOpenTime(), schedule.getCloseTime(), schedule.getSplitTime());
+
+            // 지난 날짜의 스케줄은 변경할 수 없음
+            if (schedule.getDate().isBefore(today)) {
+                throw new InvalidScheduleException(ErrorCode.PAST_SCHEDULE_DATE, ErrorCode.PAST_SCHEDULE_DATE.getMessage());
+            }
+        }
+
+        return shardRouter.routeWrite(restaurantId, () -> readCommittedTransactionTemplate.execute(status -> {
+            // 식당 행을 잠근 뒤 현재 스케줄을 읽어 동시에 변경된 스케줄을 덮어쓰지 않도록 한다.
+            if (scheduleMapper.increaseRestaurantVersion(restaurantId) == 0) {
+                throw new StoreNotFoundException(ErrorCode.STORE_NOT_FOUND, ErrorCode.STORE_NOT_FOUND.getMessage());
+            }
+
+            final Map<DayOfWeek, DailySchedule> currentDailySchedules = toMap(storeMapper.findDailyScheduleByStoreId(restaurantId), DailySchedule::getDay);
+            final Map<LocalDate, SpecificSchedule> currentSpecificSchedules = toMap(scheduleMapper.findSpecificSchedulesFrom(restaurantId, today), SpecificSchedule::getDate);
+
+            final List<DailySchedule> changedDailySchedules = dailySchedules.values().stream()
+                    .filter(schedule -> !isSameDailySchedule(schedule, currentDailySchedules.get(schedule.getDay())))
+                    .toList();
+            final List<DayOfWeek> removedDays = currentDailySchedules.keySet().stream()
+                    .filter(day -> !dailySchedules.containsKey(day))
+                    .toList();
+            final List<SpecificSchedule> changedSpecificSchedules = specificSchedules.values().stream()
+                    .filter(schedule -> !isSameSpecificSchedule(schedule, currentSpecificSchedules.get(schedule.getDate())))
+                    .toList();
+            final List<LocalDate> removedDates = currentSpecificSchedules.keySet().stream()
+                    .filter(date -> !specificSchedules.containsKey(date))
+                    .toList();
+
+            inBatches(restaurantId, changedDailySchedules, scheduleMapper::upsertDailySchedules);
+            inBatches(restaurantId, changedSpecificSchedules, scheduleMapper::upsertSpecificSchedules);
+            inBatches(restaurantId, removedDays, scheduleMapper::deleteDailySchedules);
+            inBatches(restaurantId, removedDates, scheduleMapper::deleteSpecificSchedules);
+
+            // 특수 영업 스케줄이 바뀐 날짜와, 특수 영업 스케줄이 없으면서 일반 영업 스케줄이 바뀐 요일의 날짜
+            final Set<LocalDate> changedDates = new HashSet<>(removedDates);
+            changedSpecificSchedules.forEach(schedule -> changedDates.add(schedule.getDate()));
+            final Set<DayOfWeek> changedDays = new HashSet<>(removedDays);
+            changedDailySchedules.forEach(schedule -> changedDays.add(schedule.getDay()));
+
+            int invalidated = availabilityService.invalidate(restaurantId, today, date ->
+                    changedDates.contains(date) || (changedDays.contains(date.getDayOfWeek()) && !specificSchedules.containsKey(date)));
+
+            final int upserted = changedDailySchedules.size() + changedSpecificSchedules.size();
+            final int deleted = removedDays.size() + removedDates.size();
+            final long version = scheduleMapper.findRestaurantVersion(restaurantId);
+            log.info("Schedules updated: restaurant={}, version={}, upserted={}, deleted={}, invalidated={}", restaurantId, version, upserted, deleted, invalidated);
+
+            return new StoreScheduleResponseDto(restaurantId, version, upserted, deleted, invalidated);
+        }));
+    }
+
+    @Scheduled(cron = "${schedule.purge-cron:0 30 4 * * *}")
+    public void scheduledPurge() {
+        // 여러 노드 중 한 노드만 실행
+        final String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(PURGE_LOCK_KEY, owner, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            final LocalDate before = LocalDate.now().minusDays(retentionDays);
+            int purged = shardRouter.forEachShard(() -> purgeExpired(before)).stream().mapToInt(Integer::intValue).sum();
+
+            log.info("Specific schedule purge finished: {} rows before {}", purged, before);
+        } finally {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(PURGE_LOCK_KEY), owner);
+        }
+    }
+
+    // before 이전 날짜의 특수 영업 스케줄을 batch-size 건씩 삭제하고 삭제한 행 수를 반환 (현재 샤드에서 실행)
+    public int purgeExpired(LocalDate before) {
+        int purged = 0;
+        int batch;
+
+        do {
+            batch = scheduleMapper.deleteSpecificSchedulesBefore(before, batchSize);
+            purged += batch;
+        } while (batch == batchSize);
+
+        return purged;
+    }
+
+    private void requirePrimaryKey(String tableName, List<String> columns) {
+        List<String> primaryKey = scheduleMapper.findPrimaryKeyColumns(tableName).stream().map(String::toLowerCase).toList();
+
+        if (!primaryKey.equals(columns)) {
+            throw new IllegalStateException("Schedule upserts require " + tableName + " primary key " + columns + " but found " + primaryKey);
+        }
+    }
+
+    private void validate(LocalTime openTime, LocalTime closeTime, Long splitTime) {
+        if (openTime == null || closeTime == null || splitTime == null || !openTime.isBefore(closeTime) || splitTime <= 0) {
+            throw new InvalidScheduleException(ErrorCode.INVALID_SCHEDULE, ErrorCode.INVALID_SCHEDULE.getMessage());
+        }
+    }
+
+    // 같은 요일 또는 날짜가 중복되면 예외
+    private <K, V> Map<K, V> toMap(List<V> schedules, Function<V, K> keyMapper) {
+        Map<K, V> map = new HashMap<>();
+
+        for (V schedule : schedules) {
+            final K key = keyMapper.apply(schedule);
+
+            if (key == null || map.put(key, schedule) != null) {
+                throw new InvalidScheduleException(ErrorCode.DUPLICATED_SCHEDULE, ErrorCode.DUPLICATED_SCHEDULE.getMessage());
+            }
+        }
+
+        return map;
+    }
+
+    // 한 문장이 너무 많은 행을 잠그거나 너무 길어지지 않도록 batch-size 건씩 실행
+    private <T> void inBatches(long restaurantId, List<T> rows, BiFunction<Long, List<T>, Integer> statement) {
+        for (int i = 0; i < rows.size(); i += batchSize) {
+            statement.apply(restaurantId, rows.subList(i, Math.min(i + batchSize, rows.size())));
+        }
+    }
+
+    private boolean isSameDailySchedule(DailySchedule schedule, DailySchedule current) {
+        return current != null
+                && schedule.getOpenTime().equals(current.getOpenTime())
+                && schedule.getCloseTime().equals(current.getCloseTime())
+                && Objects.equals(schedule.getSplitTime(), current.getSplitTime());
+    }
+
+    private boolean isSameSpecificSchedule(SpecificSchedule schedule, SpecificSchedule current) {
+        return current != null
+                && schedule.getOpenTime().equals(current.getOpenTime())
+                && schedule.getCloseTime().equals(current.getCloseTime())
+                && Objects.equals(schedule.getSplitTime(), current.getSplitTime());
+    }
+}
@@ -20,34 +20,44 @@ import java.util.*;
 @RequiredArgsConstructor
 public class StoreService {
     private final StoreMapper storeMapper;
+    private final ShardRouter shardRouter;
 
-    @Transactional
+    // 트랜잭션의 커넥션은 첫 쿼리 시점에 결정되므로 쿼리 전에 식당의 샤드를 지정한다.
+    @Transactional(readOnly = true)
     public boolean existById(Long id) {
-        return storeMapper.findStoreById(id) != null;
+        return shardRouter.route(id, () -> storeMapper.findStoreById(id) != null);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public StoreDetailsResponseDto getStoreDetail(Long id) {
+        return shardRouter.route(id, () -> loadStoreDetail(id));
+    }
+
+    private StoreDetailsResponseDto loadStoreDetail(Long id) {
         // 식당 기본 정보 조회
         final Store store = Optional.ofNullable(storeMapper.findStoreById(id)).orElseThrow(() -> new StoreNotFoundException(ErrorCode.STORE_NOT_FOUND, ErrorCode.STORE_NOT_FOUND.getMessage()));
 
-        // 영업 스케줄 정보 조회
-        final List<DailySchedule> dailySchedules = storeMapper.findDailyScheduleByStoreId(id);
-        final List<SpecificSchedule> specificSchedules = storeMapper.findSpecificScheduleByStoreId(id);
+        // 예약 가능 기간 (휴무일을 포함한 달력 기준 일수이며, 예약 가능 현황의 재계산 기간과 같다.)
+        final LocalDate today = LocalDate.now();
+        final LocalDate lastAvailableDate = store.getLastAvailableDate(today);
+
+        // 영업 스케줄 정보 조회 (특수 영업 스케줄은 예약 가능 기간의 날짜만 조회)
+        final List<DailySchedule> dailyScheduleList = storeMapper.findDailyScheduleByStoreId(id);
+        final Map<DayOfWeek, DailySchedule> dailySchedules = new EnumMap<>(DayOfWeek.class);
+        dailyScheduleList.forEach(schedule -> dailySchedules.put(schedule.getDay(), schedule));
+
+        final Map<LocalDate, SpecificSchedule> specificSchedules = new HashMap<>();
+        storeMapper.findSpecificScheduleByStoreId(id, today, lastAvailableDate).forEach(schedule -> specificSchedules.put(schedule.getDate(), schedule));
 
         // 예약 가능 날짜
         Map<String, DayInfo> availableDays = new HashMap<>();
-        int daysAdded = 0;
-
-        for (int i = 0; daysAdded < store.getMaxAvailableDay(); i++) {
-            LocalDate targetDate = LocalDate.now().plusDays(i);
 
+        for (LocalDate targetDate = today; !targetDate.isAfter(lastAvailableDate); targetDate = targetDate.plusDays(1)) {
             // 해당 날짜의 영업 스케줄 결정
             final WorkSchedule workSchedule = getWorkSchedule(targetDate, specificSchedules, dailySchedules);
             final Long splitTime = getSplitTime(targetDate, specificSchedules, dailySchedules);
 
             if (workSchedule != null && splitTime != null) {
-                daysAdded++;
                 // 선택 가능 시간 계산
                 List<String> selectableTimes = calculateSelectableTimes(workSchedule, splitTime);
 
@@ -57,7 +67,7 @@ public class StoreService {
             }
         }
 
-        String openSchedule = calculateOpenSchedule(dailySchedules);
+        String openSchedule = calculateOpenSchedule(dailyScheduleList);
 
         return new StoreDetailsResponseDto(
                 store.getId(),
@@ -71,13 +81,13 @@ public class StoreService {
     }
 
     @Nullable
-    private WorkSchedule getWorkSchedule(LocalDate targetDate, List<SpecificSchedule> specificSchedules, List<DailySchedule> dailySchedules) {
-        final SpecificSchedule specificSchedule = findSpecificSchedule(targetDate, specificSchedules);
+    private WorkSchedule getWorkSchedule(LocalDate targetDate, Map<LocalDate, SpecificSchedule> specificSchedules, Map<DayOfWeek, DailySchedule> dailySchedules) {
+        final SpecificSchedule specificSchedule = specificSchedules.get(targetDate);
         if (specificSchedule != null) {
             return new WorkSchedule(specificSchedule.getOpenTime(), specificSchedule.getCloseTime());
         }
 
-        final DailySchedule dailySchedule =findDailySchedule(targetDate, dailySchedules);
+        final DailySchedule dailySchedule = dailySchedules.get(targetDate.getDayOfWeek());
         if (dailySchedule != null) {
             return new WorkSchedule(dailySchedule.getOpenTime(), dailySchedule.getCloseTime());
         }
@@ -86,13 +96,13 @@ public class StoreService {
     }
 
     @Nullable
-    private Long getSplitTime(LocalDate targetDate, List<SpecificSchedule> specificSchedules, List<DailySchedule> dailySchedules) {
-        final SpecificSchedule specificSchedule = findSpecificSchedule(targetDate, specificSchedules);
+    private Long getSplitTime(LocalDate targetDate, Map<LocalDate, SpecificSchedule> specificSchedules, Map<DayOfWeek, DailySchedule> dailySchedules) {
+        final SpecificSchedule specificSchedule = specificSchedules.get(targetDate);
         if (specificSchedule != null) {
             return specificSchedule.getSplitTime();
         }
 
-        final DailySchedule dailySchedule =findDailySchedule(targetDate, dailySchedules);
+        final DailySchedule dailySchedule = dailySchedules.get(targetDate.getDayOfWeek());
         if (dailySchedule != null) {
             return dailySchedule.getSplitTime();
         }
@@ -100,23 +110,6 @@ public class StoreService {
         return null;
     }
 
-    @Nullable
-    private SpecificSchedule findSpecificSchedule(LocalDate targetDate, List<SpecificSchedule> specificSchedules) {
-        return specificSchedules.stream()
-                .filter(s -> s.getDate().equals(targetDate))
-                .findFirst()
-                .orElse(null);
-    }
-
-    @Nullable
-    private DailySchedule findDailySchedule(LocalDate targetDate, List<DailySchedule> dailySchedules) {
-        DayOfWeek targetDay = targetDate.getDayOfWeek();
-        return dailySchedules.stream()
-                .filter(d -> d.getDay() == targetDay)
-                .findFirst()
-                .orElse(null);
-    }
-
     private String calculateOpenSchedule(List<DailySchedule> dailySchedules) {
         StringBuilder openSchedule = new StringBuilder();
 
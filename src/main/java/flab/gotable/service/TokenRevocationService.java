@@ -0,0 +1,104 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.auth.AuthMode;
+import flab.gotable.domain.event.AuthTokenRevokedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+* [토큰 폐기 목록을 로컬에 두는 이유]
+* 토큰 모드에서는 LoginInterceptor가 I/O 없이 토큰을 검증해야 하므로, 로그아웃된 토큰 id 목록을 각 노드의 메모리에 유지합니다.
+* 폐기 목록은 만료 시각을 score로 갖는 Redis sorted set에 저장되고, pub/sub으로 즉시 전파되며 주기적인 전체 동기화로 누락된 메시지를 보정합니다.
+* 토큰이 만료되면 폐기 목록에서도 제거되므로 목록의 크기는 TTL 내 로그아웃 수로 제한됩니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOKED_TOKEN_KEY = "gotable:auth:revoked";
+    public static final String REVOCATION_CHANNEL = "gotable:auth:revoke";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // tokenId -> expiresAt(epoch second)
+    private final Map<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    @Value("${auth.mode:SESSION}")
+    private AuthMode authMode;
+
+    @PostConstruct
+    public void init() {
+        if (authMode != AuthMode.TOKEN) {
+            return;
+        }
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        synchronize();
+    }
+
+    public boolean isRevoked(long tokenId) {
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    @EventListener
+    public void onRevoke(AuthTokenRevokedEvent event) {
+        final String message = event.getTokenId() + ":" + event.getExpiresAt();
+
+        revokedTokens.put(event.getTokenId(), event.getExpiresAt());
+        stringRedisTemplate.opsForZSet().add(REVOKED_TOKEN_KEY, String.valueOf(event.getTokenId()), event.getExpiresAt());
+        stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] values = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+        if (values.length != 2) {
+            log.warn("Invalid token revocation message: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        revokedTokens.put(Long.parseLong(values[0]), Long.parseLong(values[1]));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.revocation-sync-millis:30000}")
+    public void synchronize() {
+        if (authMode != AuthMode.TOKEN) {
+            return;
+        }
+
+        final long now = Instant.now().getEpochSecond();
+
+        // 만료된 토큰은 검증 단계에서 거부되므로 폐기 목록에서 제거
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKEN_KEY, Double.NEGATIVE_INFINITY, now);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(REVOKED_TOKEN_KEY, now, Double.POSITIVE_INFINITY);
+
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                revokedTokens.put(Long.parseLong(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -0,0 +1,122 @@
+package flab.gotable.service;
+
+import flab.gotable.utils.RequestDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/*
+* [트랜잭션 재시도를 도입한 이유]
+* 비관적 락 경로는 READ_COMMITTED에서 FOR SHARE 조회 후 INSERT를 수행하므로, 동시 요청이 많으면 InnoDB 데드락(1213)이나 락 대기 시간 초과(1205)가 발생할 수 있습니다.
+* 두 에러 모두 트랜잭션 전체를 다시 실행하면 대부분 성공하지만, 지금까지는 500 에러로 사용자에게 전달되어 사용자가 직접 다시 시도해야 했습니다.
+* 이 클래스는 두 에러만 골라 트랜잭션 밖에서 jitter를 적용한 backoff 후 최대 횟수까지 다시 실행하며, 재시도 결과를 집계합니다.
+* 트랜잭션 안에서 호출하면 롤백된 트랜잭션을 재사용하게 되므로 반드시 트랜잭션 경계 밖에서 사용해야 합니다.
+* */
+@Component
+@Slf4j
+public class TransactionRetryExecutor {
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private final int maxAttempts;
+    private final long minBackoffNanos;
+    private final long maxBackoffNanos;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public TransactionRetryExecutor(@Value("${reservation.transaction-retry.max-attempts:3}") int maxAttempts,
+                                    @Value("${reservation.transaction-retry.min-backoff-millis:10}") long minBackoffMillis,
+                                    @Value("${reservation.transaction-retry.max-backoff-millis:200}") long maxBackoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.minBackoffNanos = TimeUnit.MILLISECONDS.toNanos(minBackoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+    }
+
+    /**
+     * action을 실행하고 데드락 또는 락 대기 시간 초과로 실패하면 다시 실행합니다.
+     * action에는 1부터 시작하는 시도 횟수가 전달되므로, 재시도 시 이전 시도의 결과를 확인할 수 있습니다.
+     */
+    public <T> T execute(String name, IntFunction<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.apply(attempt);
+
+                if (attempt > 1) {
+                    recovered.increment();
+                    log.info("Transaction recovered after retry: {}, attempts={}", name, attempt);
+                }
+
+                return result;
+            } catch (RuntimeException e) {
+                final int errorCode = retryableErrorCode(e);
+                if (errorCode == 0) {
+                    throw e;
+                }
+
+                final long backoffNanos = backoffNanos(attempt);
+                if (attempt >= maxAttempts || backoffNanos >= RequestDeadline.remainingNanos()) {
+                    exhausted.increment();
+                    log.warn("Transaction retry exhausted: {}, mysqlError={}, attempts={}", name, errorCode, attempt);
+                    throw e;
+                }
+
+                retries.increment();
+                log.info("Retrying transaction: {}, mysqlError={}, attempt={}", name, errorCode, attempt);
+                sleep(backoffNanos);
+            }
+        }
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    public long getRecoveredCount() {
+        return recovered.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    // 원인 중 MySQL 데드락 또는 락 대기 시간 초과 에러가 있으면 해당 에러 코드, 없으면 0
+    static int retryableErrorCode(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                final int errorCode = sqlException.getErrorCode();
+                if (errorCode == MYSQL_DEADLOCK || errorCode == MYSQL_LOCK_WAIT_TIMEOUT) {
+                    return errorCode;
+                }
+            }
+
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+
+        return 0;
+    }
+
+    private long backoffNanos(int attempt) {
+        final long ceiling = Math.min(maxBackoffNanos, minBackoffNanos << Math.min(attempt, 10));
+
+        return ThreadLocalRandom.current().nextLong(minBackoffNanos, Math.max(minBackoffNanos, ceiling) + 1);
+    }
+
+    private void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry transaction", e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package flab.gotable.service;
+
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.WaitingRoomResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.WaitingRoomException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+* [가상 대기열을 도입한 이유]
+* 인기 식당의 예약이 열리는 순간 수천 명의 사용자가 동시에 POST /reservations를 호출하면 대부분이 하나의 락을 두고 경합하다 실패합니다.
+* 대기열이 운영 중인 식당은 Redis sorted set에 도착 순서대로 사용자를 등록하고, 초당 설정된 인원만 입장 토큰을 발급합니다.
+* ReservationService는 입장 토큰을 가진 요청만 받아들이므로 DB에는 제한된 수의 요청만 꾸준히 도달합니다.
+* */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomService {
+    private static final String ACTIVE_ROOMS_KEY = "gotable:waiting-room:active";
+    private static final String KEY_PREFIX = "gotable:waiting-room:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 예약 요청마다 Redis를 조회하지 않도록 운영 중인 식당 목록을 로컬에 유지
+    private volatile Set<Long> activeRestaurantIds = Set.of();
+
+    @Value("${waiting-room.restaurant-ids:}")
+    private List<Long> configuredRestaurantIds;
+
+    @Value("${waiting-room.admit-per-second:50}")
+    private long admitPerSecond;
+
+    @Value("${waiting-room.admission-ttl-seconds:300}")
+    private long admissionTtlSeconds;
+
+    @PostConstruct
+    public void init() {
+        for (Long restaurantId : configuredRestaurantIds) {
+            stringRedisTemplate.opsForSet().add(ACTIVE_ROOMS_KEY, String.valueOf(restaurantId));
+        }
+        refreshActiveRooms();
+    }
+
+    public boolean isActive(long restaurantId) {
+        return activeRestaurantIds.contains(restaurantId);
+    }
+
+    public WaitingRoomResponseDto join(long restaurantId, long memberSeq) {
+        if (!isActive(restaurantId)) {
+            throw new WaitingRoomException(ErrorCode.WAITING_ROOM_NOT_OPEN, ErrorCode.WAITING_ROOM_NOT_OPEN.getMessage());
+        }
+
+        // 이미 입장한 회원은 대기열에 다시 등록하지 않는다.
+        String admissionToken = stringRedisTemplate.opsForValue().get(admissionKey(restaurantId, memberSeq));
+        if (admissionToken == null) {
+            // 동일 시각 요청의 순서를 보장하기 위해 시각 대신 증가하는 순번을 score로 사용
+            Long sequence = stringRedisTemplate.opsForValue().increment(sequenceKey(restaurantId));
+            stringRedisTemplate.opsForZSet().addIfAbsent(queueKey(restaurantId), String.valueOf(memberSeq), sequence);
+        }
+
+        return getStatus(restaurantId, memberSeq);
+    }
+
+    public WaitingRoomResponseDto getStatus(long restaurantId, long memberSeq) {
+        String admissionToken = stringRedisTemplate.opsForValue().get(admissionKey(restaurantId, memberSeq));
+        if (admissionToken != null) {
+            return new WaitingRoomResponseDto(restaurantId, memberSeq, 0, 0, admissionToken);
+        }
+
+        Long rank = stringRedisTemplate.opsForZSet().rank(queueKey(restaurantId), String.valueOf(memberSeq));
+        if (rank == null) {
+            throw new WaitingRoomException(ErrorCode.WAITING_ROOM_ENTRY_NOT_FOUND, ErrorCode.WAITING_ROOM_ENTRY_NOT_FOUND.getMessage());
+        }
+
+        final long position = rank + 1;
+        // 입장은 1초 단위로 이루어지므로 다음 입장까지 최소 1초를 기다린다.
+        final long estimatedWaitSeconds = (rank / admitPerSecond) + 1;
+
+        return new WaitingRoomResponseDto(restaurantId, memberSeq, position, estimatedWaitSeconds, null);
+    }
+
+    public void validateAdmission(ReservationRequestDto reservationRequestDto) {
+        final long restaurantId = reservationRequestDto.getRestaurantId();
+
+        if (!isActive(restaurantId)) {
+            return;
+        }
+
+        final String admissionToken = reservationRequestDto.getAdmissionToken();
+        final String issuedToken = admissionToken == null ? null
+                : stringRedisTemplate.opsForValue().get(admissionKey(restaurantId, reservationRequestDto.getMemberSeq()));
+
+        if (issuedToken == null || !issuedToken.equals(admissionToken)) {
+            throw new WaitingRoomException(ErrorCode.ADMISSION_TOKEN_INVALID, ErrorCode.ADMISSION_TOKEN_INVALID.getMessage());
+        }
+    }
+
+    // 예약에 성공한 입장 토큰은 재사용할 수 없도록 폐기
+    public void consumeAdmission(ReservationRequestDto reservationRequestDto) {
+        if (isActive(reservationRequestDto.getRestaurantId())) {
+            stringRedisTemplate.delete(admissionKey(reservationRequestDto.getRestaurantId(), reservationRequestDto.getMemberSeq()));
+        }
+    }
+
+    // 입장 인원은 초 단위 tick 키로 제한되므로 주기를 바꿔도 초당 입장 인원은 늘지 않는다.
+    @Scheduled(fixedRateString = "${waiting-room.admit-interval-millis:1000}")
+    public void admit() {
+        refreshActiveRooms();
+
+        final long epochSecond = Instant.now().getEpochSecond();
+
+        for (Long restaurantId : activeRestaurantIds) {
+            // 여러 노드 중 한 노드만 초당 입장 인원을 발급한다.
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + restaurantId + ":tick:" + epochSecond, "1", Duration.ofSeconds(2));
+
+            if (!Boolean.TRUE.equals(acquired)) {
+                continue;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> admitted = stringRedisTemplate.opsForZSet().popMin(queueKey(restaurantId), admitPerSecond);
+            if (admitted == null) {
+                continue;
+            }
+
+            for (ZSetOperations.TypedTuple<String> member : admitted) {
+                stringRedisTemplate.opsForValue().set(admissionKey(restaurantId, Long.parseLong(member.getValue())),
+                        UUID.randomUUID().toString(), Duration.ofSeconds(admissionTtlSeconds));
+            }
+        }
+    }
+
+    private void refreshActiveRooms() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_ROOMS_KEY);
+
+        activeRestaurantIds = members == null ? Set.of()
+                : members.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private String queueKey(long restaurantId) {
+        return KEY_PREFIX + restaurantId + ":queue";
+    }
+
+    private String sequenceKey(long restaurantId) {
+        return KEY_PREFIX + restaurantId + ":sequence";
+    }
+
+    private String admissionKey(long restaurantId, long memberSeq) {
+        return KEY_PREFIX + restaurantId + ":admission:" + memberSeq;
+    }
+}
@@ -0,0 +1,112 @@
+package flab.gotable.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간의 p99를 기준으로 동시 처리 한도를 조절하는 AIMD 방식의 limiter
+ * 엔드포인트 분류별로 p99를 측정하여 목표 응답 시간을 초과하면 한도를 비율만큼 줄이고,
+ * 목표 이내이면서 한도의 절반 이상을 사용 중이면 한도를 1씩 늘립니다.
+ * 분류별 admissionRatio로 한도를 나누어 사용하므로 한도가 줄어들면 조회 요청부터 차단됩니다.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private static final int WINDOW_SIZE = 100;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Map<EndpointClass, Long> targetP99Nanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<EndpointClass, AtomicInteger> inFlightByClass = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, LatencyWindow> windows = new EnumMap<>(EndpointClass.class);
+
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Map<EndpointClass, Long> targetP99Millis) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetP99Nanos = new EnumMap<>(EndpointClass.class);
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            this.targetP99Nanos.put(endpointClass, TimeUnit.MILLISECONDS.toNanos(targetP99Millis.get(endpointClass)));
+            this.inFlightByClass.put(endpointClass, new AtomicInteger());
+            this.windows.put(endpointClass, new LatencyWindow());
+        }
+    }
+
+    public boolean tryAcquire(EndpointClass endpointClass) {
+        if (inFlight.incrementAndGet() > limit * endpointClass.getAdmissionRatio()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+
+        inFlightByClass.get(endpointClass).incrementAndGet();
+        return true;
+    }
+
+    // SSE처럼 응답 시간이 의미 없는 요청은 latencyNanos에 음수를 전달해 측정에서 제외한다.
+    public void release(EndpointClass endpointClass, long latencyNanos) {
+        final int inFlightAtRelease = inFlight.getAndDecrement();
+        inFlightByClass.get(endpointClass).decrementAndGet();
+
+        if (latencyNanos < 0) {
+            return;
+        }
+
+        long p99 = windows.get(endpointClass).record(latencyNanos);
+        if (p99 >= 0) {
+            adjust(endpointClass, p99, inFlightAtRelease);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight(EndpointClass endpointClass) {
+        return inFlightByClass.get(endpointClass).get();
+    }
+
+    private synchronized void adjust(EndpointClass endpointClass, long p99Nanos, int inFlightAtRelease) {
+        final double previous = limit;
+
+        if (p99Nanos > targetP99Nanos.get(endpointClass)) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlightAtRelease * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        if ((int) previous != (int) limit) {
+            log.info("Concurrency limit changed: {} -> {} ({} p99 {}ms)", (int) previous, (int) limit,
+                    endpointClass, TimeUnit.NANOSECONDS.toMillis(p99Nanos));
+        }
+    }
+
+    private static class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+
+        // 구간이 채워지면 p99를 반환하고 새 구간을 시작한다. 채워지지 않았으면 -1
+        synchronized long record(long latencyNanos) {
+            samples[count++] = latencyNanos;
+
+            if (count < WINDOW_SIZE) {
+                return -1;
+            }
+
+            count = 0;
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+
+            return sorted[(int) Math.ceil(WINDOW_SIZE * 0.99) - 1];
+        }
+    }
+}
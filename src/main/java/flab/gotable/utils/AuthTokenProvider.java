@@ -0,0 +1,104 @@
+package flab.gotable.utils;
+
+import flab.gotable.domain.auth.AuthToken;
+import org.springframework.lang.Nullable;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 회원 seq, 만료 시각, 토큰 id를 HMAC-SHA256으로 서명한 토큰을 발급하고 검증하는 클래스
+ * 토큰 형식: base64url(version | memberSeq | expiresAt | tokenId) + "." + base64url(signature)
+ */
+public class AuthTokenProvider {
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES * 3;
+
+    private final SecretKeySpec secretKey;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    // Mac은 thread-safe 하지 않고 생성 비용이 커서 스레드별로 재사용한다.
+    private final ThreadLocal<Mac> macs;
+
+    public AuthTokenProvider(byte[] secret, Duration ttl) {
+        this.secretKey = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    public String issue(long memberSeq) {
+        final long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .put(VERSION)
+                .putLong(memberSeq)
+                .putLong(expiresAt)
+                .putLong(secureRandom.nextLong())
+                .array();
+
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    @Nullable
+    public AuthToken verify(String token) {
+        final int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+
+        final byte[] payload;
+        final byte[] signature;
+        try {
+            payload = decoder.decode(token.substring(0, separator));
+            signature = decoder.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // 서명 비교는 타이밍 공격을 피하기 위해 상수 시간으로 수행
+        if (payload.length != PAYLOAD_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.get() != VERSION) {
+            return null;
+        }
+
+        AuthToken authToken = new AuthToken(buffer.getLong(), buffer.getLong(), buffer.getLong());
+
+        // 만료된 토큰
+        if (authToken.getExpiresAt() <= Instant.now().getEpochSecond()) {
+            return null;
+        }
+
+        return authToken;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
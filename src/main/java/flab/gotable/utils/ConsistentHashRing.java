@@ -0,0 +1,78 @@
+package flab.gotable.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 사용하는 consistent hash ring (불변)
+ * 노드마다 virtualNodes개의 위치를 링에 배치하고, 키는 해시 값 이후의 첫 위치에 해당하는 노드에 할당됩니다.
+ * 노드를 추가하면 새 노드의 위치 직전 구간에 속한 키만 이동하므로 전체 키의 약 1/N만 재배치됩니다.
+ */
+public final class ConsistentHashRing {
+    private final int virtualNodes;
+    private final Set<String> nodes;
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+        this.nodes = Set.copyOf(new LinkedHashSet<>(nodes));
+
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    public ConsistentHashRing withNode(String node) {
+        Set<String> next = new LinkedHashSet<>(nodes);
+        next.add(node);
+
+        return new ConsistentHashRing(next, virtualNodes);
+    }
+
+    public String get(long key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("Consistent hash ring has no nodes");
+        }
+
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+
+        return entry == null ? ring.firstEntry().getValue() : entry.getValue();
+    }
+
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    // 연속된 id(식당 id)가 링에 고르게 퍼지도록 섞는다. (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+
+        return key;
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
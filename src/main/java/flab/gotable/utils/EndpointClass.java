@@ -0,0 +1,39 @@
+package flab.gotable.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 차단 시 우선순위를 결정하는 엔드포인트 분류
+ * admissionRatio: 전체 동시 처리 한도 중 해당 분류가 사용할 수 있는 비율 (낮을수록 먼저 차단된다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EndpointClass {
+    RESERVATION_WRITE(1.0),
+    STORE_WRITE(0.9),
+    MEMBER(0.9),
+    BROWSE(0.75);
+
+    private final double admissionRatio;
+
+    public static EndpointClass of(HttpServletRequest request) {
+        final String uri = request.getRequestURI();
+
+        if (uri.startsWith("/reservations") && !"GET".equals(request.getMethod())) {
+            return RESERVATION_WRITE;
+        }
+
+        // 스케줄 변경 등 식당 관리 요청은 조회보다 먼저 차단되지 않도록 쓰기로 분류
+        if (uri.startsWith("/stores") && !"GET".equals(request.getMethod())) {
+            return STORE_WRITE;
+        }
+
+        if (uri.startsWith("/members")) {
+            return MEMBER;
+        }
+
+        return BROWSE;
+    }
+}
@@ -0,0 +1,186 @@
+package flab.gotable.utils;
+
+/**
+ * 반열린 구간 [start, end)을 보관하는 AVL 기반 interval tree
+ * 노드마다 하위 트리의 최대 end를 유지하므로 겹침 여부를 O(log n)에 확인할 수 있습니다.
+ * 같은 start를 가진 구간은 id로 구분하며, 같은 id의 구간을 다시 추가하면 무시합니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class IntervalTree {
+    private Node root;
+    private int size;
+
+    public boolean add(long id, long start, long end) {
+        final int before = size;
+        root = insert(root, id, start, end);
+        return size != before;
+    }
+
+    public boolean remove(long id, long start) {
+        final int before = size;
+        root = delete(root, id, start);
+        return size != before;
+    }
+
+    // [start, end)와 겹치는 구간이 있는지 확인
+    public boolean overlaps(long start, long end) {
+        Node node = root;
+
+        while (node != null) {
+            if (node.start < end && node.end > start) {
+                return true;
+            }
+
+            // 왼쪽 하위 트리의 최대 end가 start보다 크면 겹치는 구간은 왼쪽에만 있을 수 있다.
+            if (node.left != null && node.left.maxEnd > start) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Node insert(Node node, long id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(id, start, end);
+        }
+
+        final int compare = compare(start, id, node);
+        if (compare == 0) {
+            return node;
+        }
+
+        if (compare < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else {
+            node.right = insert(node.right, id, start, end);
+        }
+
+        return balance(node);
+    }
+
+    private Node delete(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+
+        final int compare = compare(start, id, node);
+        if (compare < 0) {
+            node.left = delete(node.left, id, start);
+        } else if (compare > 0) {
+            node.right = delete(node.right, id, start);
+        } else {
+            size--;
+
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+
+            // 오른쪽 하위 트리의 가장 작은 노드로 대체
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private int compare(long start, long id, Node node) {
+        final int compare = Long.compare(start, node.start);
+        return compare != 0 ? compare : Long.compare(id, node.id);
+    }
+
+    private Node balance(Node node) {
+        update(node);
+        final int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static long maxEnd(Node node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    private static class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
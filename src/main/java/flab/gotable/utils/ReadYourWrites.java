@@ -0,0 +1,24 @@
+package flab.gotable.utils;
+
+/**
+ * 현재 요청이 primary DB에서 조회해야 하는지를 요청 스레드에 보관하는 유틸리티
+ * 예약 직후에는 replica에 아직 반영되지 않은 본인의 예약이 조회되지 않을 수 있으므로 잠시 동안 primary에서 조회합니다.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,33 @@
+package flab.gotable.utils;
+
+import java.time.Duration;
+
+/**
+ * HTTP 요청의 처리 기한을 요청 스레드에 보관하는 유틸리티
+ * 기한이 설정되지 않은 스레드(비동기 워커 등)는 기한이 없는 것으로 간주합니다.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration budget) {
+        DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    // 기한까지 남은 시간(ns). 기한이 없으면 Long.MAX_VALUE
+    public static long remainingNanos() {
+        Long deadlineNanos = DEADLINE_NANOS.get();
+
+        return deadlineNanos == null ? Long.MAX_VALUE : deadlineNanos - System.nanoTime();
+    }
+}
@@ -1,12 +1,16 @@
 package flab.gotable.utils;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 
 import static flab.gotable.service.LoginService.MEMBER_ID;
 
 public class SecurityUtils {
     public static boolean hasAuthentication(HttpServletRequest request) {
-        if(request.getSession().getAttribute(MEMBER_ID) == null) {
+        // 인증 확인만으로 새로운 세션이 생성되지 않도록 기존 세션만 조회
+        HttpSession session = request.getSession(false);
+
+        if(session == null || session.getAttribute(MEMBER_ID) == null) {
             return false;
         }
         return true;
@@ -0,0 +1,135 @@
+package flab.gotable.utils;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * spring-session 세션 속성을 위한 버전 기반 바이너리 직렬화 클래스
+ * 형식: [version(1byte)][type(1byte)][value]
+ * 세션에 저장되는 String(MEMBER_ID), Long(생성/마지막 접근 시각), Integer(만료 간격), Boolean은 직접 인코딩하고
+ * 그 외 타입은 JDK 직렬화로 대체합니다. 기존 JDK 직렬화 포맷으로 저장된 값도 읽을 수 있습니다.
+ */
+public class SessionAttributeSerializer implements RedisSerializer<Object> {
+    public static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_JDK = 127;
+
+    private static final int HEADER_LENGTH = 2;
+    // JDK 직렬화 스트림의 첫 바이트(STREAM_MAGIC 0xACED)
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    private final RedisSerializer<Object> fallbackSerializer = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        if (value instanceof String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            byte[] result = header(TYPE_STRING, bytes.length);
+            System.arraycopy(bytes, 0, result, HEADER_LENGTH, bytes.length);
+            return result;
+        }
+
+        if (value instanceof Long longValue) {
+            return writeVarLong(TYPE_LONG, longValue);
+        }
+
+        if (value instanceof Integer intValue) {
+            return writeVarLong(TYPE_INTEGER, intValue);
+        }
+
+        if (value instanceof Boolean booleanValue) {
+            byte[] result = header(TYPE_BOOLEAN, 1);
+            result[HEADER_LENGTH] = (byte) (booleanValue ? 1 : 0);
+            return result;
+        }
+
+        byte[] bytes = fallbackSerializer.serialize(value);
+        byte[] result = header(TYPE_JDK, bytes.length);
+        System.arraycopy(bytes, 0, result, HEADER_LENGTH, bytes.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        // 직렬화 방식 변경 이전에 저장된 세션
+        if (bytes[0] == JDK_STREAM_MAGIC) {
+            return fallbackSerializer.deserialize(bytes);
+        }
+
+        if (bytes[0] != VERSION || bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Unsupported session attribute format: " + bytes[0]);
+        }
+
+        return switch (bytes[1]) {
+            case TYPE_STRING -> new String(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+            case TYPE_LONG -> readVarLong(bytes);
+            case TYPE_INTEGER -> (int) readVarLong(bytes);
+            case TYPE_BOOLEAN -> readBoolean(bytes);
+            case TYPE_JDK -> fallbackSerializer.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+            default -> throw new SerializationException("Unsupported session attribute type: " + bytes[1]);
+        };
+    }
+
+    private byte[] header(byte type, int valueLength) {
+        byte[] result = new byte[HEADER_LENGTH + valueLength];
+        result[0] = VERSION;
+        result[1] = type;
+        return result;
+    }
+
+    // 시각(epoch millis)과 같은 값이 8바이트보다 작게 저장되도록 zigzag varint로 인코딩
+    private byte[] writeVarLong(byte type, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        byte[] buffer = new byte[HEADER_LENGTH + 10];
+        int position = HEADER_LENGTH;
+
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+
+        buffer[0] = VERSION;
+        buffer[1] = type;
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private boolean readBoolean(byte[] bytes) {
+        if (bytes.length <= HEADER_LENGTH) {
+            throw new SerializationException("Truncated session attribute value");
+        }
+
+        return bytes[HEADER_LENGTH] != 0;
+    }
+
+    private long readVarLong(byte[] bytes) {
+        long zigzag = 0;
+        int shift = 0;
+
+        for (int position = HEADER_LENGTH; position < bytes.length; position++) {
+            zigzag |= (long) (bytes[position] & 0x7F) << shift;
+            if ((bytes[position] & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            shift += 7;
+        }
+
+        throw new SerializationException("Truncated session attribute value");
+    }
+}
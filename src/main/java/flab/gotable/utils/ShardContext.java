@@ -0,0 +1,27 @@
+package flab.gotable.utils;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 현재 스레드의 쿼리를 보낼 샤드를 보관하는 유틸리티
+ * 샤드가 설정되지 않은 스레드의 쿼리는 공용 DB(회원 등 샤딩하지 않는 데이터)로 전달됩니다.
+ */
+public final class ShardContext {
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static void set(@Nullable String shard) {
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+    }
+
+    @Nullable
+    public static String current() {
+        return SHARD.get();
+    }
+}
@@ -0,0 +1,104 @@
+package flab.gotable.utils;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 증가하는 64비트 id 생성기
+ * 상위 비트부터 부호(1) + EPOCH 이후 경과 시간(41, ms) + 노드 id(10) + 같은 ms 안의 순번(12)으로 구성됩니다.
+ * 시계가 뒤로 가더라도 마지막으로 발급한 시각부터 이어서 발급하고, 순번이 모두 소진되면 다음 ms로 넘어갑니다.
+ * 이렇게 앞서간 논리 시각이 실제 시각보다 maxDriftMillis 이상 앞서면 중복을 막기 위해 발급을 거부합니다.
+ * 노드 id는 유지 시간이 있는 임대(lease)로 할당하며, 임대가 만료되면 다른 노드가 같은 id를 받을 수 있으므로 발급을 중단합니다.
+ */
+public class SnowflakeIdGenerator {
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    // 2024-01-01T00:00:00Z (약 69년 동안 사용 가능)
+    public static final long EPOCH_MILLIS = 1704067200000L;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private final LongSupplier currentMillis;
+    private final LongSupplier nanoTime;
+    private final long maxDriftMillis;
+
+    private int nodeId = -1;
+    private long leaseExpiresAtNanos;
+    // 마지막으로 발급한 id의 시각 (EPOCH 기준 ms)
+    private long lastTimestamp = -1;
+    private long sequence = MAX_SEQUENCE;
+
+    public SnowflakeIdGenerator(long maxDriftMillis) {
+        this(System::currentTimeMillis, System::nanoTime, maxDriftMillis);
+    }
+
+    public SnowflakeIdGenerator(LongSupplier currentMillis, LongSupplier nanoTime, long maxDriftMillis) {
+        this.currentMillis = currentMillis;
+        this.nanoTime = nanoTime;
+        this.maxDriftMillis = maxDriftMillis;
+    }
+
+    public synchronized long nextId() {
+        if (nodeId < 0 || nanoTime.getAsLong() - leaseExpiresAtNanos >= 0) {
+            throw new IllegalStateException("Node id lease is not held");
+        }
+
+        final long now = currentMillis.getAsLong() - EPOCH_MILLIS;
+        long timestamp = lastTimestamp;
+        long nextSequence = sequence + 1;
+
+        if (now > timestamp) {
+            timestamp = now;
+            nextSequence = 0;
+        } else if (nextSequence > MAX_SEQUENCE) {
+            timestamp++;
+            nextSequence = 0;
+        }
+
+        if (timestamp - now > maxDriftMillis) {
+            throw new IllegalStateException("Clock moved backwards or id rate exceeded, " + (timestamp - now) + "ms ahead of the clock");
+        }
+
+        lastTimestamp = timestamp;
+        sequence = nextSequence;
+
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | nextSequence;
+    }
+
+    // 이전에 같은 노드 id를 사용한 노드가 마지막으로 발급한 시각 이후부터 발급 (기록이 없으면 -1)
+    public synchronized void assign(int nodeId, long previousLastTimestamp, long leaseStartNanos, long leaseMillis) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+        this.lastTimestamp = Math.max(lastTimestamp, previousLastTimestamp);
+        this.sequence = MAX_SEQUENCE;
+        renew(leaseStartNanos, leaseMillis);
+    }
+
+    // 임대 유지 시간은 Redis에 요청하기 전 시각부터 계산하여 Redis보다 먼저 만료되도록 한다.
+    public synchronized void renew(long leaseStartNanos, long leaseMillis) {
+        this.leaseExpiresAtNanos = leaseStartNanos + leaseMillis * 1_000_000L;
+    }
+
+    public synchronized void revoke() {
+        this.nodeId = -1;
+    }
+
+    public synchronized int getNodeId() {
+        return nodeId;
+    }
+
+    public synchronized long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
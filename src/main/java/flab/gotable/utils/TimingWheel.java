@@ -0,0 +1,75 @@
+package flab.gotable.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 만료 시각이 정해진 항목을 tick 단위 bucket에 나누어 보관하는 hashed timing wheel
+ * 만료 처리는 지난 tick의 bucket만 확인하므로 전체 항목 수와 무관하게 tick마다 해당 bucket의 항목만 검사합니다.
+ * wheel 한 바퀴보다 늦게 만료되는 항목은 같은 bucket에 남아 있다가 해당 바퀴에서 만료됩니다.
+ */
+public class TimingWheel<T> {
+    private final long tickMillis;
+    private final List<Entry<T>>[] buckets;
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new List[wheelSize];
+        this.currentTick = startMillis / tickMillis;
+
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+    }
+
+    public synchronized void schedule(T item, long expireAtMillis) {
+        // 이미 지난 tick에 만료되는 항목은 다음 tick에 처리
+        final long deadlineTick = Math.max(currentTick + 1, Math.floorDiv(expireAtMillis + tickMillis - 1, tickMillis));
+
+        buckets[bucketIndex(deadlineTick)].add(new Entry<>(item, deadlineTick));
+    }
+
+    // nowMillis까지 지난 tick의 bucket을 확인해 만료된 항목을 반환
+    public synchronized List<T> advance(long nowMillis) {
+        final long nowTick = nowMillis / tickMillis;
+        final List<T> expired = new ArrayList<>();
+
+        // 한 바퀴 이상 지났다면 모든 bucket을 한 번씩만 확인하면 된다.
+        final long fromTick = Math.max(currentTick + 1, nowTick - buckets.length + 1);
+
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            Iterator<Entry<T>> iterator = buckets[bucketIndex(tick)].iterator();
+
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+
+                if (entry.deadlineTick <= nowTick) {
+                    expired.add(entry.item);
+                    iterator.remove();
+                }
+            }
+        }
+
+        currentTick = Math.max(currentTick, nowTick);
+        return expired;
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for (List<Entry<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.length);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
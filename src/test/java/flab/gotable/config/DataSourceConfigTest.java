@@ -0,0 +1,53 @@
+package flab.gotable.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "spring.datasource.hikari.connection-timeout=1500"
+})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class DataSourceConfigTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Test
+    @DisplayName("primary 커넥션 풀에 spring.datasource.hikari 설정을 적용한다.")
+    void bindHikariProperties() {
+        // then
+        Assertions.assertEquals(7, primaryDataSource.getMaximumPoolSize());
+        Assertions.assertEquals(1500, primaryDataSource.getConnectionTimeout());
+        Assertions.assertEquals("true", primaryDataSource.getDataSourceProperties().getProperty("rewriteBatchedStatements"));
+    }
+}
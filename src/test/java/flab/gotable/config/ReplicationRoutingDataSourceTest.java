@@ -0,0 +1,65 @@
+package flab.gotable.config;
+
+import flab.gotable.utils.ReadYourWrites;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+public class ReplicationRoutingDataSourceTest {
+
+    @AfterEach
+    void clear() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica를 번갈아 사용한다.")
+    void routeReadOnlyToReplicas() {
+        // given
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(List.of("replica-0", "replica-1"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when, then
+        Assertions.assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary를 사용한다.")
+    void routeWriteToPrimary() {
+        // given
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(List.of("replica-0"));
+
+        // when, then
+        Assertions.assertEquals(ReplicationRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("예약 직후 고정된 요청은 읽기 전용 트랜잭션도 primary를 사용한다.")
+    void routePinnedReadToPrimary() {
+        // given
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(List.of("replica-0"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.pin();
+
+        // when, then
+        Assertions.assertEquals(ReplicationRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("replica가 설정되지 않은 경우 읽기 전용 트랜잭션도 primary를 사용한다.")
+    void routeToPrimaryWithoutReplicas() {
+        // given
+        ReplicationRoutingDataSource dataSource = new ReplicationRoutingDataSource(List.of());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when, then
+        Assertions.assertEquals(ReplicationRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+}
@@ -8,6 +8,7 @@ import flab.gotable.exception.MemberNotFoundException;
 import flab.gotable.mapper.MemberMapper;
 import flab.gotable.service.LoginService;
 import flab.gotable.service.MemberService;
+import flab.gotable.utils.AuthTokenProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,12 +30,16 @@ class MemberAPIControllerTest {
 
     private MockHttpSession session;
 
+    private MockHttpServletRequest request;
+
     @Autowired
     private LoginService loginService;
 
     @BeforeEach
     void setup() {
        session = new MockHttpSession();
+       request = new MockHttpServletRequest();
+       request.setSession(session);
 
        memberAPIController = new MemberAPIController(
                 new MemberService(
@@ -57,6 +65,11 @@ class MemberAPIControllerTest {
                             public boolean isMemberExistSeq(long seq) {
                                 return memberMap.containsKey(seq);
                             }
+
+                            @Override
+                            public boolean isAdmin(long seq) {
+                                return false;
+                            }
                         }, new PasswordEncoder() {
                             @Override
                             public String encode(CharSequence rawPassword) {
@@ -71,7 +84,7 @@ class MemberAPIControllerTest {
                                 return true;
                             }
                         }
-                ), loginService = new LoginService()
+                ), loginService = new LoginService(event -> {}, new AuthTokenProvider("test-secret".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1)))
         );
     }
 
@@ -115,7 +128,7 @@ class MemberAPIControllerTest {
         memberAPIController.signup(new MemberSignUpRequestDto("오소영", "sozero", "q1w2e3r4", "010-1111-2222"));
 
         // when
-        ResponseEntity<ApiResponse> result = memberAPIController.login(new MemberLoginRequestDto("sozero", "q1w2e3r4"), session);
+        ResponseEntity<ApiResponse> result = memberAPIController.login(new MemberLoginRequestDto("sozero", "q1w2e3r4"), request);
 
         // then
         Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
@@ -128,7 +141,7 @@ class MemberAPIControllerTest {
         memberAPIController.signup(new MemberSignUpRequestDto("오소영", "sozero", "q1w2e3r4", "010-1111-2222"));
 
         // then
-        Assertions.assertThrows(MemberNotFoundException.class, () -> memberAPIController.login(new MemberLoginRequestDto("testId", "r5t6y7u8"), session));
+        Assertions.assertThrows(MemberNotFoundException.class, () -> memberAPIController.login(new MemberLoginRequestDto("testId", "r5t6y7u8"), request));
     }
 
     @Test
@@ -138,6 +151,6 @@ class MemberAPIControllerTest {
         memberAPIController.signup(new MemberSignUpRequestDto("오소영", "sozero", "q1w2e3r4", "010-1111-2222"));
 
         // then
-        Assertions.assertThrows(MemberNotFoundException.class, () -> memberAPIController.login(new MemberLoginRequestDto("sozero", "r5t6y7u8"), session));
+        Assertions.assertThrows(MemberNotFoundException.class, () -> memberAPIController.login(new MemberLoginRequestDto("sozero", "r5t6y7u8"), request));
     }
 }
\ No newline at end of file
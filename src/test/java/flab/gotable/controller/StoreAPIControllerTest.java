@@ -7,6 +7,8 @@ import flab.gotable.dto.ApiResponse;
 import flab.gotable.dto.response.StoreDetailsResponseDto;
 import flab.gotable.exception.StoreNotFoundException;
 import flab.gotable.mapper.StoreMapper;
+import flab.gotable.service.InMemoryShardSplitStore;
+import flab.gotable.service.ShardRouter;
 import flab.gotable.service.StoreService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,7 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class StoreAPIControllerTest {
     private StoreAPIController storeAPIController;
@@ -55,7 +58,7 @@ public class StoreAPIControllerTest {
                             }
 
                             @Override
-                            public List<SpecificSchedule> findSpecificScheduleByStoreId(Long id) {
+                            public List<SpecificSchedule> findSpecificScheduleByStoreId(Long id, LocalDate from, LocalDate to) {
                                 if (id == 1L) {
                                     return Arrays.asList(
                                             new SpecificSchedule(LocalDate.of(2024, 7, 12), LocalTime.parse("10:00"), LocalTime.parse("15:00"), 60L)
@@ -73,7 +76,13 @@ public class StoreAPIControllerTest {
                             public long getMaxMemberCount(long restaurantId) {
                                 return 0;
                             }
-                        }
+
+                            @Override
+                            public boolean isStoreOwner(long restaurantId, long memberSeq) {
+                                return false;
+                            }
+                        },
+                        new ShardRouter(Map.of(), 128, List.of(), new InMemoryShardSplitStore(), 0)
                 )
         );
     }
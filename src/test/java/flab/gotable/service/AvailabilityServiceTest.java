@@ -0,0 +1,187 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.event.ReservationChangedEvent;
+import flab.gotable.domain.event.ReservationEventType;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.AvailabilityResponseDto;
+import flab.gotable.dto.response.AvailableSlotDto;
+import flab.gotable.mapper.AvailabilityMapper;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 테스트에서 직접 발행하도록 주기적인 relay는 실행되지 않게 설정
+@SpringBootTest(properties = {
+        "reservation.outbox.poll-interval-millis=3600000",
+        "reservation.capacity.tables-per-slot={2: 2}"
+})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class AvailabilityServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private AvailabilityMapper availabilityMapper;
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationOutboxRelay reservationOutboxRelay;
+
+    @Test
+    @DisplayName("만들어지지 않은 날짜는 조회 시 스케줄과 예약으로 계산하여 저장한다.")
+    void buildOnRead() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(9);
+        save(1L, date.atTime(15, 0));
+
+        // when
+        AvailabilityResponseDto availability = availabilityService.getAvailability(1L, date, date.plusDays(1)).get(0);
+
+        // then
+        Assertions.assertTrue(availability.isOpen());
+        Assertions.assertFalse(slotAt(availability, LocalTime.of(15, 0)).isAvailable());
+        Assertions.assertTrue(slotAt(availability, LocalTime.of(14, 0)).isAvailable());
+        Assertions.assertEquals(1, availabilityMapper.findAvailabilities(1L, date, date.plusDays(1)).size());
+    }
+
+    @Test
+    @DisplayName("예약 생성 이벤트를 받으면 저장된 현황에서 해당 예약 시간만 갱신한다.")
+    void applyReservationCreated() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(10);
+        availabilityService.getAvailability(1L, date, date.plusDays(1));
+        Reservation reservation = save(1L, date.atTime(18, 0));
+
+        // 이벤트를 받기 전에는 저장된 현황을 그대로 조회
+        Assertions.assertTrue(slotAt(availabilityService.getAvailability(1L, date, date.plusDays(1)).get(0), LocalTime.of(18, 0)).isAvailable());
+
+        // when
+        availabilityService.onReservationChanged(new ReservationChangedEvent(1L, ReservationEventType.CREATED, 1L, reservation.getId(),
+                reservation.getMemberCount(), reservation.getReservationStartAt(), reservation.getReservationEndAt()));
+
+        // then
+        AvailabilityResponseDto availability = availabilityService.getAvailability(1L, date, date.plusDays(1)).get(0);
+        Assertions.assertFalse(slotAt(availability, LocalTime.of(18, 0)).isAvailable());
+        Assertions.assertTrue(slotAt(availability, LocalTime.of(17, 0)).isAvailable());
+    }
+
+    @Test
+    @DisplayName("좌석 수 기반 식당은 outbox relay가 발행한 이벤트로 잔여 좌석을 갱신한다.")
+    void applyCapacityReservation() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(2);
+        LocalDateTime start = date.atTime(12, 0);
+        reservationService.reserveNamedLock(new ReservationRequestDto(2L, 1L, start, start.plusHours(1), 3L));
+        reservationOutboxRelay.relayBatch();
+        Assertions.assertEquals(5L, slotAt(availabilityService.getAvailability(2L, date, date.plusDays(1)).get(0), LocalTime.of(12, 0)).getRemainingSeats());
+
+        // when
+        reservationService.reserveNamedLock(new ReservationRequestDto(2L, 2L, start, start.plusHours(1), 5L));
+        reservationOutboxRelay.relayBatch();
+
+        // then
+        AvailableSlotDto slot = slotAt(availabilityService.getAvailability(2L, date, date.plusDays(1)).get(0), LocalTime.of(12, 0));
+        Assertions.assertEquals(0L, slot.getRemainingSeats());
+        Assertions.assertFalse(slot.isAvailable());
+    }
+
+    @Test
+    @DisplayName("여러 예약 시간에 걸친 좌석 수 기반 예약은 겹치는 모든 예약 시간의 잔여 좌석을 갱신한다.")
+    void applyMultiSlotCapacityReservation() {
+        // given
+        LocalDate date = LocalDate.now().plusDays(3);
+        availabilityService.getAvailability(2L, date, date.plusDays(1));
+        LocalDateTime start = date.atTime(14, 0);
+
+        // when
+        reservationService.reserveNamedLock(new ReservationRequestDto(2L, 1L, start, start.plusHours(2), 3L));
+        reservationOutboxRelay.relayBatch();
+
+        // then
+        AvailabilityResponseDto availability = availabilityService.getAvailability(2L, date, date.plusDays(1)).get(0);
+        Assertions.assertEquals(5L, slotAt(availability, LocalTime.of(14, 0)).getRemainingSeats());
+        Assertions.assertEquals(5L, slotAt(availability, LocalTime.of(15, 0)).getRemainingSeats());
+        Assertions.assertEquals(8L, slotAt(availability, LocalTime.of(16, 0)).getRemainingSeats());
+    }
+
+    @Test
+    @DisplayName("backfill은 모든 식당의 예약 가능 기간 현황을 다시 계산한다.")
+    void backfill() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        int rebuilt = availabilityService.backfill(today);
+
+        // then
+        Assertions.assertEquals(4, rebuilt);
+        // R1의 max_available_day는 5일이므로 식당 상세와 같이 오늘부터 5일 뒤까지
+        Assertions.assertEquals(6, availabilityMapper.findAvailabilities(1L, today, today.plusDays(10)).size());
+        // R3는 영업 스케줄이 없으므로 휴무일로 저장
+        Assertions.assertFalse(availabilityService.getAvailability(3L, today, today.plusDays(1)).get(0).isOpen());
+    }
+
+    private Reservation save(long restaurantId, LocalDateTime start) {
+        Reservation reservation = new Reservation();
+        reservation.setMemberSeq(1L);
+        reservation.setRestaurantId(restaurantId);
+        reservation.setStatus(StatusCode.SUCCESS.name());
+        reservation.setMemberCount(2L);
+        reservation.setReservationStartAt(start);
+        reservation.setReservationEndAt(start.plusHours(1));
+        reservation.setId(idGenerator.nextId());
+        reservationMapper.saveReservation(reservation);
+
+        return reservation;
+    }
+
+    private AvailableSlotDto slotAt(AvailabilityResponseDto availability, LocalTime time) {
+        return availability.getSlots().stream()
+                .filter(slot -> slot.getTime().equals(time))
+                .findFirst()
+                .orElseThrow();
+    }
+}
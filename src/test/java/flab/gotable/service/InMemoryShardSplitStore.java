@@ -0,0 +1,79 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.shard.ShardSplitState;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 여러 ShardRouter(노드)가 공유하는 분할 상태를 메모리에서 흉내내는 테스트용 구현체
+public class InMemoryShardSplitStore implements ShardSplitStore {
+    private String shard;
+    private ShardSplitState.Status status = ShardSplitState.Status.NONE;
+    private final Map<Long, Long> moving = new HashMap<>();
+    private final Set<Long> moved = new HashSet<>();
+
+    @Override
+    public synchronized ShardSplitState load() {
+        return new ShardSplitState(shard, status, moving, moved);
+    }
+
+    @Override
+    public synchronized ShardSplitState load(long restaurantId) {
+        return new ShardSplitState(shard, status,
+                moving.containsKey(restaurantId) ? Map.of(restaurantId, moving.get(restaurantId)) : Map.of(),
+                moved.contains(restaurantId) ? Set.of(restaurantId) : Set.of());
+    }
+
+    @Override
+    public synchronized boolean begin(String shard) {
+        if (status == ShardSplitState.Status.SPLITTING) {
+            return false;
+        }
+
+        this.shard = shard;
+        this.status = ShardSplitState.Status.SPLITTING;
+        moving.clear();
+        moved.clear();
+        return true;
+    }
+
+    @Override
+    public synchronized long markMoving(long restaurantId, long drainMillis) {
+        if (status != ShardSplitState.Status.SPLITTING || moved.contains(restaurantId)) {
+            return -1;
+        }
+
+        return moving.computeIfAbsent(restaurantId, id -> System.currentTimeMillis() + drainMillis);
+    }
+
+    @Override
+    public synchronized long markMoved(long restaurantId) {
+        Long copyableAt = moving.get(restaurantId);
+        if (copyableAt == null) {
+            return -1;
+        }
+        if (copyableAt > System.currentTimeMillis()) {
+            return copyableAt - System.currentTimeMillis();
+        }
+
+        moving.remove(restaurantId);
+        moved.add(restaurantId);
+        return 0;
+    }
+
+    @Override
+    public synchronized long finish() {
+        if (status != ShardSplitState.Status.SPLITTING) {
+            return -1;
+        }
+        if (!moving.isEmpty()) {
+            return moving.size();
+        }
+
+        status = ShardSplitState.Status.FINISHED;
+        moved.clear();
+        return 0;
+    }
+}
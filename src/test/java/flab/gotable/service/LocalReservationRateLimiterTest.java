@@ -0,0 +1,78 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalReservationRateLimiterTest {
+
+    @Test
+    @DisplayName("버킷 크기를 초과한 요청은 RateLimitExceededException 예외를 발생시킨다.")
+    void rejectWhenBucketIsEmpty() {
+        // given
+        LocalReservationRateLimiter rateLimiter = new LocalReservationRateLimiter(1, 2, 10, 30000);
+        rateLimiter.acquire(1L).close();
+        rateLimiter.acquire(1L).close();
+
+        // when, then
+        RateLimitExceededException exception = Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+        Assertions.assertTrue(exception.getRetryAfterSeconds() >= 1);
+    }
+
+    @Test
+    @DisplayName("동시 처리 수를 초과한 요청은 거절되고, 허가를 반환하면 다시 처리할 수 있다.")
+    void rejectWhenConcurrencyExceeded() {
+        // given
+        LocalReservationRateLimiter rateLimiter = new LocalReservationRateLimiter(100, 100, 1, 30000);
+        RateLimitPermit permit = rateLimiter.acquire(1L);
+
+        // when, then
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+
+        permit.close();
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(1L).close());
+    }
+
+    @Test
+    @DisplayName("식당별로 한도를 따로 적용한다.")
+    void limitPerRestaurant() {
+        // given
+        LocalReservationRateLimiter rateLimiter = new LocalReservationRateLimiter(1, 1, 10, 30000);
+        rateLimiter.acquire(1L).close();
+
+        // when, then
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(2L).close());
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 토큰 수만큼 버킷이 다시 채워진다.")
+    void refill() throws InterruptedException {
+        // given
+        LocalReservationRateLimiter rateLimiter = new LocalReservationRateLimiter(10, 1, 10, 30000);
+        rateLimiter.acquire(1L).close();
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(1L).close());
+    }
+
+    @Test
+    @DisplayName("반환되지 않은 허가는 유지 시간이 지나면 동시 처리 수에서 제외된다.")
+    void expireLease() throws InterruptedException {
+        // given
+        LocalReservationRateLimiter rateLimiter = new LocalReservationRateLimiter(100, 100, 1, 100);
+        rateLimiter.acquire(1L);
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L));
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(1L).close());
+    }
+}
@@ -0,0 +1,136 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.lock.LockWaitOutcome;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.LockFailureException;
+import flab.gotable.utils.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class LockWaitPolicyTest {
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("식당별 대기 시간이 설정된 경우 기본 대기 시간 대신 사용한다.")
+    void restaurantWaitTimeout() {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(10000, Map.of(1L, 1000L), 100, 5, 100);
+
+        // when
+        long restaurantRemaining = policy.begin("lock_1", 1L).remainingNanos();
+        long defaultRemaining = policy.begin("lock_2", 2L).remainingNanos();
+
+        // then
+        Assertions.assertTrue(restaurantRemaining <= TimeUnit.MILLISECONDS.toNanos(1000));
+        Assertions.assertTrue(defaultRemaining > TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    @DisplayName("요청의 처리 기한이 지난 경우 대기하지 않고 REQUEST_DEADLINE_EXCEEDED로 실패한다.")
+    void deadlineExceeded() {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(10000, Map.of(), 100, 5, 100);
+        RequestDeadline.start(Duration.ZERO);
+
+        // when
+        LockFailureException exception = Assertions.assertThrows(LockFailureException.class, () -> policy.begin("lock", 1L));
+
+        // then
+        Assertions.assertEquals(ErrorCode.REQUEST_DEADLINE_EXCEEDED, exception.getErrorCode());
+        Assertions.assertEquals(1, policy.getCount(LockWaitOutcome.DEADLINE_EXCEEDED));
+    }
+
+    @Test
+    @DisplayName("대기 시간은 요청의 남은 처리 기한을 넘지 않는다.")
+    void waitBoundedByDeadline() {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(10000, Map.of(), 100, 5, 100);
+        RequestDeadline.start(Duration.ofMillis(500));
+
+        // when
+        LockWaitPolicy.LockWait wait = policy.begin("lock", 1L);
+
+        // then
+        Assertions.assertTrue(wait.remainingNanos() <= TimeUnit.MILLISECONDS.toNanos(500));
+        Assertions.assertEquals(ErrorCode.REQUEST_DEADLINE_EXCEEDED, wait.expired().getErrorCode());
+    }
+
+    @Test
+    @DisplayName("앞선 대기자 수와 평균 보유 시간으로 예측한 대기 시간이 대기 시간을 넘으면 즉시 실패한다.")
+    void failFastWhenQueueTooDeep() throws InterruptedException {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(100, Map.of(), 100, 5, 100);
+
+        LockWaitPolicy.LockWait holder = policy.begin("lock", 1L);
+        holder.acquired();
+        Thread.sleep(60);
+        holder.released();
+
+        policy.begin("lock", 1L);
+        policy.begin("lock", 1L);
+
+        // when
+        LockFailureException exception = Assertions.assertThrows(LockFailureException.class, () -> policy.begin("lock", 1L));
+
+        // then
+        Assertions.assertEquals(ErrorCode.LOCK_WAIT_PREDICTED_TIMEOUT, exception.getErrorCode());
+        Assertions.assertEquals(1, policy.getCount(LockWaitOutcome.PREDICTED_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 최소 backoff 이상, 최대 backoff 이하이며 최대 횟수를 넘으면 실패한다.")
+    void boundedJitteredRetries() {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(10000, Map.of(), 5, 5, 20);
+        LockWaitPolicy.LockWait wait = policy.begin("lock", 1L);
+
+        // when, then
+        for (int i = 0; i < 4; i++) {
+            long backoffNanos = wait.nextBackoffNanos();
+            Assertions.assertTrue(backoffNanos >= TimeUnit.MILLISECONDS.toNanos(5));
+            Assertions.assertTrue(backoffNanos <= TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        LockFailureException exception = Assertions.assertThrows(LockFailureException.class, wait::nextBackoffNanos);
+        Assertions.assertEquals(ErrorCode.LOCK_ACQUISITION_FAILED, exception.getErrorCode());
+        Assertions.assertEquals(1, policy.getCount(LockWaitOutcome.RETRIES_EXHAUSTED));
+    }
+
+    @Test
+    @DisplayName("대기하거나 보유 중인 요청이 없고 정리 주기 동안 사용되지 않은 락의 대기열만 제거한다.")
+    void removeIdleQueues() {
+        // given
+        LockWaitPolicy policy = new LockWaitPolicy(10000, Map.of(), 100, 5, 100);
+        LockWaitPolicy.LockWait released = policy.begin("released", 1L);
+        released.acquired();
+        released.released();
+        LockWaitPolicy.LockWait holding = policy.begin("holding", 2L);
+        holding.acquired();
+        policy.begin("waiting", 3L);
+
+        // when
+        policy.removeIdleQueues();
+        policy.removeIdleQueues();
+
+        // then
+        Assertions.assertEquals(2, policy.getQueueCount());
+
+        // when
+        holding.released();
+        policy.removeIdleQueues();
+        policy.removeIdleQueues();
+
+        // then
+        Assertions.assertEquals(1, policy.getQueueCount());
+    }
+}
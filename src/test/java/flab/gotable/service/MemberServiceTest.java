@@ -42,6 +42,11 @@ class MemberServiceTest {
                 return memberMap.containsKey(seq);
             }
 
+            @Override
+            public boolean isAdmin(long seq) {
+                return false;
+            }
+
         }, new PasswordEncoder() {
             @Override
             public String encode(CharSequence rawPassword) {
@@ -0,0 +1,156 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.LockFailureException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(properties = {"reservation.lock.connection-count=1", "reservation.lock.wait-timeout-millis=1000"})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class NamedLockManagerTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private NamedLockManager namedLockManager;
+
+    @Autowired
+    private LockWaitPolicy lockWaitPolicy;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private NamedLock acquire(String lockName) {
+        return namedLockManager.acquire(lockWaitPolicy.begin(lockName, 1L));
+    }
+
+    @Test
+    @DisplayName("하나의 락 커넥션에서 서로 다른 이름의 락을 동시에 보유할 수 있다.")
+    void multiplexLocksOnSingleConnection() {
+        // when, then
+        try (NamedLock first = acquire("test_multiplex_1");
+             NamedLock second = acquire("test_multiplex_2")) {
+            Assertions.assertNotNull(first);
+            Assertions.assertNotNull(second);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유한 락은 대기 시간 내에 해제되지 않으면 LockFailureException 예외를 발생시킨다.")
+    void acquireTimeout() throws Exception {
+        // given
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> {
+            try (NamedLock lock = acquire("test_timeout")) {
+                acquired.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        acquired.await();
+
+        // when, then
+        Assertions.assertThrows(LockFailureException.class, () -> acquire("test_timeout"));
+
+        release.countDown();
+        holder.get();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 이름의 락을 획득하는 경우 임계 구역에는 한 스레드만 진입한다.")
+    void mutualExclusion() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try (NamedLock lock = acquire("test_mutual_exclusion")) {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    inside.decrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        // then
+        Assertions.assertEquals(1, maxInside.get());
+    }
+
+    @Test
+    @DisplayName("락 세션의 커넥션이 끊기면 같은 세션의 락 보유자는 verify에서 LockFailureException 예외를 발생시킨다.")
+    void verifyAfterSessionLost() {
+        // given
+        NamedLock lock = acquire("test_session_lost");
+        Assertions.assertDoesNotThrow(lock::verify);
+        Long connectionId = jdbcTemplate.queryForObject("SELECT IS_USED_LOCK('test_session_lost')", Long.class);
+
+        // when
+        jdbcTemplate.execute("KILL " + connectionId);
+
+        // then
+        Assertions.assertThrows(LockFailureException.class, lock::verify);
+        lock.close();
+        try (NamedLock reacquired = acquire("test_session_lost")) {
+            Assertions.assertDoesNotThrow(reacquired::verify);
+        }
+    }
+
+    @Test
+    @DisplayName("락을 사용하는 요청이 없으면 로컬 락을 제거한다.")
+    void removeUnusedLocalLocks() {
+        // given
+        try (NamedLock first = acquire("test_local_1");
+             NamedLock second = acquire("test_local_2")) {
+            Assertions.assertTrue(namedLockManager.getLocalLockCount() >= 2);
+        }
+
+        // when, then
+        Assertions.assertEquals(0, namedLockManager.getLocalLockCount());
+    }
+}
@@ -0,0 +1,107 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.RateLimitExceededException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class RedisReservationRateLimiterTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Test
+    @DisplayName("버킷 크기를 초과한 요청은 RateLimitExceededException 예외를 발생시킨다.")
+    void rejectWhenBucketIsEmpty() {
+        // given
+        // Redis에 이전 실행의 버킷이 남아있지 않도록 매번 다른 식당 id를 사용
+        long restaurantId = idGenerator.nextId();
+        RedisReservationRateLimiter rateLimiter = new RedisReservationRateLimiter(stringRedisTemplate, 1, 2, 10, 30000);
+        rateLimiter.acquire(restaurantId).close();
+        rateLimiter.acquire(restaurantId).close();
+
+        // when, then
+        RateLimitExceededException exception = Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(restaurantId));
+        Assertions.assertTrue(exception.getRetryAfterSeconds() >= 1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 초당 토큰 수만큼 버킷이 다시 채워진다.")
+    void refill() throws InterruptedException {
+        // given
+        long restaurantId = idGenerator.nextId();
+        RedisReservationRateLimiter rateLimiter = new RedisReservationRateLimiter(stringRedisTemplate, 10, 1, 10, 30000);
+        rateLimiter.acquire(restaurantId).close();
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(restaurantId));
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(restaurantId).close());
+    }
+
+    @Test
+    @DisplayName("동시 처리 수를 초과한 요청은 거절되고, 허가를 반환하면 다시 처리할 수 있다.")
+    void rejectWhenConcurrencyExceeded() {
+        // given
+        long restaurantId = idGenerator.nextId();
+        RedisReservationRateLimiter rateLimiter = new RedisReservationRateLimiter(stringRedisTemplate, 100, 100, 1, 30000);
+        RateLimitPermit permit = rateLimiter.acquire(restaurantId);
+
+        // when, then
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(restaurantId));
+
+        permit.close();
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(restaurantId).close());
+    }
+
+    @Test
+    @DisplayName("반환되지 않은 허가는 유지 시간이 지나면 동시 처리 수에서 제외된다.")
+    void expireLease() throws InterruptedException {
+        // given
+        long restaurantId = idGenerator.nextId();
+        RedisReservationRateLimiter rateLimiter = new RedisReservationRateLimiter(stringRedisTemplate, 100, 100, 1, 100);
+        rateLimiter.acquire(restaurantId);
+        Assertions.assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(restaurantId));
+
+        // when
+        Thread.sleep(150);
+
+        // then
+        Assertions.assertDoesNotThrow(() -> rateLimiter.acquire(restaurantId).close());
+    }
+}
@@ -0,0 +1,118 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.ReservationPartition;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@SpringBootTest(properties = {"reservation.archive.batch-size=2", "reservation.archive.batch-pause-millis=0"})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationArchiveServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ReservationArchiveService reservationArchiveService;
+
+    @Test
+    @DisplayName("비어 있는 p_future를 나눠 다음 달 이후의 월별 파티션을 만들고, p_future에 행이 있으면 나누지 않는다.")
+    void ensurePartitions() {
+        // given
+        YearMonth until = YearMonth.now().plusMonths(4);
+
+        // when
+        reservationArchiveService.ensurePartitions(until);
+        reservationArchiveService.ensurePartitions(until);
+
+        // then
+        Assertions.assertEquals("p_future", partitionNames().get(partitionNames().size() - 1));
+        for (YearMonth month = YearMonth.now(); !month.isAfter(until); month = month.plusMonths(1)) {
+            Assertions.assertEquals(1, partitionNames().stream().filter(partitionName(month)::equals).count());
+        }
+
+        // p_future에 행이 있는 경우
+        save(until.plusMonths(6).atDay(1).atTime(12, 0));
+        reservationArchiveService.ensurePartitions(until.plusMonths(12));
+        Assertions.assertFalse(partitionNames().contains(partitionName(until.plusMonths(1))));
+    }
+
+    @Test
+    @DisplayName("종료된 지 보관 기간이 지난 예약만 이력 테이블로 옮기고, 비워진 지난 파티션을 제거한다.")
+    void archiveAndDropPartition() {
+        // given
+        LocalDateTime before = LocalDateTime.of(2026, 3, 1, 0, 0);
+        save(LocalDateTime.of(2025, 11, 3, 12, 0));
+        save(LocalDateTime.of(2025, 12, 3, 12, 0));
+        save(LocalDateTime.of(2025, 12, 24, 18, 0));
+        save(LocalDateTime.of(2026, 3, 2, 12, 0));
+
+        // when
+        long archived = reservationArchiveService.archive(before);
+        reservationArchiveService.dropArchivedPartitions(before);
+
+        // then
+        Assertions.assertEquals(3, archived);
+        Assertions.assertNull(reservationMapper.findReservation(1L, 930L, LocalDateTime.of(2025, 11, 3, 12, 0), LocalDateTime.of(2025, 11, 3, 13, 0)));
+        Assertions.assertNotNull(reservationMapper.findReservation(1L, 930L, LocalDateTime.of(2026, 3, 2, 12, 0), LocalDateTime.of(2026, 3, 2, 13, 0)));
+        Assertions.assertTrue(reservationMapper.findReservationPartitions().stream().noneMatch(partition -> "p_past".equals(partition.getPartitionName())));
+    }
+
+    private List<String> partitionNames() {
+        return reservationMapper.findReservationPartitions().stream().map(ReservationPartition::getPartitionName).toList();
+    }
+
+    private String partitionName(YearMonth month) {
+        return month.format(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+    }
+
+    private void save(LocalDateTime start) {
+        Reservation reservation = new Reservation();
+        reservation.setMemberSeq(1L);
+        reservation.setRestaurantId(930L);
+        reservation.setStatus(StatusCode.SUCCESS.name());
+        reservation.setMemberCount(2L);
+        reservation.setReservationStartAt(start);
+        reservation.setReservationEndAt(start.plusHours(1));
+        reservation.setId(idGenerator.nextId());
+        reservationMapper.saveReservation(reservation);
+    }
+}
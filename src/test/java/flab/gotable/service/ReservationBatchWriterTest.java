@@ -0,0 +1,238 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.dto.ReservationSaveResult;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.mapper.ReservationMapper;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// chunk 분할을 확인하도록 chunk 크기를 작게 설정하고, outbox에 남은 이벤트를 확인하도록 주기적인 relay는 실행되지 않게 설정
+// 104번 식당은 좌석 수 기반 식당으로 설정
+@SpringBootTest(properties = {
+        "reservation.outbox.poll-interval-millis=3600000",
+        "reservation.batch.chunk-size=2",
+        "reservation.capacity.tables-per-slot={104: 2}"
+})
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationBatchWriterTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationBatchWriter reservationBatchWriter;
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate readCommittedTransactionTemplate;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private ReservationBusinessService reservationBusinessService;
+
+    @Test
+    @DisplayName("여러 예약을 묶어서 저장하고 예약마다 outbox 이벤트를 기록한다.")
+    void importAll() {
+        // given
+        LocalDateTime start = LocalDate.now().plusDays(11).atTime(10, 0);
+        List<Reservation> reservations = reservations(101L, start, 5);
+
+        // when
+        List<ReservationSaveResult> results = reservationBatchWriter.importAll(reservations);
+
+        // then
+        Assertions.assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertTrue(results.get(i).isSaved());
+            Assertions.assertEquals(reservations.get(i).getId(), results.get(i).getReservationId());
+        }
+        Assertions.assertEquals(5, reservationMapper.findReservationsBetween(101L, start, start.plusHours(5)).size());
+        Assertions.assertEquals(5, countOutboxEvents(reservations));
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 예약이 있으면 해당 예약만 실패로 반환하고 나머지는 저장한다.")
+    void importAllWithFailedRow() {
+        // given
+        LocalDateTime start = LocalDate.now().plusDays(12).atTime(10, 0);
+        List<Reservation> reservations = reservations(102L, start, 4);
+        // status 컬럼 길이(10)를 초과
+        reservations.get(1).setStatus("INVALID_STATUS");
+
+        // when
+        List<ReservationSaveResult> results = reservationBatchWriter.importAll(reservations);
+
+        // then
+        Assertions.assertTrue(results.get(0).isSaved());
+        Assertions.assertFalse(results.get(1).isSaved());
+        Assertions.assertNotNull(results.get(1).getFailureReason());
+        Assertions.assertTrue(results.get(2).isSaved());
+        Assertions.assertTrue(results.get(3).isSaved());
+        Assertions.assertEquals(3, reservationMapper.findReservationsBetween(102L, start, start.plusHours(4)).size());
+        Assertions.assertEquals(3, countOutboxEvents(reservations));
+    }
+
+    @Test
+    @DisplayName("잔여 좌석을 차감하지 않으므로 좌석 수 기반 식당의 예약은 저장하지 않고 실패로 반환한다.")
+    void importAllRejectsCapacityRestaurant() {
+        // given
+        LocalDateTime start = LocalDate.now().plusDays(14).atTime(10, 0);
+        List<Reservation> reservations = new ArrayList<>(reservations(104L, start, 1));
+        reservations.addAll(reservations(105L, start, 1));
+
+        // when
+        List<ReservationSaveResult> results = reservationBatchWriter.importAll(reservations);
+
+        // then
+        Assertions.assertFalse(results.get(0).isSaved());
+        Assertions.assertEquals(ErrorCode.CAPACITY_RESERVATION_NOT_IMPORTABLE.getMessage(), results.get(0).getFailureReason());
+        Assertions.assertTrue(results.get(1).isSaved());
+        Assertions.assertTrue(reservationMapper.findReservationsBetween(104L, start, start.plusHours(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("다중 행 INSERT로 여러 예약을 한 번에 저장하고, 커밋 후 interval index에 반영한다.")
+    void saveReservations() {
+        // given
+        LocalDateTime start = LocalDate.now().plusDays(13).atTime(10, 0);
+        List<Reservation> reservations = reservations(103L, start, 3);
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(103L, start, start.plusHours(3)));
+
+        // when
+        shardRouter.route(103L, () -> readCommittedTransactionTemplate.execute(status -> {
+            reservationBatchWriter.saveReservations(reservations);
+            return null;
+        }));
+
+        // then
+        Assertions.assertEquals(3, reservationMapper.findReservationsBetween(103L, start, start.plusHours(3)).size());
+        Assertions.assertEquals(3, countOutboxEvents(reservations));
+        Assertions.assertTrue(reservationIntervalIndex.overlaps(103L, start.plusHours(2), start.plusHours(3)));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("한 건씩 저장할 때와 다중 행 INSERT, BATCH 실행기로 저장할 때의 초당 저장 수를 측정한다.")
+    void benchmarkThroughput() {
+        int count = 5000;
+        int chunkSize = 1000;
+        LocalDateTime start = LocalDate.now().plusDays(20).atStartOfDay();
+
+        long elapsed = measure(() -> {
+            for (Reservation reservation : reservations(201L, start, count)) {
+                reservation.setId(idGenerator.nextId());
+                shardRouter.route(201L, () -> readCommittedTransactionTemplate.execute(status -> {
+                    reservationMapper.saveReservation(reservation);
+                    return null;
+                }));
+            }
+        });
+        print("single insert", count, elapsed);
+
+        elapsed = measure(() -> {
+            List<Reservation> reservations = reservations(202L, start, count);
+            reservations.forEach(reservation -> reservation.setId(idGenerator.nextId()));
+
+            for (int from = 0; from < count; from += chunkSize) {
+                List<Reservation> chunk = reservations.subList(from, Math.min(from + chunkSize, count));
+                shardRouter.route(202L, () -> readCommittedTransactionTemplate.execute(status -> reservationMapper.saveReservations(chunk)));
+            }
+        });
+        print("multi-row insert", count, elapsed);
+
+        // importAll은 outbox 이벤트도 함께 저장한다.
+        ReservationBatchWriter writer = new ReservationBatchWriter(reservationMapper, sqlSessionFactory, idGenerator, shardRouter,
+                reservationIntervalIndex, reservationBusinessService, readCommittedTransactionTemplate, chunkSize);
+        elapsed = measure(() -> writer.importAll(reservations(203L, start, count)));
+        print("batch executor (+outbox)", count, elapsed);
+    }
+
+    private List<Reservation> reservations(long restaurantId, LocalDateTime start, int count) {
+        List<Reservation> reservations = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Reservation reservation = new Reservation();
+            reservation.setMemberSeq(1L);
+            reservation.setRestaurantId(restaurantId);
+            reservation.setStatus(StatusCode.SUCCESS.name());
+            reservation.setMemberCount(2L);
+            reservation.setReservationStartAt(start.plusHours(i));
+            reservation.setReservationEndAt(start.plusHours(i + 1));
+            reservations.add(reservation);
+        }
+
+        return reservations;
+    }
+
+    private long countOutboxEvents(List<Reservation> reservations) {
+        Set<Long> reservationIds = reservations.stream().map(Reservation::getId).collect(Collectors.toSet());
+
+        return reservationMapper.findOutboxEvents(Integer.MAX_VALUE).stream()
+                .map(ReservationOutboxEvent::getReservationId)
+                .filter(reservationIds::contains)
+                .count();
+    }
+
+    private long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+
+        return System.nanoTime() - start;
+    }
+
+    private void print(String name, int count, long elapsed) {
+        System.out.printf("%-25s: %,d rows/s, %d ms%n", name, count * TimeUnit.SECONDS.toNanos(1) / elapsed, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
@@ -0,0 +1,138 @@
+package flab.gotable.service;
+
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.DuplicatedReservationException;
+import flab.gotable.exception.InvalidReservationTimeException;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@SpringBootTest(properties = "reservation.capacity.tables-per-slot={1: 1}")
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationCapacityServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(3).withHour(12).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime endTime = startTime.plusHours(1);
+
+    @Test
+    @DisplayName("좌석 수 기반 식당은 잔여 좌석 안에서 같은 시간에 여러 예약을 받는다.")
+    void reserveWithinCapacity() {
+        // given
+        LocalDateTime start = startTime.plusHours(2);
+        LocalDateTime end = start.plusHours(1);
+
+        // when
+        ReservationResponseDto first = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, end, 4L));
+        ReservationResponseDto second = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 2L, start, end, 6L));
+
+        // then
+        Assertions.assertNotEquals(first.getReservationId(), second.getReservationId());
+        Assertions.assertEquals(0L, reservationMapper.getSlotRemaining(1L, start, end));
+        Assertions.assertThrows(DuplicatedReservationException.class,
+                () -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, end, 1L)));
+    }
+
+    @Test
+    @DisplayName("동시에 예약을 시도하는 경우 잔여 좌석을 초과하여 예약되지 않는다.")
+    void concurrentReservationWithinCapacity() throws InterruptedException {
+        // given
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 1L, startTime, endTime, 3L);
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    reservationService.reserveNamedLock(requestDto);
+                } catch (Exception e) {
+                    System.err.println("Exception occurred: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        // then
+        // 최대 인원 수 10명 × 테이블 1개 = 3명 예약 3건
+        Assertions.assertEquals(3, reservationMapper.getReservationCount(1L, startTime, endTime));
+        Assertions.assertEquals(1L, reservationMapper.getSlotRemaining(1L, startTime, endTime));
+    }
+
+    @Test
+    @DisplayName("예약 단위 시간에 맞지 않는 예약은 InvalidReservationTimeException 예외를 발생시킨다.")
+    void rejectUnalignedReservation() {
+        // given
+        // 식당 1의 예약 단위 시간은 60분
+        LocalDateTime start = startTime.plusHours(4).plusMinutes(30);
+
+        // when, then
+        Assertions.assertThrows(InvalidReservationTimeException.class,
+                () -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, start.plusHours(1), 2L)));
+        Assertions.assertThrows(InvalidReservationTimeException.class,
+                () -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start.minusMinutes(30), start.plusMinutes(60), 2L)));
+    }
+
+    @Test
+    @DisplayName("여러 예약 단위에 걸친 예약은 걸쳐 있는 모든 단위의 잔여 좌석을 차감한다.")
+    void reserveAcrossSlots() {
+        // given
+        LocalDateTime start = startTime.plusHours(6);
+        LocalDateTime middle = start.plusHours(1);
+        LocalDateTime end = start.plusHours(2);
+
+        // when
+        reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, end, 6L));
+
+        // then
+        Assertions.assertEquals(4L, reservationMapper.getSlotRemaining(1L, start, middle));
+        Assertions.assertEquals(4L, reservationMapper.getSlotRemaining(1L, middle, end));
+        Assertions.assertThrows(DuplicatedReservationException.class,
+                () -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 2L, middle, end, 5L)));
+        Assertions.assertDoesNotThrow(() -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 2L, middle, end, 4L)));
+    }
+}
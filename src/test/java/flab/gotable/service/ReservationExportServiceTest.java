@@ -0,0 +1,188 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.dto.ExportFormat;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.exception.ReservationExportException;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static flab.gotable.service.LoginService.MEMBER_ID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"reservation.export.max-concurrent=1", "reservation.export.flush-rows=2"})
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationExportServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ReservationExportService reservationExportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(7).withHour(12).withMinute(0).withSecond(0).withNano(0);
+
+    @Test
+    @DisplayName("조회 기간의 예약을 시작 시간 순으로 CSV로 내보낸다.")
+    void exportCsv() throws IOException {
+        // given
+        final long restaurantId = 920L;
+        long first = save(restaurantId, startTime);
+        long second = save(restaurantId, startTime.plusHours(1));
+        long third = save(restaurantId, startTime.plusHours(2));
+        save(restaurantId, startTime.plusDays(1));
+
+        // when
+        List<String> lines = export(restaurantId, ExportFormat.CSV);
+
+        // then
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertTrue(lines.get(0).startsWith("reservationId,"));
+        Assertions.assertTrue(lines.get(1).startsWith(first + "," + restaurantId + ","));
+        Assertions.assertTrue(lines.get(2).startsWith(second + ","));
+        Assertions.assertTrue(lines.get(3).startsWith(third + ","));
+    }
+
+    @Test
+    @DisplayName("NDJSON으로 내보내는 경우 예약 한 건이 한 줄의 JSON으로 작성된다.")
+    void exportNdjson() throws IOException {
+        // given
+        final long restaurantId = 921L;
+        long reservationId = save(restaurantId, startTime);
+
+        // when
+        List<String> lines = export(restaurantId, ExportFormat.NDJSON);
+
+        // then
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertTrue(lines.get(0).contains("\"reservationId\":\"" + reservationId + "\""));
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 내보내기가 최대 개수에 도달하면 새 내보내기를 거절한다.")
+    void rejectWhenBusy() throws IOException {
+        // given
+        StreamingResponseBody running = reservationExportService.export(922L, startTime, startTime.plusDays(1), ExportFormat.CSV);
+
+        // when, then
+        Assertions.assertThrows(ReservationExportException.class,
+                () -> reservationExportService.export(922L, startTime, startTime.plusDays(1), ExportFormat.CSV));
+
+        // 진행 중인 내보내기가 끝나면 다시 내보낼 수 있다.
+        running.writeTo(new ByteArrayOutputStream());
+        Assertions.assertDoesNotThrow(() -> reservationExportService.export(922L, startTime, startTime.plusDays(1), ExportFormat.CSV)
+                .writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @DisplayName("관리자가 내보내기를 요청하면 비동기로 예약을 응답에 쓴다.")
+    void exportEndpoint() throws Exception {
+        // given
+        final long restaurantId = 923L;
+        long reservationId = save(restaurantId, startTime);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/stores/{id}/reservations/export", restaurantId)
+                        .param("from", startTime.toString())
+                        .param("to", startTime.plusDays(1).toString())
+                        .session(session("admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations-" + restaurantId + ".csv\""));
+
+        // then
+        Assertions.assertTrue(result.getResponse().getContentAsString().contains(reservationId + "," + restaurantId + ","));
+    }
+
+    @Test
+    @DisplayName("점주나 관리자가 아닌 회원이 내보내기를 요청하면 403을 응답한다.")
+    void exportEndpointForbidden() throws Exception {
+        // when, then
+        mockMvc.perform(get("/stores/{id}/reservations/export", 1L)
+                        .param("from", startTime.toString())
+                        .param("to", startTime.plusDays(1).toString())
+                        .session(session("maverick")))
+                .andExpect(status().isForbidden());
+    }
+
+    private MockHttpSession session(String memberId) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, memberId);
+
+        return session;
+    }
+
+    private List<String> export(long restaurantId, ExportFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        reservationExportService.export(restaurantId, startTime, startTime.plusDays(1), format).writeTo(outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private long save(long restaurantId, LocalDateTime start) {
+        Reservation reservation = new Reservation();
+        reservation.setMemberSeq(1L);
+        reservation.setRestaurantId(restaurantId);
+        reservation.setStatus(StatusCode.SUCCESS.name());
+        reservation.setMemberCount(2L);
+        reservation.setReservationStartAt(start);
+        reservation.setReservationEndAt(start.plusHours(1));
+        reservation.setId(idGenerator.nextId());
+        reservationMapper.saveReservation(reservation);
+
+        return reservation.getId();
+    }
+}
@@ -0,0 +1,151 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationHoldResponseDto;
+import flab.gotable.exception.ReservationHoldException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationHoldServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationHoldService reservationHoldService;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDateTime startTime = LocalDate.now().plusDays(2).atTime(10, 0);
+
+    @Test
+    @DisplayName("선점한 시간은 선점한 회원만 조회할 수 있다.")
+    void hold() {
+        // given
+        // Redis에 이전 실행의 선점이 남아있지 않도록 매번 다른 식당 id를 사용
+        long restaurantId = idGenerator.nextId();
+
+        // when
+        ReservationHoldResponseDto response = reservationHoldService.hold(request(restaurantId, 1L, startTime, startTime.plusHours(1)));
+
+        // then
+        Assertions.assertEquals(startTime, reservationHoldService.getHold(response.getHoldId(), 1L).getReservationStartTime());
+        Assertions.assertThrows(ReservationHoldException.class, () -> reservationHoldService.getHold(response.getHoldId(), 2L));
+    }
+
+    @Test
+    @DisplayName("시작 시간이 달라도 선점 중인 시간과 겹치면 ReservationHoldException 예외를 발생시킨다.")
+    void holdOverlapping() {
+        // given
+        long restaurantId = idGenerator.nextId();
+        reservationHoldService.hold(request(restaurantId, 1L, startTime, startTime.plusHours(2)));
+
+        // when, then
+        Assertions.assertThrows(ReservationHoldException.class, () ->
+                reservationHoldService.hold(request(restaurantId, 2L, startTime.plusMinutes(30), startTime.plusMinutes(90))));
+        Assertions.assertThrows(ReservationHoldException.class, () ->
+                reservationHoldService.hold(request(restaurantId, 2L, startTime.minusHours(1), startTime.plusMinutes(30))));
+        Assertions.assertDoesNotThrow(() -> reservationHoldService.hold(request(restaurantId, 2L, startTime.plusHours(2), startTime.plusHours(3))));
+    }
+
+    @Test
+    @DisplayName("자정을 넘기는 선점은 다음 날 시작하는 선점과도 겹침을 확인한다.")
+    void holdOverMidnight() {
+        // given
+        long restaurantId = idGenerator.nextId();
+        LocalDateTime lateNight = startTime.withHour(23);
+        reservationHoldService.hold(request(restaurantId, 1L, lateNight, lateNight.plusHours(2)));
+
+        // when, then
+        Assertions.assertThrows(ReservationHoldException.class, () ->
+                reservationHoldService.hold(request(restaurantId, 2L, lateNight.plusMinutes(90), lateNight.plusHours(3))));
+        Assertions.assertThrows(ReservationHoldException.class, () ->
+                reservationHoldService.validateNotHeldByOthers(request(restaurantId, 2L, lateNight.plusHours(1), lateNight.plusHours(2))));
+    }
+
+    @Test
+    @DisplayName("다른 회원이 선점한 시간에 예약하면 예외를 발생시키고, 자신의 선점을 확정하는 경우는 제외한다.")
+    void validateNotHeldByOthers() {
+        // given
+        long restaurantId = idGenerator.nextId();
+        ReservationHoldResponseDto response = reservationHoldService.hold(request(restaurantId, 1L, startTime, startTime.plusHours(1)));
+        ReservationRequestDto own = reservationHoldService.getHold(response.getHoldId(), 1L);
+
+        // when, then
+        Assertions.assertThrows(ReservationHoldException.class, () ->
+                reservationHoldService.validateNotHeldByOthers(request(restaurantId, 2L, startTime.plusMinutes(30), startTime.plusMinutes(90))));
+        Assertions.assertDoesNotThrow(() -> reservationHoldService.validateNotHeldByOthers(own));
+    }
+
+    @Test
+    @DisplayName("요청 본문에 다른 회원의 선점 id를 넣어도 선점 검사를 우회할 수 없다.")
+    void ignoreHoldIdFromRequestBody() throws JsonProcessingException {
+        // given
+        long restaurantId = idGenerator.nextId();
+        ReservationHoldResponseDto response = reservationHoldService.hold(request(restaurantId, 1L, startTime, startTime.plusHours(1)));
+        String body = objectMapper.writeValueAsString(request(restaurantId, 2L, startTime, startTime.plusHours(1)))
+                .replaceFirst("\\{", "{\"holdId\":\"" + response.getHoldId() + "\",");
+
+        // when
+        ReservationRequestDto forged = objectMapper.readValue(body, ReservationRequestDto.class);
+
+        // then
+        Assertions.assertNull(forged.getHoldId());
+        Assertions.assertThrows(ReservationHoldException.class, () -> reservationHoldService.validateNotHeldByOthers(forged));
+    }
+
+    @Test
+    @DisplayName("확정한 선점을 해제하면 같은 시간을 다시 선점할 수 있다.")
+    void release() {
+        // given
+        long restaurantId = idGenerator.nextId();
+        ReservationHoldResponseDto response = reservationHoldService.hold(request(restaurantId, 1L, startTime, startTime.plusHours(1)));
+
+        // when
+        reservationHoldService.release(reservationHoldService.getHold(response.getHoldId(), 1L));
+
+        // then
+        Assertions.assertThrows(ReservationHoldException.class, () -> reservationHoldService.getHold(response.getHoldId(), 1L));
+        Assertions.assertDoesNotThrow(() -> reservationHoldService.hold(request(restaurantId, 2L, startTime, startTime.plusHours(1))));
+    }
+
+    private ReservationRequestDto request(long restaurantId, long memberSeq, LocalDateTime startTime, LocalDateTime endTime) {
+        return new ReservationRequestDto(restaurantId, memberSeq, startTime, endTime, 2L);
+    }
+}
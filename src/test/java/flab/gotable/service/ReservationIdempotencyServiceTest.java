@@ -0,0 +1,115 @@
+package flab.gotable.service;
+
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.IdempotencyException;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationIdempotencyServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationIdempotencyService reservationIdempotencyService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(2).withHour(15).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime endTime = startTime.plusHours(1);
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도한 예약 요청은 다시 예약하지 않고 첫 번째 결과를 반환한다.")
+    void replay() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 1L, startTime, endTime, 2L);
+        ReservationResponseDto first = reservationIdempotencyService.execute(idempotencyKey, requestDto, () -> reservationService.reserveNamedLock(requestDto));
+
+        // when
+        ReservationRequestDto retriedRequestDto = new ReservationRequestDto(1L, 1L, startTime, endTime, 2L);
+        ReservationResponseDto retried = reservationIdempotencyService.execute(idempotencyKey, retriedRequestDto, () -> reservationService.reserveNamedLock(retriedRequestDto));
+
+        // then
+        Assertions.assertEquals(first.getReservationId(), retried.getReservationId());
+        Assertions.assertEquals(1, reservationMapper.findReservationsBetween(1L, startTime, endTime).size());
+    }
+
+    @Test
+    @DisplayName("선점 id만 다른 재시도 요청은 같은 요청으로 보고 첫 번째 결과를 반환한다.")
+    void replayWithDifferentHoldId() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        AtomicInteger executed = new AtomicInteger();
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 2L, startTime.plusHours(3), endTime.plusHours(3), 2L);
+        requestDto.setHoldId("hold-1");
+        reservationIdempotencyService.execute(idempotencyKey, requestDto, () -> response(executed));
+
+        // when
+        ReservationRequestDto retriedRequestDto = new ReservationRequestDto(1L, 2L, startTime.plusHours(3), endTime.plusHours(3), 2L);
+        retriedRequestDto.setHoldId("hold-2");
+        reservationIdempotencyService.execute(idempotencyKey, retriedRequestDto, () -> response(executed));
+
+        // then
+        Assertions.assertEquals(1, executed.get());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 내용이 다른 예약을 요청하면 IdempotencyException 예외를 발생시킨다.")
+    void mismatch() {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        AtomicInteger executed = new AtomicInteger();
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 2L, startTime.plusHours(5), endTime.plusHours(5), 2L);
+        reservationIdempotencyService.execute(idempotencyKey, requestDto, () -> response(executed));
+
+        // when
+        ReservationRequestDto otherRequestDto = new ReservationRequestDto(1L, 2L, startTime.plusHours(5), endTime.plusHours(5), 4L);
+
+        // then
+        Assertions.assertThrows(IdempotencyException.class, () -> reservationIdempotencyService.execute(idempotencyKey, otherRequestDto, () -> response(executed)));
+        Assertions.assertEquals(1, executed.get());
+    }
+
+    private ReservationResponseDto response(AtomicInteger executed) {
+        executed.incrementAndGet();
+        return new ReservationResponseDto();
+    }
+}
@@ -0,0 +1,128 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationIntervalIndexTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationIntervalIndex reservationIntervalIndex;
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate readCommittedTransactionTemplate;
+
+    private final LocalDateTime startTime = LocalDate.now().plusDays(4).atTime(10, 0);
+
+    @Test
+    @DisplayName("처음 조회하는 날짜는 DB에 저장된 예약을 불러와 겹침을 확인한다.")
+    void loadFromDatabase() {
+        // given
+        save(reservation(301L, startTime, startTime.plusHours(1)), false);
+
+        // when, then
+        Assertions.assertTrue(reservationIntervalIndex.overlaps(301L, startTime.plusMinutes(30), startTime.plusMinutes(90)));
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(301L, startTime.plusHours(1), startTime.plusHours(2)));
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(302L, startTime, startTime.plusHours(1)));
+    }
+
+    @Test
+    @DisplayName("이미 불러온 날짜에 저장된 예약은 커밋 후에 반영하고, 롤백된 예약은 반영하지 않는다.")
+    void addAfterCommit() {
+        // given
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(303L, startTime, startTime.plusHours(3)));
+
+        // when
+        save(reservation(303L, startTime, startTime.plusHours(1)), false);
+        save(reservation(303L, startTime.plusHours(2), startTime.plusHours(3)), true);
+
+        // then
+        Assertions.assertTrue(reservationIntervalIndex.overlaps(303L, startTime, startTime.plusHours(1)));
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(303L, startTime.plusHours(2), startTime.plusHours(3)));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 예약은 다음 날짜의 겹침 확인에도 반영된다.")
+    void overlapsOverMidnight() {
+        // given
+        LocalDateTime lateNight = startTime.withHour(23);
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(304L, lateNight.plusHours(1), lateNight.plusHours(2)));
+
+        // when
+        save(reservation(304L, lateNight, lateNight.plusHours(2)), false);
+
+        // then
+        Assertions.assertTrue(reservationIntervalIndex.overlaps(304L, lateNight.plusMinutes(90), lateNight.plusHours(3)));
+        Assertions.assertFalse(reservationIntervalIndex.overlaps(304L, lateNight.plusHours(2), lateNight.plusHours(3)));
+    }
+
+    private void save(Reservation reservation, boolean rollback) {
+        shardRouter.route(reservation.getRestaurantId(), () -> readCommittedTransactionTemplate.execute(status -> {
+            reservationMapper.saveReservation(reservation);
+            reservationIntervalIndex.add(reservation);
+
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return null;
+        }));
+    }
+
+    private Reservation reservation(long restaurantId, LocalDateTime start, LocalDateTime end) {
+        Reservation reservation = new Reservation();
+        reservation.setId(idGenerator.nextId());
+        reservation.setMemberSeq(1L);
+        reservation.setRestaurantId(restaurantId);
+        reservation.setStatus(StatusCode.SUCCESS.name());
+        reservation.setMemberCount(2L);
+        reservation.setReservationStartAt(start);
+        reservation.setReservationEndAt(end);
+
+        return reservation;
+    }
+}
@@ -50,6 +50,9 @@ public class ReservationNamedLockServiceTest {
     @Autowired
     private ReservationMapper reservationMapper;
 
+    @Autowired
+    private IdGenerator idGenerator;
+
     @Autowired
     private ReservationService reservationService;
 
@@ -128,6 +131,7 @@ public class ReservationNamedLockServiceTest {
         reservation.setCreatedAt(LocalDateTime.now());
         reservation.setReservationStartAt(startTime);
         reservation.setReservationEndAt(endTime);
+        reservation.setId(idGenerator.nextId());
         reservationMapper.saveReservation(reservation);
 
         // given
@@ -0,0 +1,201 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.ReservationOutboxEvent;
+import flab.gotable.domain.event.ReservationChangedEvent;
+import flab.gotable.domain.event.ReservationEventType;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 테스트에서 직접 발행하도록 주기적인 relay는 실행되지 않게 설정하고, 실패한 이벤트는 바로 재시도하도록 설정
+@SpringBootTest(properties = {
+        "reservation.outbox.poll-interval-millis=3600000",
+        "reservation.outbox.max-attempts=2",
+        "reservation.outbox.retry-delay-seconds=0"
+})
+@Testcontainers
+@RecordApplicationEvents
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationOutboxRelayTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationOutboxRelay reservationOutboxRelay;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 리스너 처리에 실패할 예약 id
+    private static volatile long failingReservationId = -1;
+    // 리스너가 처리한 예약 id (처리 순서)
+    private static final List<Long> deliveredReservationIds = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class FailingListenerConfig {
+        @EventListener
+        public void onReservationChanged(ReservationChangedEvent event) {
+            if (event.getReservationId() == failingReservationId) {
+                throw new IllegalStateException("listener failed");
+            }
+            deliveredReservationIds.add(event.getReservationId());
+        }
+    }
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(9).withHour(15).withMinute(0).withSecond(0).withNano(0);
+
+    @Test
+    @DisplayName("예약이 저장되면 같은 트랜잭션에서 outbox에 기록되고, relay가 발행한 뒤 outbox에서 삭제한다.")
+    void relayReservationCreated() {
+        // given
+        ReservationResponseDto reservation = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, startTime, startTime.plusHours(1), 2L));
+        Long streamSize = stringRedisTemplate.opsForStream().size(ReservationOutboxRelay.STREAM_KEY);
+
+        // when
+        int published = reservationOutboxRelay.relayBatch();
+
+        // then
+        Assertions.assertEquals(1, published);
+        Assertions.assertTrue(reservationMapper.findOutboxEvents(10).isEmpty());
+        Assertions.assertEquals((streamSize == null ? 0 : streamSize) + 1, stringRedisTemplate.opsForStream().size(ReservationOutboxRelay.STREAM_KEY));
+
+        List<ReservationChangedEvent> events = applicationEvents.stream(ReservationChangedEvent.class).toList();
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(ReservationEventType.CREATED, events.get(0).getType());
+        Assertions.assertEquals(reservation.getReservationId(), events.get(0).getReservationId());
+    }
+
+    @Test
+    @DisplayName("리스너 처리에 실패한 이벤트는 outbox에 남겨 재시도하고, 최대 재시도 횟수를 넘으면 dead letter로 옮긴다.")
+    void retryAndDeadLetterOnListenerFailure() {
+        // given
+        LocalDateTime start = startTime.plusHours(5);
+        ReservationResponseDto reservation = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, start.plusHours(1), 2L));
+        failingReservationId = reservation.getReservationId();
+        Long streamSize = stringRedisTemplate.opsForStream().size(ReservationOutboxRelay.STREAM_KEY);
+
+        try {
+            // when
+            reservationOutboxRelay.relayBatch();
+
+            // then
+            List<ReservationOutboxEvent> remaining = reservationMapper.findOutboxEvents(10);
+            Assertions.assertEquals(1, remaining.size());
+            Assertions.assertEquals(reservation.getReservationId(), remaining.get(0).getReservationId());
+            Assertions.assertEquals(1, remaining.get(0).getAttempts());
+            // 리스너가 실패한 이벤트는 Stream에 추가하지 않는다.
+            Assertions.assertEquals(streamSize, stringRedisTemplate.opsForStream().size(ReservationOutboxRelay.STREAM_KEY));
+
+            // when
+            reservationOutboxRelay.relayBatch();
+
+            // then
+            Assertions.assertTrue(reservationMapper.findOutboxEvents(10).isEmpty());
+            Assertions.assertEquals(2, jdbcTemplate.queryForObject(
+                    "SELECT attempts FROM reservation_outbox_dead_letter WHERE reservation_id = ?", Integer.class, reservation.getReservationId()));
+        } finally {
+            failingReservationId = -1;
+        }
+    }
+
+    @Test
+    @DisplayName("이벤트가 재시도되는 동안 같은 식당의 이후 이벤트는 발행하지 않고, 다른 식당의 이벤트는 발행한다.")
+    void keepRestaurantOrderWhileRetrying() {
+        // given
+        LocalDateTime start = startTime.plusHours(1);
+        ReservationResponseDto first = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, start.plusHours(1), 2L));
+        ReservationResponseDto second = reservationService.reserveNamedLock(new ReservationRequestDto(1L, 2L, start.plusHours(1), start.plusHours(2), 2L));
+        ReservationResponseDto other = reservationService.reserveNamedLock(new ReservationRequestDto(2L, 1L, start, start.plusHours(1), 2L));
+        failingReservationId = first.getReservationId();
+        deliveredReservationIds.clear();
+
+        try {
+            // when
+            reservationOutboxRelay.relayBatch();
+
+            // then
+            Assertions.assertEquals(List.of(first.getReservationId(), second.getReservationId()),
+                    jdbcTemplate.queryForList("SELECT reservation_id FROM reservation_outbox ORDER BY id", Long.class));
+            Assertions.assertEquals(List.of(other.getReservationId()), deliveredReservationIds);
+
+            // 이전 이벤트가 재시도를 기다리는 동안에는 같은 식당의 이후 이벤트를 조회하지 않는다.
+            jdbcTemplate.update("UPDATE reservation_outbox SET next_attempt_at = now() + INTERVAL 1 HOUR WHERE reservation_id = ?", first.getReservationId());
+            Assertions.assertTrue(reservationMapper.findOutboxEvents(10).isEmpty());
+            jdbcTemplate.update("UPDATE reservation_outbox SET next_attempt_at = now() WHERE reservation_id = ?", first.getReservationId());
+        } finally {
+            failingReservationId = -1;
+        }
+
+        // when
+        reservationOutboxRelay.relayBatch();
+
+        // then
+        Assertions.assertTrue(reservationMapper.findOutboxEvents(10).isEmpty());
+        Assertions.assertEquals(List.of(other.getReservationId(), first.getReservationId(), second.getReservationId()), deliveredReservationIds);
+    }
+
+    @Test
+    @DisplayName("예약이 실패하면 outbox에 이벤트가 기록되지 않는다.")
+    void noEventOnRollback() {
+        // given
+        LocalDateTime start = startTime.plusHours(3);
+        reservationService.reserveNamedLock(new ReservationRequestDto(1L, 1L, start, start.plusHours(1), 2L));
+        reservationOutboxRelay.relayBatch();
+
+        // when
+        Assertions.assertThrows(RuntimeException.class,
+                () -> reservationService.reserveNamedLock(new ReservationRequestDto(1L, 2L, start, start.plusHours(1), 2L)));
+
+        // then
+        Assertions.assertTrue(reservationMapper.findOutboxEvents(10).isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.domain.entity.Reservation;
+import flab.gotable.dto.StatusCode;
+import flab.gotable.dto.response.ReservationPageResponseDto;
+import flab.gotable.dto.response.ReservationResponseDto;
+import flab.gotable.exception.InvalidReservationTimeException;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationQueryServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private ReservationQueryService reservationQueryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(5).withHour(12).withMinute(0).withSecond(0).withNano(0);
+
+    @Test
+    @DisplayName("회원의 예약 현황을 시작 시간 순으로 중복이나 누락 없이 페이지 단위로 조회한다.")
+    void getMemberReservationsByCursor() {
+        // given
+        final long memberSeq = 900L;
+        List<Long> savedIds = new ArrayList<>();
+        // 시작 시간이 같은 예약은 id 순으로 정렬된다.
+        savedIds.add(save(memberSeq, 901L, startTime));
+        savedIds.add(save(memberSeq, 902L, startTime));
+        savedIds.add(save(memberSeq, 903L, startTime.plusHours(1)));
+        savedIds.add(save(memberSeq, 904L, startTime.plusHours(2)));
+        savedIds.add(save(memberSeq, 905L, startTime.plusHours(3)));
+
+        // when
+        List<Long> fetchedIds = new ArrayList<>();
+        ReservationPageResponseDto page = reservationQueryService.getMemberReservations(memberSeq, null, null, 2);
+        fetchedIds.addAll(ids(page));
+
+        while (page.isHasNext()) {
+            page = reservationQueryService.getMemberReservations(memberSeq, page.getNextCursorStartAt(), page.getNextCursorId(), 2);
+            fetchedIds.addAll(ids(page));
+        }
+
+        // then
+        Assertions.assertEquals(savedIds, fetchedIds);
+        Assertions.assertNull(page.getNextCursorId());
+    }
+
+    @Test
+    @DisplayName("식당의 예약 현황은 조회 기간 안에 시작하는 예약만 조회한다.")
+    void getStoreReservationsWithinRange() {
+        // given
+        final long restaurantId = 910L;
+        save(911L, restaurantId, startTime.minusHours(1));
+        long inRange = save(912L, restaurantId, startTime);
+        save(913L, restaurantId, startTime.plusHours(2));
+
+        // when
+        ReservationPageResponseDto page = reservationQueryService.getStoreReservations(restaurantId, startTime, startTime.plusHours(2), null, null, 20);
+
+        // then
+        Assertions.assertEquals(List.of(inRange), ids(page));
+        Assertions.assertFalse(page.isHasNext());
+    }
+
+    @Test
+    @DisplayName("조회 종료 시간이 조회 시작 시간보다 앞서면 예외가 발생한다.")
+    void getStoreReservationsWithInvalidRange() {
+        // given, when, then
+        Assertions.assertThrows(InvalidReservationTimeException.class,
+                () -> reservationQueryService.getStoreReservations(910L, startTime, startTime.minusHours(1), null, null, 20));
+    }
+
+    @Test
+    @DisplayName("2^53을 넘는 예약 id와 다음 커서 id는 정밀도가 손실되지 않도록 문자열로 응답하고, 문자열로 받아도 읽을 수 있다.")
+    void serializeIdsAsString() throws JsonProcessingException {
+        // given
+        final long memberSeq = 920L;
+        long first = save(memberSeq, 921L, startTime);
+        save(memberSeq, 922L, startTime.plusHours(1));
+        ReservationPageResponseDto page = reservationQueryService.getMemberReservations(memberSeq, null, null, 1);
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(page));
+        ReservationResponseDto read = objectMapper.treeToValue(json.get("reservations").get(0), ReservationResponseDto.class);
+
+        // then
+        Assertions.assertTrue(first > (1L << 53));
+        Assertions.assertEquals(String.valueOf(first), json.get("reservations").get(0).get("reservationId").textValue());
+        Assertions.assertEquals(String.valueOf(first), json.get("nextCursorId").textValue());
+        Assertions.assertEquals(first, read.getReservationId());
+    }
+
+    private long save(long memberSeq, long restaurantId, LocalDateTime start) {
+        Reservation reservation = new Reservation();
+        reservation.setMemberSeq(memberSeq);
+        reservation.setRestaurantId(restaurantId);
+        reservation.setStatus(StatusCode.SUCCESS.name());
+        reservation.setMemberCount(2L);
+        reservation.setReservationStartAt(start);
+        reservation.setReservationEndAt(start.plusHours(1));
+        reservation.setId(idGenerator.nextId());
+        reservationMapper.saveReservation(reservation);
+
+        return reservation.getId();
+    }
+
+    private List<Long> ids(ReservationPageResponseDto page) {
+        return page.getReservations().stream().map(ReservationResponseDto::getReservationId).toList();
+    }
+}
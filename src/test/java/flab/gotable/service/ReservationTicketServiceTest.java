@@ -0,0 +1,184 @@
+package flab.gotable.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flab.gotable.dto.TicketStatus;
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.ReservationTicketResponseDto;
+import flab.gotable.exception.ReservationTicketNotFoundException;
+import flab.gotable.mapper.ReservationMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static flab.gotable.service.LoginService.MEMBER_ID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 만료를 확인하도록 티켓 보관 시간을 짧게 설정하고, 주기적인 정리는 실행되지 않게 설정
+@SpringBootTest(properties = {
+        "reservation.async.ticket-ttl-seconds=1",
+        "reservation.async.ticket-cleanup-millis=3600000"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationTicketServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private ReservationTicketService reservationTicketService;
+
+    @Autowired
+    private ReservationMapper reservationMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocalDateTime startTime = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+    @Test
+    @DisplayName("예약을 접수하면 티켓을 발급하고, 처리가 끝나면 티켓에 예약 결과를 저장한다.")
+    void issueAndComplete() throws InterruptedException {
+        // given
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 1L, startTime, startTime.plusHours(1), 2L);
+
+        // when
+        ReservationTicketResponseDto issued = reservationTicketService.submit(requestDto);
+        ReservationTicketResponseDto completed = awaitCompletion(issued.getTicketId());
+
+        // then
+        Assertions.assertEquals(TicketStatus.PENDING, issued.getStatus());
+        Assertions.assertEquals(TicketStatus.SUCCEEDED, completed.getStatus());
+        Assertions.assertEquals(1, reservationMapper.findReservationsBetween(1L, startTime, startTime.plusHours(1)).size());
+    }
+
+    @Test
+    @DisplayName("예약에 실패하면 티켓에 실패 사유를 저장한다.")
+    void completeWithFailure() throws InterruptedException {
+        // given
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 99L, startTime.plusHours(2), startTime.plusHours(3), 2L);
+
+        // when
+        ReservationTicketResponseDto completed = awaitCompletion(reservationTicketService.submit(requestDto).getTicketId());
+
+        // then
+        Assertions.assertEquals(TicketStatus.FAILED, completed.getStatus());
+        Assertions.assertNotNull(completed.getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 접수되어 처리 중인 티켓도 조회할 수 있다.")
+    void getPendingTicketFromOtherNode() {
+        // given
+        // 접수한 요청을 처리하지 않는 다른 노드
+        ReservationTicketService otherNode = new ReservationTicketService(reservationService, new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+            }
+        }, stringRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(otherNode, "queueCapacityPerRestaurant", 10);
+        ReflectionTestUtils.setField(otherNode, "ticketTtlSeconds", 60L);
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 1L, startTime.plusHours(8), startTime.plusHours(9), 2L);
+
+        // when
+        String ticketId = otherNode.submit(requestDto).getTicketId();
+
+        // then
+        ReservationTicketResponseDto ticket = reservationTicketService.getTicket(ticketId);
+        Assertions.assertEquals(ticketId, ticket.getTicketId());
+        Assertions.assertEquals(TicketStatus.PENDING, ticket.getStatus());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 티켓과 요청이 없는 식당 대기열은 제거한다.")
+    void removeExpired() throws InterruptedException {
+        // given
+        ReservationRequestDto requestDto = new ReservationRequestDto(2L, 1L, startTime.plusHours(4), startTime.plusHours(5), 2L);
+        String ticketId = reservationTicketService.submit(requestDto).getTicketId();
+        awaitCompletion(ticketId);
+        Thread.sleep(1500);
+
+        // when
+        reservationTicketService.cleanUp();
+
+        // then
+        Assertions.assertThrows(ReservationTicketNotFoundException.class, () -> reservationTicketService.getTicket(ticketId));
+        Assertions.assertFalse(reservationTicketService.hasQueue(2L));
+    }
+
+    @Test
+    @DisplayName("티켓을 구독하면 처리 결과를 SSE 이벤트로 전달한다.")
+    void subscribe() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, "syoh");
+        ReservationRequestDto requestDto = new ReservationRequestDto(1L, 1L, startTime.plusHours(6), startTime.plusHours(7), 2L);
+        String ticketId = reservationTicketService.submit(requestDto).getTicketId();
+
+        // when
+        MvcResult result = mockMvc.perform(get("/reservations/tickets/{ticketId}/events", ticketId).session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10000);
+
+        // then
+        String events = result.getResponse().getContentAsString();
+        Assertions.assertTrue(events.contains("event:result"));
+        Assertions.assertTrue(events.contains(TicketStatus.SUCCEEDED.name()));
+    }
+
+    private ReservationTicketResponseDto awaitCompletion(String ticketId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ReservationTicketResponseDto ticket = reservationTicketService.getTicket(ticketId);
+            if (ticket.getStatus() != TicketStatus.PENDING) {
+                return ticket;
+            }
+            Thread.sleep(100);
+        }
+
+        return Assertions.fail("reservation ticket was not completed: " + ticketId);
+    }
+}
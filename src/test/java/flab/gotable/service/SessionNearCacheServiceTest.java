@@ -0,0 +1,131 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.event.MemberLogoutEvent;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static flab.gotable.service.LoginService.MEMBER_ID;
+
+class SessionNearCacheServiceTest {
+
+    private final List<String> publishedSessionIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("캐시된 세션은 세션 저장소를 조회하지 않고 인증한다.")
+    void hit() {
+        // given
+        SessionNearCacheService service = service(60000, 60000);
+        MockHttpSession session = authenticatedSession();
+        service.hasAuthentication(request("session-1", session));
+
+        // when
+        // 세션 저장소를 조회했다면 세션이 없어 인증에 실패한다.
+        boolean authenticated = service.hasAuthentication(request("session-1", null));
+
+        // then
+        Assertions.assertTrue(authenticated);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 세션 저장소에서 인증을 확인한다.")
+    void miss() {
+        // given
+        SessionNearCacheService service = service(60000, 60000);
+
+        // when, then
+        Assertions.assertTrue(service.hasAuthentication(request("session-1", authenticatedSession())));
+        Assertions.assertFalse(service.hasAuthentication(request("session-2", new MockHttpSession())));
+        Assertions.assertFalse(service.hasAuthentication(request("session-3", null)));
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 캐시는 사용하지 않는다.")
+    void expireAfterTtl() {
+        // given
+        SessionNearCacheService service = service(0, 60000);
+        service.hasAuthentication(request("session-1", authenticatedSession()));
+
+        // when
+        boolean authenticated = service.hasAuthentication(request("session-1", null));
+
+        // then
+        Assertions.assertFalse(authenticated);
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 캐시를 제거하고 다른 노드에 무효화를 전파한다.")
+    void evictOnLogout() {
+        // given
+        SessionNearCacheService service = service(60000, 60000);
+        service.hasAuthentication(request("session-1", authenticatedSession()));
+
+        // when
+        service.onLogout(new MemberLogoutEvent("session-1"));
+
+        // then
+        Assertions.assertEquals(List.of("session-1"), publishedSessionIds);
+        Assertions.assertFalse(service.hasAuthentication(request("session-1", null)));
+    }
+
+    @Test
+    @DisplayName("세션 저장소에서 세션이 만료되면 마지막 접근 시간을 갱신할 때 캐시를 제거하고 거절한다.")
+    void rejectExpiredSession() {
+        // given
+        SessionNearCacheService service = service(60000, 0);
+        MockHttpSession session = authenticatedSession();
+        service.hasAuthentication(request("session-1", session));
+
+        // when
+        session.invalidate();
+        boolean authenticated = service.hasAuthentication(request("session-1", session));
+
+        // then
+        Assertions.assertFalse(authenticated);
+        Assertions.assertFalse(service.hasAuthentication(request("session-1", null)));
+    }
+
+    private SessionNearCacheService service(long ttlMillis, long touchIntervalMillis) {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate() {
+            @Override
+            public Long convertAndSend(String channel, Object message) {
+                publishedSessionIds.add((String) message);
+                return 1L;
+            }
+        };
+
+        SessionNearCacheService service = new SessionNearCacheService(stringRedisTemplate, new RedisMessageListenerContainer(),
+                new StaticListableBeanFactory().getBeanProvider(CookieSerializer.class), ttlMillis, touchIntervalMillis, 100);
+        service.init();
+
+        return service;
+    }
+
+    private MockHttpSession authenticatedSession() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, "testId");
+
+        return session;
+    }
+
+    // DefaultCookieSerializer는 세션 id를 base64로 인코딩한 SESSION 쿠키를 읽는다.
+    private MockHttpServletRequest request(String sessionId, MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("SESSION", Base64.getEncoder().encodeToString(sessionId.getBytes(StandardCharsets.UTF_8))));
+        request.setSession(session);
+
+        return request;
+    }
+}
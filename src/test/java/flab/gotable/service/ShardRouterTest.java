@@ -0,0 +1,153 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.RestaurantMovingException;
+import flab.gotable.exception.ShardSplitException;
+import flab.gotable.utils.ShardContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class ShardRouterTest {
+
+    private static final Map<String, String> SHARD_URLS = Map.of(
+            "shard-0", "jdbc:mysql://shard-0:3306/gotable",
+            "shard-1", "jdbc:mysql://shard-1:3306/gotable",
+            "shard-2", "jdbc:mysql://shard-2:3306/gotable"
+    );
+
+    @Test
+    @DisplayName("샤드가 설정되지 않은 경우 공용 DB에서 실행한다.")
+    void notSharded() {
+        // given
+        ShardRouter shardRouter = new ShardRouter(Map.of(), 128, List.of(), new InMemoryShardSplitStore(), 0);
+
+        // when, then
+        Assertions.assertFalse(shardRouter.isSharded());
+        Assertions.assertNull(shardRouter.route(1L, ShardContext::current));
+        Assertions.assertNull(shardRouter.routeWrite(1L, ShardContext::current));
+        Assertions.assertEquals(1, shardRouter.forEachShard(ShardContext::current).size());
+    }
+
+    @Test
+    @DisplayName("식당의 샤드에서 실행하고, 공용 DB 조회 후에는 원래 샤드로 돌아온다.")
+    void routeToOwningShard() {
+        // given
+        ShardRouter shardRouter = new ShardRouter(SHARD_URLS, 128, List.of(), new InMemoryShardSplitStore(), 0);
+        final String shard = shardRouter.shardFor(1L);
+
+        // when
+        String[] observed = new String[3];
+        shardRouter.route(1L, () -> {
+            observed[0] = ShardContext.current();
+            observed[1] = shardRouter.global(ShardContext::current);
+            observed[2] = ShardContext.current();
+            return null;
+        });
+
+        // then
+        Assertions.assertEquals(shard, observed[0]);
+        Assertions.assertNull(observed[1]);
+        Assertions.assertEquals(shard, observed[2]);
+        Assertions.assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("샤드 분할 중에는 이동 중인 식당의 쓰기를 거절하고, 이동이 완료된 식당만 새 샤드로 라우팅한다.")
+    void splitShard() {
+        // given
+        ShardRouter shardRouter = new ShardRouter(SHARD_URLS, 128, List.of("shard-2"), new InMemoryShardSplitStore(), 0);
+        long movingRestaurantId = findRestaurantMovingTo(shardRouter, "shard-2");
+        final String before = shardRouter.shardFor(movingRestaurantId);
+
+        // when
+        shardRouter.beginSplit("shard-2");
+
+        // then
+        Assertions.assertEquals(before, shardRouter.shardFor(movingRestaurantId));
+        Assertions.assertEquals(before, shardRouter.routeWrite(movingRestaurantId, ShardContext::current));
+        Assertions.assertEquals(3, shardRouter.forEachShard(ShardContext::current).size());
+
+        shardRouter.beginMove(movingRestaurantId);
+        Assertions.assertThrows(RestaurantMovingException.class, () -> shardRouter.routeWrite(movingRestaurantId, ShardContext::current));
+        Assertions.assertEquals(before, shardRouter.route(movingRestaurantId, ShardContext::current));
+        Assertions.assertThrows(ShardSplitException.class, shardRouter::finishSplit);
+
+        shardRouter.completeMove(movingRestaurantId);
+        Assertions.assertEquals("shard-2", shardRouter.shardFor(movingRestaurantId));
+        Assertions.assertEquals("shard-2", shardRouter.routeWrite(movingRestaurantId, ShardContext::current));
+
+        shardRouter.finishSplit();
+        Assertions.assertEquals("shard-2", shardRouter.shardFor(movingRestaurantId));
+        Assertions.assertThrows(ShardSplitException.class, () -> shardRouter.beginSplit("shard-2"));
+    }
+
+    @Test
+    @DisplayName("새 샤드로 이동하지 않는 식당은 이동을 시작할 수 없고, drain 시간 전에는 이동을 완료할 수 없다.")
+    void rejectInvalidMove() {
+        // given
+        ShardRouter shardRouter = new ShardRouter(SHARD_URLS, 128, List.of("shard-2"), new InMemoryShardSplitStore(), 60000);
+        long movingRestaurantId = findRestaurantMovingTo(shardRouter, "shard-2");
+        long stayingRestaurantId = findRestaurantStaying(shardRouter, "shard-2");
+
+        // when, then
+        Assertions.assertThrows(ShardSplitException.class, () -> shardRouter.beginMove(movingRestaurantId));
+
+        shardRouter.beginSplit("shard-2");
+        Assertions.assertThrows(ShardSplitException.class, () -> shardRouter.beginMove(stayingRestaurantId));
+        Assertions.assertThrows(ShardSplitException.class, () -> shardRouter.completeMove(movingRestaurantId));
+
+        shardRouter.beginMove(movingRestaurantId);
+        Assertions.assertThrows(ShardSplitException.class, () -> shardRouter.completeMove(movingRestaurantId));
+        Assertions.assertThrows(RestaurantMovingException.class, () -> shardRouter.routeWrite(movingRestaurantId, ShardContext::current));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 변경한 분할 상태는 쓰기에 바로 반영되고, 조회에는 동기화 후 반영된다.")
+    void shareSplitStateBetweenNodes() {
+        // given
+        InMemoryShardSplitStore splitStore = new InMemoryShardSplitStore();
+        ShardRouter node1 = new ShardRouter(SHARD_URLS, 128, List.of("shard-2"), splitStore, 0);
+        ShardRouter node2 = new ShardRouter(SHARD_URLS, 128, List.of("shard-2"), splitStore, 0);
+        long movingRestaurantId = findRestaurantMovingTo(node1, "shard-2");
+        final String before = node2.shardFor(movingRestaurantId);
+
+        // when
+        node1.beginSplit("shard-2");
+        node1.beginMove(movingRestaurantId);
+
+        // then
+        Assertions.assertThrows(RestaurantMovingException.class, () -> node2.routeWrite(movingRestaurantId, ShardContext::current));
+
+        node1.completeMove(movingRestaurantId);
+        Assertions.assertEquals("shard-2", node2.routeWrite(movingRestaurantId, ShardContext::current));
+        Assertions.assertEquals(before, node2.shardFor(movingRestaurantId));
+
+        node2.sync();
+        Assertions.assertEquals("shard-2", node2.shardFor(movingRestaurantId));
+    }
+
+    private long findRestaurantMovingTo(ShardRouter shardRouter, String shard) {
+        ShardRouter afterSplit = new ShardRouter(SHARD_URLS, 128, List.of(), new InMemoryShardSplitStore(), 0);
+
+        for (long restaurantId = 1; ; restaurantId++) {
+            if (shard.equals(afterSplit.shardFor(restaurantId))) {
+                Assertions.assertNotEquals(shard, shardRouter.shardFor(restaurantId));
+                return restaurantId;
+            }
+        }
+    }
+
+    private long findRestaurantStaying(ShardRouter shardRouter, String shard) {
+        ShardRouter afterSplit = new ShardRouter(SHARD_URLS, 128, List.of(), new InMemoryShardSplitStore(), 0);
+
+        for (long restaurantId = 1; ; restaurantId++) {
+            if (!shard.equals(afterSplit.shardFor(restaurantId))) {
+                Assertions.assertEquals(afterSplit.shardFor(restaurantId), shardRouter.shardFor(restaurantId));
+                return restaurantId;
+            }
+        }
+    }
+}
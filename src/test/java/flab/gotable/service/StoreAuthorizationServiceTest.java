@@ -0,0 +1,75 @@
+package flab.gotable.service;
+
+import flab.gotable.exception.StoreAccessDeniedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class StoreAuthorizationServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private StoreAuthorizationService storeAuthorizationService;
+
+    @Test
+    @DisplayName("식당 점주는 자신의 식당만 관리할 수 있다.")
+    void owner() {
+        // given
+        // 회원 1은 식당 1의 점주
+        long ownerSeq = 1L;
+
+        // when, then
+        Assertions.assertDoesNotThrow(() -> storeAuthorizationService.checkManageable(1L, ownerSeq));
+        Assertions.assertThrows(StoreAccessDeniedException.class, () -> storeAuthorizationService.checkManageable(2L, ownerSeq));
+    }
+
+    @Test
+    @DisplayName("관리자는 모든 식당을 관리할 수 있다.")
+    void admin() {
+        // given
+        long adminSeq = 3L;
+
+        // when, then
+        Assertions.assertDoesNotThrow(() -> storeAuthorizationService.checkManageable(1L, adminSeq));
+        Assertions.assertDoesNotThrow(() -> storeAuthorizationService.checkManageable(2L, adminSeq));
+    }
+
+    @Test
+    @DisplayName("점주나 관리자가 아닌 회원은 StoreAccessDeniedException 예외를 발생시킨다.")
+    void otherMember() {
+        // given
+        long memberSeq = 2L;
+
+        // when, then
+        Assertions.assertThrows(StoreAccessDeniedException.class, () -> storeAuthorizationService.checkManageable(1L, memberSeq));
+        Assertions.assertThrows(StoreAccessDeniedException.class, () -> storeAuthorizationService.checkManageable(999L, memberSeq));
+    }
+}
@@ -0,0 +1,249 @@
+package flab.gotable.service;
+
+import flab.gotable.domain.entity.Availability;
+import flab.gotable.domain.entity.DailySchedule;
+import flab.gotable.domain.entity.SpecificSchedule;
+import flab.gotable.dto.request.StoreScheduleRequestDto;
+import flab.gotable.dto.response.StoreScheduleResponseDto;
+import flab.gotable.exception.InvalidScheduleException;
+import flab.gotable.exception.StoreNotFoundException;
+import flab.gotable.mapper.AvailabilityMapper;
+import flab.gotable.mapper.ScheduleMapper;
+import flab.gotable.mapper.StoreMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static flab.gotable.service.LoginService.MEMBER_ID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class StoreScheduleServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private StoreScheduleService storeScheduleService;
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private StoreMapper storeMapper;
+
+    @Autowired
+    private ScheduleMapper scheduleMapper;
+
+    @Autowired
+    private AvailabilityMapper availabilityMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("요청한 스케줄과 현재 스케줄을 비교하여 달라진 스케줄만 반영하고 식당 버전을 올린다.")
+    void updateSchedules() {
+        // given
+        LocalDate holiday = LocalDate.now().plusDays(3);
+        StoreScheduleRequestDto request = new StoreScheduleRequestDto(
+                weekdays(LocalTime.of(11, 0), LocalTime.of(21, 0), 60L),
+                List.of(new SpecificSchedule(holiday, LocalTime.of(12, 0), LocalTime.of(15, 0), 30L)));
+
+        // when
+        StoreScheduleResponseDto first = storeScheduleService.updateSchedules(3L, request);
+        StoreScheduleResponseDto second = storeScheduleService.updateSchedules(3L, request);
+
+        // then
+        Assertions.assertEquals(6, first.getUpsertedSchedules());
+        Assertions.assertEquals(0, second.getUpsertedSchedules());
+        Assertions.assertEquals(0, second.getDeletedSchedules());
+        Assertions.assertEquals(first.getVersion() + 1, second.getVersion());
+        Assertions.assertEquals(5, storeMapper.findDailyScheduleByStoreId(3L).size());
+        Assertions.assertEquals(LocalTime.of(12, 0), scheduleMapper.findSpecificSchedulesFrom(3L, holiday).get(0).getOpenTime());
+    }
+
+    @Test
+    @DisplayName("요청에 없는 요일과 특수 영업 스케줄은 삭제한다.")
+    void removeSchedules() {
+        // given
+        LocalDate holiday = LocalDate.now().plusDays(2);
+        storeScheduleService.updateSchedules(4L, new StoreScheduleRequestDto(
+                weekdays(LocalTime.of(11, 0), LocalTime.of(21, 0), 60L),
+                List.of(new SpecificSchedule(holiday, LocalTime.of(12, 0), LocalTime.of(15, 0), 30L))));
+
+        // when
+        StoreScheduleResponseDto response = storeScheduleService.updateSchedules(4L, new StoreScheduleRequestDto(
+                List.of(new DailySchedule(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(21, 0), 60L)),
+                List.of()));
+
+        // then
+        // 화~금 일반 영업 스케줄 4건과 특수 영업 스케줄 1건
+        Assertions.assertEquals(5, response.getDeletedSchedules());
+        Assertions.assertEquals(1, storeMapper.findDailyScheduleByStoreId(4L).size());
+        Assertions.assertTrue(scheduleMapper.findSpecificSchedulesFrom(4L, LocalDate.now()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("스케줄이 바뀐 날짜의 예약 가능 현황만 무효화한다.")
+    void invalidateChangedDates() {
+        // given
+        LocalDate today = LocalDate.now();
+        availabilityService.getAvailability(1L, today, today.plusDays(7));
+
+        List<DailySchedule> week = new ArrayList<>();
+        for (DailySchedule schedule : storeMapper.findDailyScheduleByStoreId(1L)) {
+            long splitTime = schedule.getDay() == DayOfWeek.MONDAY ? 120L : schedule.getSplitTime();
+            week.add(new DailySchedule(schedule.getDay(), schedule.getOpenTime(), schedule.getCloseTime(), splitTime));
+        }
+        LocalDate holiday = today.plusDays(1);
+        if (holiday.getDayOfWeek() == DayOfWeek.MONDAY) {
+            holiday = holiday.plusDays(1);
+        }
+
+        // when
+        StoreScheduleResponseDto response = storeScheduleService.updateSchedules(1L, new StoreScheduleRequestDto(week,
+                List.of(new SpecificSchedule(holiday, LocalTime.of(10, 0), LocalTime.of(12, 0), 60L))));
+
+        // then
+        List<Availability> availabilities = availabilityMapper.findAvailabilities(1L, today, today.plusDays(7));
+        final LocalDate invalidatedHoliday = holiday;
+
+        Assertions.assertEquals(2, response.getUpsertedSchedules());
+        Assertions.assertEquals(2, response.getInvalidatedDates());
+        Assertions.assertEquals(5, availabilities.size());
+        Assertions.assertTrue(availabilities.stream().noneMatch(availability ->
+                availability.getDate().getDayOfWeek() == DayOfWeek.MONDAY || availability.getDate().equals(invalidatedHoliday)));
+        Assertions.assertEquals(10, availabilityService.getAvailability(1L, invalidatedHoliday, invalidatedHoliday.plusDays(1)).get(0).getOpenTime().getHour());
+    }
+
+    @Test
+    @DisplayName("잘못된 스케줄이 포함되면 아무것도 반영하지 않는다.")
+    void rejectInvalidSchedules() {
+        // given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<DailySchedule> week = weekdays(LocalTime.of(11, 0), LocalTime.of(21, 0), 60L);
+
+        // when, then
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto(week,
+                List.of(new SpecificSchedule(yesterday, LocalTime.of(11, 0), LocalTime.of(21, 0), 60L)))));
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto(
+                weekdays(LocalTime.of(21, 0), LocalTime.of(11, 0), 60L), List.of())));
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto(
+                List.of(week.get(0), week.get(0)), List.of())));
+        Assertions.assertThrows(StoreNotFoundException.class, () -> storeScheduleService.updateSchedules(999L, new StoreScheduleRequestDto(week, List.of())));
+        Assertions.assertEquals(7, storeMapper.findDailyScheduleByStoreId(2L).size());
+    }
+
+    @Test
+    @DisplayName("필드가 빠지거나 일반 영업 스케줄이 없는 요청은 기존 스케줄을 삭제하지 않고 거절한다.")
+    void rejectEmptySchedules() {
+        // given
+        List<DailySchedule> week = weekdays(LocalTime.of(11, 0), LocalTime.of(21, 0), 60L);
+
+        // when, then
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto()));
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto(week, null)));
+        Assertions.assertThrows(InvalidScheduleException.class, () -> storeScheduleService.updateSchedules(2L, new StoreScheduleRequestDto(List.of(), List.of())));
+        Assertions.assertEquals(7, storeMapper.findDailyScheduleByStoreId(2L).size());
+    }
+
+    @Test
+    @DisplayName("점주나 관리자가 아닌 회원이 스케줄 변경을 요청하면 403을 응답한다.")
+    void updateSchedulesForbidden() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, "maverick");
+
+        // when, then
+        mockMvc.perform(put("/stores/{id}/schedules", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}")
+                        .session(session))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 특수 영업 스케줄만 삭제한다.")
+    void purgeExpired() {
+        // given
+        LocalDate today = LocalDate.now();
+        scheduleMapper.upsertSpecificSchedules(2L, List.of(
+                new SpecificSchedule(today.minusDays(400), LocalTime.of(11, 0), LocalTime.of(21, 0), 60L),
+                new SpecificSchedule(today.minusDays(1), LocalTime.of(11, 0), LocalTime.of(21, 0), 60L),
+                new SpecificSchedule(today.plusDays(1), LocalTime.of(11, 0), LocalTime.of(21, 0), 60L)));
+
+        // when
+        int purged = storeScheduleService.purgeExpired(today.minusDays(30));
+
+        // then
+        Assertions.assertEquals(1, purged);
+        Assertions.assertEquals(2, scheduleMapper.findSpecificSchedulesFrom(2L, today.minusDays(400)).size());
+    }
+
+    @Test
+    @DisplayName("스케줄 upsert에 필요한 기본 키가 없으면 IllegalStateException 예외를 발생시킨다.")
+    void validateSchema() {
+        // given
+        Assertions.assertDoesNotThrow(() -> storeScheduleService.validateSchema());
+        jdbcTemplate.execute("ALTER TABLE daily_schedule DROP PRIMARY KEY");
+
+        try {
+            // when, then
+            Assertions.assertThrows(IllegalStateException.class, () -> storeScheduleService.validateSchema());
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE daily_schedule ADD PRIMARY KEY (id, day)");
+        }
+    }
+
+    private List<DailySchedule> weekdays(LocalTime openTime, LocalTime closeTime, long splitTime) {
+        List<DailySchedule> schedules = new ArrayList<>();
+
+        for (DayOfWeek day = DayOfWeek.MONDAY; day != DayOfWeek.SATURDAY; day = day.plus(1)) {
+            schedules.add(new DailySchedule(day, openTime, closeTime, splitTime));
+        }
+
+        return schedules;
+    }
+}
@@ -23,6 +23,8 @@ public class StoreServiceTest {
 
     private StoreService storeService;
     private final LocalDate currentDate = LocalDate.now().plusDays(7);
+    private LocalDate requestedFrom;
+    private LocalDate requestedTo;
 
     @BeforeEach
     void setup() {
@@ -53,7 +55,9 @@ public class StoreServiceTest {
             }
 
             @Override
-            public List<SpecificSchedule> findSpecificScheduleByStoreId(Long id) {
+            public List<SpecificSchedule> findSpecificScheduleByStoreId(Long id, LocalDate from, LocalDate to) {
+                requestedFrom = from;
+                requestedTo = to;
                 if (id == 1L) {
                     return Arrays.asList(
                             new SpecificSchedule(currentDate, LocalTime.parse("10:00"), LocalTime.parse("15:00"), 60L)
@@ -71,7 +75,12 @@ public class StoreServiceTest {
             public long getMaxMemberCount(long restaurantId) {
                 return 0;
             }
-        });
+
+            @Override
+            public boolean isStoreOwner(long restaurantId, long memberSeq) {
+                return false;
+            }
+        }, new ShardRouter(Map.of(), 128, List.of(), new InMemoryShardSplitStore(), 0));
     }
 
     @Test
@@ -134,4 +143,23 @@ public class StoreServiceTest {
         Assertions.assertNotNull(selectableTimes);
         Assertions.assertEquals(Arrays.asList("10:00", "11:00", "12:00", "13:00", "14:00"), selectableTimes);
     }
+
+    @Test
+    @DisplayName("특수 영업 스케줄과 예약 가능 날짜는 오늘부터 max_available_day일 뒤까지만 조회한다.")
+    void getStoreDetailLoadsSpecificSchedulesInWindow() {
+        // given
+        Long storeId = 1L;
+
+        // when
+        StoreDetailsResponseDto result = storeService.getStoreDetail(storeId);
+
+        // then
+        Assertions.assertEquals(LocalDate.now(), requestedFrom);
+        Assertions.assertEquals(LocalDate.now().plusDays(7), requestedTo);
+        Assertions.assertTrue(result.getAvailableDays().keySet().stream()
+                .map(LocalDate::parse)
+                .noneMatch(date -> date.isAfter(requestedTo)));
+        // 휴무일을 포함한 8일 중 월요일, 화요일과 7일 뒤의 특수 영업일
+        Assertions.assertEquals(3, result.getAvailableDays().size());
+    }
 }
@@ -0,0 +1,71 @@
+package flab.gotable.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TransactionRetryExecutorTest {
+
+    private final TransactionRetryExecutor transactionRetryExecutor = new TransactionRetryExecutor(3, 1, 5);
+
+    @Test
+    @DisplayName("데드락으로 실패한 트랜잭션은 다시 실행하여 결과를 반환한다.")
+    void retryDeadlock() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String result = transactionRetryExecutor.execute("test", attempt -> {
+            if (calls.incrementAndGet() == 1) {
+                throw mysqlError(1213);
+            }
+            return "attempt-" + attempt;
+        });
+
+        // then
+        Assertions.assertEquals("attempt-2", result);
+        Assertions.assertEquals(1, transactionRetryExecutor.getRetryCount());
+        Assertions.assertEquals(1, transactionRetryExecutor.getRecoveredCount());
+    }
+
+    @Test
+    @DisplayName("락 대기 시간 초과가 최대 횟수만큼 반복되면 마지막 예외를 그대로 발생시킨다.")
+    void retryExhausted() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        Assertions.assertThrows(RuntimeException.class, () -> transactionRetryExecutor.execute("test", attempt -> {
+            calls.incrementAndGet();
+            throw mysqlError(1205);
+        }));
+
+        // then
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(1, transactionRetryExecutor.getExhaustedCount());
+    }
+
+    @Test
+    @DisplayName("데드락과 락 대기 시간 초과가 아닌 예외는 다시 실행하지 않는다.")
+    void notRetryOtherErrors() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        Assertions.assertThrows(RuntimeException.class, () -> transactionRetryExecutor.execute("test", attempt -> {
+            calls.incrementAndGet();
+            throw mysqlError(1062);
+        }));
+
+        // then
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0, transactionRetryExecutor.getRetryCount());
+    }
+
+    private RuntimeException mysqlError(int errorCode) {
+        return new RuntimeException(new SQLException("mysql error", "40001", errorCode));
+    }
+}
@@ -0,0 +1,244 @@
+package flab.gotable.service;
+
+import flab.gotable.dto.request.ReservationRequestDto;
+import flab.gotable.dto.response.WaitingRoomResponseDto;
+import flab.gotable.exception.ErrorCode;
+import flab.gotable.exception.WaitingRoomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static flab.gotable.service.LoginService.MEMBER_ID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트에서 직접 입장시키도록 주기적인 입장은 실행되지 않게 설정
+@SpringBootTest(properties = "waiting-room.admit-interval-millis=3600000")
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class WaitingRoomServiceTest {
+
+    @Container
+    public static MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8.0.33")
+            .withInitScript("init.sql");
+
+    @DynamicPropertySource
+    static void configureTestDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mySQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", mySQLContainer::getUsername);
+        registry.add("spring.datasource.password", mySQLContainer::getPassword);
+        registry.add("spring.datasource.driver-class-name", mySQLContainer::getDriverClassName);
+    }
+
+    @BeforeAll
+    public static void setup() {
+        mySQLContainer.start();
+    }
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long restaurantId;
+
+    private final LocalDateTime startTime = LocalDate.now().plusDays(2).atTime(10, 0);
+
+    @BeforeEach
+    void openWaitingRoom() {
+        // Redis에 이전 실행의 대기열이 남아있지 않도록 매번 다른 식당 id를 사용
+        restaurantId = idGenerator.nextId();
+        stringRedisTemplate.opsForSet().add("gotable:waiting-room:active", String.valueOf(restaurantId));
+        waitingRoomService.init();
+    }
+
+    @AfterEach
+    void closeWaitingRoom() {
+        stringRedisTemplate.opsForSet().remove("gotable:waiting-room:active", String.valueOf(restaurantId));
+        waitingRoomService.init();
+    }
+
+    @Test
+    @DisplayName("대기열이 운영 중이지 않은 식당에 등록하면 WaitingRoomException 예외를 발생시킨다.")
+    void joinNotOpen() {
+        // given
+        long closedRestaurantId = idGenerator.nextId();
+
+        // when, then
+        WaitingRoomException exception = Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.join(closedRestaurantId, 1L));
+        Assertions.assertEquals(ErrorCode.WAITING_ROOM_NOT_OPEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("대기열에는 도착 순서대로 등록되고, 다시 등록해도 순서가 바뀌지 않는다.")
+    void join() {
+        // given
+        // 같은 Redis를 사용하는 다른 테스트 컨텍스트가 입장시키지 않도록 이번 초와 다음 몇 초의 입장을 미리 선점
+        claimAdmissionTicks();
+
+        // when
+        WaitingRoomResponseDto first = waitingRoomService.join(restaurantId, 1L);
+        WaitingRoomResponseDto second = waitingRoomService.join(restaurantId, 2L);
+        WaitingRoomResponseDto rejoined = waitingRoomService.join(restaurantId, 1L);
+
+        // then
+        Assertions.assertEquals(1L, first.getPosition());
+        Assertions.assertEquals(2L, second.getPosition());
+        Assertions.assertEquals(1L, rejoined.getPosition());
+        Assertions.assertNull(second.getAdmissionToken());
+    }
+
+    @Test
+    @DisplayName("대기열에 등록하지 않은 회원의 상태를 조회하면 WaitingRoomException 예외를 발생시킨다.")
+    void getStatusNotJoined() {
+        // when, then
+        WaitingRoomException exception = Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.getStatus(restaurantId, 1L));
+        Assertions.assertEquals(ErrorCode.WAITING_ROOM_ENTRY_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("입장한 회원은 입장 토큰을 발급받고 대기열에서 제외된다.")
+    void admit() {
+        // given
+        waitingRoomService.join(restaurantId, 1L);
+
+        // when
+        waitingRoomService.admit();
+
+        // then
+        WaitingRoomResponseDto status = waitingRoomService.getStatus(restaurantId, 1L);
+        Assertions.assertEquals(0L, status.getPosition());
+        Assertions.assertNotNull(status.getAdmissionToken());
+        Assertions.assertNull(stringRedisTemplate.opsForZSet().rank("gotable:waiting-room:" + restaurantId + ":queue", "1"));
+    }
+
+    @Test
+    @DisplayName("대기열이 운영 중인 식당은 발급받은 입장 토큰이 있어야 예약할 수 있다.")
+    void validateAdmission() {
+        // given
+        String admissionToken = admit(1L);
+
+        // when, then
+        Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.validateAdmission(request(restaurantId, 1L, null)));
+        Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.validateAdmission(request(restaurantId, 1L, "invalid-token")));
+        Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.validateAdmission(request(restaurantId, 2L, admissionToken)));
+        Assertions.assertDoesNotThrow(() -> waitingRoomService.validateAdmission(request(restaurantId, 1L, admissionToken)));
+    }
+
+    @Test
+    @DisplayName("대기열이 운영 중이지 않은 식당은 입장 토큰 없이 예약할 수 있다.")
+    void validateAdmissionNotOpen() {
+        // given
+        long closedRestaurantId = idGenerator.nextId();
+
+        // when, then
+        Assertions.assertDoesNotThrow(() -> waitingRoomService.validateAdmission(request(closedRestaurantId, 1L, null)));
+    }
+
+    @Test
+    @DisplayName("예약에 사용한 입장 토큰은 다시 사용할 수 없다.")
+    void consumeAdmission() {
+        // given
+        String admissionToken = admit(1L);
+        ReservationRequestDto reservationRequestDto = request(restaurantId, 1L, admissionToken);
+
+        // when
+        waitingRoomService.consumeAdmission(reservationRequestDto);
+
+        // then
+        Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.validateAdmission(reservationRequestDto));
+        Assertions.assertThrows(WaitingRoomException.class, () -> waitingRoomService.getStatus(restaurantId, 1L));
+    }
+
+    @Test
+    @DisplayName("대기열 등록 API는 대기 순번을 반환하고, 운영 중이지 않은 식당이면 400을 반환한다.")
+    void joinAPI() throws Exception {
+        // given
+        claimAdmissionTicks();
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, "syoh");
+
+        // when, then
+        mockMvc.perform(post("/waiting-room/{restaurantId}", restaurantId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberSeq\": 1}")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.position").value(1));
+        mockMvc.perform(get("/waiting-room/{restaurantId}/members/{memberSeq}", restaurantId, 1L)
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.position").value(1));
+        mockMvc.perform(post("/waiting-room/{restaurantId}", idGenerator.nextId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"memberSeq\": 1}")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("대기열 조회 API는 등록하지 않은 회원이면 404를 반환한다.")
+    void getStatusAPINotJoined() throws Exception {
+        // given
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(MEMBER_ID, "syoh");
+
+        // when, then
+        mockMvc.perform(get("/waiting-room/{restaurantId}/members/{memberSeq}", restaurantId, 1L)
+                        .session(session))
+                .andExpect(status().isNotFound());
+    }
+
+    private String admit(long memberSeq) {
+        waitingRoomService.join(restaurantId, memberSeq);
+        waitingRoomService.admit();
+
+        return waitingRoomService.getStatus(restaurantId, memberSeq).getAdmissionToken();
+    }
+
+    private void claimAdmissionTicks() {
+        final long epochSecond = Instant.now().getEpochSecond();
+        for (long second = epochSecond; second <= epochSecond + 5; second++) {
+            stringRedisTemplate.opsForValue().set("gotable:waiting-room:" + restaurantId + ":tick:" + second, "1", Duration.ofSeconds(10));
+        }
+    }
+
+    private ReservationRequestDto request(long restaurantId, long memberSeq, String admissionToken) {
+        ReservationRequestDto reservationRequestDto = new ReservationRequestDto(restaurantId, memberSeq, startTime, startTime.plusHours(1), 2L);
+        ReflectionTestUtils.setField(reservationRequestDto, "admissionToken", admissionToken);
+
+        return reservationRequestDto;
+    }
+}
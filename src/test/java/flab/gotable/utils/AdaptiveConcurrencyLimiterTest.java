@@ -0,0 +1,66 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final Map<EndpointClass, Long> targetP99Millis = Map.of(
+            EndpointClass.RESERVATION_WRITE, 1000L,
+            EndpointClass.STORE_WRITE, 1000L,
+            EndpointClass.MEMBER, 100L,
+            EndpointClass.BROWSE, 100L
+    );
+
+    @Test
+    @DisplayName("p99 응답 시간이 목표를 초과하면 동시 처리 한도를 줄인다.")
+    void decreaseLimitWhenP99ExceedsTarget() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, targetP99Millis);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(limiter.tryAcquire(EndpointClass.BROWSE));
+            limiter.release(EndpointClass.BROWSE, TimeUnit.MILLISECONDS.toNanos(500));
+        }
+
+        // then
+        Assertions.assertEquals(90, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("한도가 부족하면 조회 요청을 먼저 차단하고 예약 요청은 처리한다.")
+    void shedBrowseBeforeReservationWrite() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 1000, targetP99Millis);
+
+        for (int i = 0; i < 7; i++) {
+            Assertions.assertTrue(limiter.tryAcquire(EndpointClass.BROWSE));
+        }
+
+        // when, then
+        Assertions.assertFalse(limiter.tryAcquire(EndpointClass.BROWSE));
+        Assertions.assertTrue(limiter.tryAcquire(EndpointClass.RESERVATION_WRITE));
+        Assertions.assertEquals(7, limiter.getInFlight(EndpointClass.BROWSE));
+    }
+
+    @Test
+    @DisplayName("SSE처럼 응답 시간이 측정되지 않는 요청은 한도 조절에 반영하지 않는다.")
+    void ignoreUnmeasuredLatency() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, targetP99Millis);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire(EndpointClass.BROWSE);
+            limiter.release(EndpointClass.BROWSE, -1);
+        }
+
+        // then
+        Assertions.assertEquals(100, limiter.getLimit());
+    }
+}
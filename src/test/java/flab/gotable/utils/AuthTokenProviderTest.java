@@ -0,0 +1,68 @@
+package flab.gotable.utils;
+
+import flab.gotable.domain.auth.AuthToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+class AuthTokenProviderTest {
+
+    private AuthTokenProvider authTokenProvider;
+
+    @BeforeEach
+    void setup() {
+        authTokenProvider = new AuthTokenProvider("test-secret".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 회원 seq를 반환한다.")
+    void verifyIssuedToken() {
+        // given
+        String token = authTokenProvider.issue(1L);
+
+        // when
+        AuthToken authToken = authTokenProvider.verify(token);
+
+        // then
+        Assertions.assertNotNull(authToken);
+        Assertions.assertEquals(1L, authToken.getMemberSeq());
+    }
+
+    @Test
+    @DisplayName("변조된 토큰을 검증하면 null을 반환한다.")
+    void verifyTamperedToken() {
+        // given
+        String token = authTokenProvider.issue(1L);
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+
+        // when, then
+        Assertions.assertNull(authTokenProvider.verify(tampered));
+        Assertions.assertNull(authTokenProvider.verify("invalid-token"));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰을 검증하면 null을 반환한다.")
+    void verifyTokenSignedWithOtherSecret() {
+        // given
+        AuthTokenProvider otherProvider = new AuthTokenProvider("other-secret".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1));
+        String token = otherProvider.issue(1L);
+
+        // when, then
+        Assertions.assertNull(authTokenProvider.verify(token));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰을 검증하면 null을 반환한다.")
+    void verifyExpiredToken() {
+        // given
+        AuthTokenProvider expiredProvider = new AuthTokenProvider("test-secret".getBytes(StandardCharsets.UTF_8), Duration.ofSeconds(-1));
+        String token = expiredProvider.issue(1L);
+
+        // when, then
+        Assertions.assertNull(authTokenProvider.verify(token));
+    }
+}
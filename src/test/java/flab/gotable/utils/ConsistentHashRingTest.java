@@ -0,0 +1,68 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ConsistentHashRingTest {
+
+    private static final int KEY_COUNT = 100_000;
+
+    @Test
+    @DisplayName("같은 노드 구성이면 같은 키는 항상 같은 노드에 할당된다.")
+    void sameKeySameNode() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 128);
+        ConsistentHashRing other = new ConsistentHashRing(List.of("shard-2", "shard-0", "shard-1"), 128);
+
+        // when, then
+        for (long key = 1; key <= 1000; key++) {
+            Assertions.assertEquals(ring.get(key), other.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("연속된 식당 id도 노드마다 고르게 분산된다.")
+    void distributeEvenly() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // when
+        for (long key = 1; key <= KEY_COUNT; key++) {
+            counts.merge(ring.get(key), 1, Integer::sum);
+        }
+
+        // then
+        for (int count : counts.values()) {
+            Assertions.assertTrue(Math.abs(count - KEY_COUNT / 4) < KEY_COUNT / 4 * 0.2, "count: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드로 이동하는 키만 재배치된다.")
+    void moveOnlyToNewNode() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 128);
+        ConsistentHashRing next = ring.withNode("shard-3");
+        int moved = 0;
+
+        // when
+        for (long key = 1; key <= KEY_COUNT; key++) {
+            String before = ring.get(key);
+            String after = next.get(key);
+
+            if (!before.equals(after)) {
+                Assertions.assertEquals("shard-3", after);
+                moved++;
+            }
+        }
+
+        // then
+        Assertions.assertTrue(Math.abs(moved - KEY_COUNT / 4) < KEY_COUNT / 4 * 0.2, "moved: " + moved);
+    }
+}
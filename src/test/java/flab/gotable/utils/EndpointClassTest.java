@@ -0,0 +1,20 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class EndpointClassTest {
+
+    @Test
+    @DisplayName("예약과 식당 관리의 조회가 아닌 요청은 쓰기로 분류하고, 나머지 조회는 BROWSE로 분류한다.")
+    void classify() {
+        // when, then
+        Assertions.assertEquals(EndpointClass.RESERVATION_WRITE, EndpointClass.of(new MockHttpServletRequest("POST", "/reservations")));
+        Assertions.assertEquals(EndpointClass.STORE_WRITE, EndpointClass.of(new MockHttpServletRequest("PUT", "/stores/1/schedules")));
+        Assertions.assertEquals(EndpointClass.MEMBER, EndpointClass.of(new MockHttpServletRequest("POST", "/members/login")));
+        Assertions.assertEquals(EndpointClass.BROWSE, EndpointClass.of(new MockHttpServletRequest("GET", "/stores/1")));
+        Assertions.assertEquals(EndpointClass.BROWSE, EndpointClass.of(new MockHttpServletRequest("GET", "/reservations")));
+    }
+}
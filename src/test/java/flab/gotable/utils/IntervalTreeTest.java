@@ -0,0 +1,74 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("반열린 구간이므로 끝과 시작이 맞닿은 구간은 겹치지 않는다.")
+    void adjacentIntervalsDoNotOverlap() {
+        // given
+        IntervalTree tree = new IntervalTree();
+        tree.add(1L, 600, 660);
+
+        // when, then
+        Assertions.assertFalse(tree.overlaps(660, 720));
+        Assertions.assertFalse(tree.overlaps(540, 600));
+        Assertions.assertTrue(tree.overlaps(630, 690));
+        Assertions.assertTrue(tree.overlaps(500, 800));
+    }
+
+    @Test
+    @DisplayName("제거한 구간은 겹침 확인에서 제외되고, 같은 id는 한 번만 추가된다.")
+    void addAndRemove() {
+        // given
+        IntervalTree tree = new IntervalTree();
+        Assertions.assertTrue(tree.add(1L, 600, 660));
+        Assertions.assertFalse(tree.add(1L, 600, 660));
+
+        // when
+        Assertions.assertTrue(tree.remove(1L, 600));
+
+        // then
+        Assertions.assertEquals(0, tree.size());
+        Assertions.assertFalse(tree.overlaps(600, 660));
+    }
+
+    @Test
+    @DisplayName("임의의 구간을 추가/제거해도 전체 탐색과 같은 결과를 반환한다.")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<long[]> intervals = new ArrayList<>();
+
+        for (long id = 0; id < 2000; id++) {
+            long start = random.nextInt(100_000);
+            long[] interval = {id, start, start + 1 + random.nextInt(120)};
+            intervals.add(interval);
+            tree.add(interval[0], interval[1], interval[2]);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            long[] removed = intervals.remove(random.nextInt(intervals.size()));
+            tree.remove(removed[0], removed[1]);
+        }
+
+        // when, then
+        Assertions.assertEquals(intervals.size(), tree.size());
+
+        for (int i = 0; i < 2000; i++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(120);
+            boolean expected = intervals.stream().anyMatch(interval -> interval[1] < end && interval[2] > start);
+
+            Assertions.assertEquals(expected, tree.overlaps(start, end));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class SessionAttributeSerializerTest {
+
+    private final SessionAttributeSerializer serializer = new SessionAttributeSerializer();
+    private final JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+    @Test
+    @DisplayName("세션에 저장되는 기본 타입은 직렬화 후 동일한 값으로 역직렬화된다.")
+    void roundTripKnownTypes() {
+        List<Object> values = List.of("syoh", 0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, System.currentTimeMillis(), 1800, Integer.MIN_VALUE, true, false);
+
+        for (Object value : values) {
+            Assertions.assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+        }
+    }
+
+    @Test
+    @DisplayName("알 수 없는 타입은 JDK 직렬화로 대체되어 역직렬화된다.")
+    void roundTripUnknownType() {
+        // given
+        ArrayList<Integer> value = new ArrayList<>(List.of(1, 2, 3));
+
+        // when, then
+        Assertions.assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    @DisplayName("기존 JDK 직렬화 포맷으로 저장된 값도 역직렬화된다.")
+    void deserializeLegacyFormat() {
+        // given
+        byte[] legacy = jdkSerializer.serialize("syoh");
+
+        // when, then
+        Assertions.assertEquals("syoh", serializer.deserialize(legacy));
+    }
+
+    @Test
+    @DisplayName("값이 잘린 세션 속성은 SerializationException 예외를 발생시킨다.")
+    void deserializeTruncated() {
+        // given
+        byte[] truncatedBoolean = Arrays.copyOf(serializer.serialize(true), 2);
+        byte[] truncatedLong = Arrays.copyOf(serializer.serialize(System.currentTimeMillis()), 3);
+
+        // when, then
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(truncatedBoolean));
+        Assertions.assertThrows(SerializationException.class, () -> serializer.deserialize(truncatedLong));
+    }
+
+    @Test
+    @DisplayName("세션 속성은 JDK 직렬화보다 작은 크기로 저장된다.")
+    void smallerThanJdkSerialization() {
+        List<Object> values = List.of("syoh", System.currentTimeMillis(), 1800);
+
+        for (Object value : values) {
+            Assertions.assertTrue(serializer.serialize(value).length < jdkSerializer.serialize(value).length);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("세션 속성 직렬화/역직렬화 성능을 JDK 직렬화와 비교한다.")
+    void benchmarkAgainstJdkSerialization() {
+        List<Object> attributes = List.of("syoh", System.currentTimeMillis(), System.currentTimeMillis(), 1800);
+        int iterations = 200_000;
+
+        // JIT 워밍업
+        measure(serializer, attributes, iterations);
+        measure(jdkSerializer, attributes, iterations);
+
+        long compactNanos = measure(serializer, attributes, iterations);
+        long jdkNanos = measure(jdkSerializer, attributes, iterations);
+
+        System.out.printf("compact: %d ns/session, %d bytes/session%n", compactNanos / iterations, size(serializer, attributes));
+        System.out.printf("jdk    : %d ns/session, %d bytes/session%n", jdkNanos / iterations, size(jdkSerializer, attributes));
+    }
+
+    private long measure(RedisSerializer<Object> redisSerializer, List<Object> attributes, int iterations) {
+        long start = System.nanoTime();
+        int sink = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            for (Object attribute : attributes) {
+                sink += redisSerializer.deserialize(redisSerializer.serialize(attribute)).hashCode();
+            }
+        }
+
+        Assertions.assertNotEquals(42, sink);
+        return System.nanoTime() - start;
+    }
+
+    private int size(RedisSerializer<Object> redisSerializer, List<Object> attributes) {
+        int size = 0;
+
+        for (Object attribute : attributes) {
+            size += redisSerializer.serialize(attribute).length;
+        }
+
+        return size;
+    }
+}
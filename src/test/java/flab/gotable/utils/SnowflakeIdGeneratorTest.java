@@ -0,0 +1,180 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SnowflakeIdGeneratorTest {
+    private static final long LEASE_MILLIS = 30_000;
+
+    private final AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000);
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("발급한 id는 계속 증가하며 발급 시각과 노드 id를 포함한다.")
+    void nextIdIsIncreasing() {
+        // given
+        SnowflakeIdGenerator generator = generator(7);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+        clock.addAndGet(1);
+        long third = generator.nextId();
+
+        // then
+        Assertions.assertTrue(first < second && second < third);
+        Assertions.assertEquals(clock.get() - 1, SnowflakeIdGenerator.timestampOf(first));
+        Assertions.assertEquals(clock.get(), SnowflakeIdGenerator.timestampOf(third));
+        Assertions.assertEquals(7, SnowflakeIdGenerator.nodeIdOf(third));
+    }
+
+    @Test
+    @DisplayName("같은 ms 안의 순번을 모두 사용하면 다음 ms의 id를 발급한다.")
+    void sequenceOverflowMovesToNextMillisecond() {
+        // given
+        SnowflakeIdGenerator generator = generator(1);
+        long last = 0;
+
+        // when
+        for (int i = 0; i < 4096; i++) {
+            last = generator.nextId();
+        }
+        long overflowed = generator.nextId();
+
+        // then
+        Assertions.assertEquals(clock.get(), SnowflakeIdGenerator.timestampOf(last));
+        Assertions.assertEquals(clock.get() + 1, SnowflakeIdGenerator.timestampOf(overflowed));
+        Assertions.assertTrue(overflowed > last);
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위 안에서 뒤로 가면 마지막 발급 시각부터 이어서 발급하고, 범위를 넘으면 발급을 거부한다.")
+    void clockRegression() {
+        // given
+        SnowflakeIdGenerator generator = generator(1);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-50);
+        long afterSmallRegression = generator.nextId();
+        clock.addAndGet(-1000);
+
+        // then
+        Assertions.assertTrue(afterSmallRegression > before);
+        Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+
+        clock.addAndGet(1050);
+        Assertions.assertTrue(generator.nextId() > afterSmallRegression);
+    }
+
+    @Test
+    @DisplayName("이전에 같은 노드 id를 사용한 노드가 마지막으로 발급한 시각 이후부터 발급한다.")
+    void assignContinuesAfterPreviousLastTimestamp() {
+        // given
+        SnowflakeIdGenerator previous = generator(3);
+        long previousId = previous.nextId();
+        previous.nextId();
+
+        // when
+        SnowflakeIdGenerator next = new SnowflakeIdGenerator(clock::get, nanoTime::get, 100);
+        next.assign(3, previous.getLastTimestamp(), nanoTime.get(), LEASE_MILLIS);
+
+        // then
+        Assertions.assertTrue(next.nextId() > previousId);
+        Assertions.assertEquals(clock.get() + 1, SnowflakeIdGenerator.timestampOf(next.nextId()));
+    }
+
+    @Test
+    @DisplayName("노드 id를 임대하지 않았거나 임대 유지 시간이 지나면 발급하지 않는다.")
+    void rejectWithoutLease() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get, nanoTime::get, 100);
+
+        // when, then
+        Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+
+        generator.assign(1, -1, nanoTime.get(), LEASE_MILLIS);
+        generator.nextId();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(LEASE_MILLIS));
+        Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+
+        generator.renew(nanoTime.get(), LEASE_MILLIS);
+        generator.nextId();
+        generator.revoke();
+        Assertions.assertThrows(IllegalStateException.class, generator::nextId);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 id가 중복되지 않는다.")
+    void concurrentNextIdIsUnique() throws Exception {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1000);
+        generator.assign(1, -1, System.nanoTime(), LEASE_MILLIS);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // when
+        runConcurrently(8, 10_000, () -> ids.add(generator.nextId()));
+
+        // then
+        Assertions.assertEquals(80_000, ids.size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("단일/다중 스레드의 초당 id 발급 수를 측정한다.")
+    void benchmarkThroughput() throws Exception {
+        // 순번 소진으로 논리 시각이 실제 시각보다 앞서더라도 측정이 중단되지 않도록 허용 범위를 넓게 설정
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(10_000);
+        generator.assign(1, -1, System.nanoTime(), LEASE_MILLIS);
+        int iterations = 1_000_000;
+
+        // JIT 워밍업
+        runConcurrently(1, iterations, generator::nextId);
+
+        for (int threads : new int[]{1, 4, 16}) {
+            long start = System.nanoTime();
+            runConcurrently(threads, iterations / threads, generator::nextId);
+            long elapsed = System.nanoTime() - start;
+
+            // 한 노드의 최대 발급량은 ms당 4096개 (약 400만 개/초)
+            System.out.printf("%2d threads: %,d ids/s, %d ns/id%n", threads, iterations * TimeUnit.SECONDS.toNanos(1) / elapsed, elapsed / iterations);
+        }
+    }
+
+    private SnowflakeIdGenerator generator(int nodeId) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get, nanoTime::get, 100);
+        generator.assign(nodeId, -1, nanoTime.get(), LEASE_MILLIS);
+
+        return generator;
+    }
+
+    private void runConcurrently(int threads, int iterationsPerThread, Runnable task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < iterationsPerThread; j++) {
+                    task.run();
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+package flab.gotable.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목만 반환한다.")
+    void advanceReturnsExpiredItems() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        wheel.schedule("first", 1000);
+        wheel.schedule("second", 3000);
+
+        // when
+        List<String> expired = wheel.advance(1500);
+
+        // then
+        Assertions.assertEquals(List.of("first"), expired);
+        Assertions.assertEquals(1, wheel.size());
+        Assertions.assertEquals(List.of("second"), wheel.advance(3000));
+    }
+
+    @Test
+    @DisplayName("wheel 한 바퀴보다 늦게 만료되는 항목은 해당 바퀴가 될 때까지 남아 있다.")
+    void keepItemsBeyondOneRotation() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        wheel.schedule("later", 6000);
+
+        // when, then
+        Assertions.assertTrue(wheel.advance(2000).isEmpty());
+        Assertions.assertTrue(wheel.advance(5000).isEmpty());
+        Assertions.assertEquals(List.of("later"), wheel.advance(6000));
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 건너뛰어도 만료된 항목을 모두 반환한다.")
+    void advanceAcrossRotations() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        wheel.schedule("a", 1000);
+        wheel.schedule("b", 2000);
+        wheel.schedule("c", 7000);
+
+        // when
+        List<String> expired = wheel.advance(20000);
+
+        // then
+        Assertions.assertEquals(3, expired.size());
+        Assertions.assertEquals(0, wheel.size());
+    }
+}
@@ -6,13 +6,47 @@ CREATE TABLE `member` (
     `id` varchar(50) NOT NULL,
     `password` varchar(65) NOT NULL,
     `phone` varchar(20) NOT NULL,
+    `role` varchar(10) NOT NULL DEFAULT 'USER',
     PRIMARY KEY (`seq`)
 );
 
 DROP TABLE IF EXISTS `reservation`;
 
 CREATE TABLE `reservation` (
-    `id` bigint NOT NULL AUTO_INCREMENT,
+    `id` bigint NOT NULL,
+    `member_seq` bigint NOT NULL,
+    `restaurant_id` bigint NOT NULL,
+    `status` varchar(10) NOT NULL,
+    `member_count` bigint NOT NULL,
+    `created_at` timestamp NOT NULL,
+    `reservation_start_at` timestamp NOT NULL,
+    `reservation_end_at` timestamp NOT NULL,
+    `cancel_reason` varchar(10) DEFAULT NULL,
+    PRIMARY KEY (`id`, `reservation_start_at`),
+    KEY `idx_reservation_member_start_at` (`member_seq`, `reservation_start_at`, `id`),
+    KEY `idx_reservation_restaurant_start_at` (`restaurant_id`, `reservation_start_at`, `id`)
+)
+PARTITION BY RANGE (UNIX_TIMESTAMP(`reservation_start_at`)) (
+    PARTITION p_past VALUES LESS THAN (UNIX_TIMESTAMP('2026-01-01 00:00:00')),
+    PARTITION p202601 VALUES LESS THAN (UNIX_TIMESTAMP('2026-02-01 00:00:00')),
+    PARTITION p202602 VALUES LESS THAN (UNIX_TIMESTAMP('2026-03-01 00:00:00')),
+    PARTITION p202603 VALUES LESS THAN (UNIX_TIMESTAMP('2026-04-01 00:00:00')),
+    PARTITION p202604 VALUES LESS THAN (UNIX_TIMESTAMP('2026-05-01 00:00:00')),
+    PARTITION p202605 VALUES LESS THAN (UNIX_TIMESTAMP('2026-06-01 00:00:00')),
+    PARTITION p202606 VALUES LESS THAN (UNIX_TIMESTAMP('2026-07-01 00:00:00')),
+    PARTITION p202607 VALUES LESS THAN (UNIX_TIMESTAMP('2026-08-01 00:00:00')),
+    PARTITION p202608 VALUES LESS THAN (UNIX_TIMESTAMP('2026-09-01 00:00:00')),
+    PARTITION p202609 VALUES LESS THAN (UNIX_TIMESTAMP('2026-10-01 00:00:00')),
+    PARTITION p202610 VALUES LESS THAN (UNIX_TIMESTAMP('2026-11-01 00:00:00')),
+    PARTITION p202611 VALUES LESS THAN (UNIX_TIMESTAMP('2026-12-01 00:00:00')),
+    PARTITION p202612 VALUES LESS THAN (UNIX_TIMESTAMP('2027-01-01 00:00:00')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+DROP TABLE IF EXISTS `reservation_history`;
+
+CREATE TABLE `reservation_history` (
+    `id` bigint NOT NULL,
     `member_seq` bigint NOT NULL,
     `restaurant_id` bigint NOT NULL,
     `status` varchar(10) NOT NULL,
@@ -21,9 +55,60 @@ CREATE TABLE `reservation` (
     `reservation_start_at` timestamp NOT NULL,
     `reservation_end_at` timestamp NOT NULL,
     `cancel_reason` varchar(10) DEFAULT NULL,
+    `archived_at` timestamp NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_reservation_history_member_start_at` (`member_seq`, `reservation_start_at`),
+    KEY `idx_reservation_history_restaurant_start_at` (`restaurant_id`, `reservation_start_at`)
+);
+
+DROP TABLE IF EXISTS `reservation_outbox`;
+
+CREATE TABLE `reservation_outbox` (
+    `id` bigint NOT NULL AUTO_INCREMENT,
+    `restaurant_id` bigint NOT NULL,
+    `reservation_id` bigint NOT NULL,
+    `event_type` varchar(20) NOT NULL,
+    `member_count` bigint NOT NULL,
+    `reservation_start_at` timestamp NOT NULL,
+    `reservation_end_at` timestamp NOT NULL,
+    `created_at` timestamp NOT NULL,
+    `attempts` int NOT NULL DEFAULT 0,
+    `next_attempt_at` timestamp NULL DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_reservation_outbox_restaurant` (`restaurant_id`, `id`)
+);
+
+DROP TABLE IF EXISTS `reservation_outbox_dead_letter`;
+
+CREATE TABLE `reservation_outbox_dead_letter` (
+    `id` bigint NOT NULL,
+    `restaurant_id` bigint NOT NULL,
+    `reservation_id` bigint NOT NULL,
+    `event_type` varchar(20) NOT NULL,
+    `member_count` bigint NOT NULL,
+    `reservation_start_at` timestamp NOT NULL,
+    `reservation_end_at` timestamp NOT NULL,
+    `created_at` timestamp NOT NULL,
+    `attempts` int NOT NULL,
+    `error_message` varchar(500) DEFAULT NULL,
+    `failed_at` timestamp NOT NULL,
     PRIMARY KEY (`id`)
 );
 
+DROP TABLE IF EXISTS `availability`;
+
+CREATE TABLE `availability` (
+    `restaurant_id` bigint NOT NULL,
+    `date` date NOT NULL,
+    `open_time` time DEFAULT NULL,
+    `close_time` time DEFAULT NULL,
+    `split_time` bigint DEFAULT NULL,
+    `free_slots` varbinary(256) NOT NULL,
+    `remaining_seats` varbinary(8192) DEFAULT NULL,
+    `updated_at` timestamp NOT NULL,
+    PRIMARY KEY (`restaurant_id`, `date`)
+);
+
 DROP TABLE IF EXISTS `restaurant`;
 
 CREATE TABLE `restaurant` (
@@ -34,6 +119,8 @@ CREATE TABLE `restaurant` (
     `longitude` decimal(13,10) NOT NULL,
     `max_member_count` bigint NOT NULL,
     `max_available_day` bigint NOT NULL,
+    `version` bigint NOT NULL DEFAULT 0,
+    `owner_member_seq` bigint DEFAULT NULL,
     PRIMARY KEY (`id`)
 );
 
@@ -44,7 +131,8 @@ CREATE TABLE `daily_schedule` (
     `day` varchar(10) NOT NULL,
     `open_time` time NOT NULL,
     `close_time` time NOT NULL,
-    `split_time` bigint NOT NULL
+    `split_time` bigint NOT NULL,
+    PRIMARY KEY (`id`, `day`)
 );
 
 DROP TABLE IF EXISTS `specific_schedule`;
@@ -54,7 +142,20 @@ CREATE TABLE `specific_schedule` (
     `date` date NOT NULL,
     `open_time` time NOT NULL,
     `close_time` time NOT NULL,
-    `split_time` bigint NOT NULL
+    `split_time` bigint NOT NULL,
+    PRIMARY KEY (`id`, `date`),
+    KEY `idx_specific_schedule_date` (`date`)
+);
+
+DROP TABLE IF EXISTS `slot_capacity`;
+
+CREATE TABLE `slot_capacity` (
+    `restaurant_id` bigint NOT NULL,
+    `slot_start_at` timestamp NOT NULL,
+    `slot_end_at` timestamp NOT NULL,
+    `capacity` bigint NOT NULL,
+    `remaining` bigint NOT NULL,
+    PRIMARY KEY (`restaurant_id`, `slot_start_at`, `slot_end_at`)
 );
 
 INSERT INTO member(name, id, password, phone)
@@ -62,12 +163,16 @@ VALUES
 ("오소영", "syoh", "qwer123", "010-1111-2222"),
 ("메버릭", "maverick", "asdf123", "010-3333-4444");
 
-INSERT INTO restaurant(name, address, latitude, longitude, max_member_count, max_available_day)
+INSERT INTO member(name, id, password, phone, role)
+VALUES
+("관리자", "admin", "zxcv123", "010-5555-6666", "ADMIN");
+
+INSERT INTO restaurant(name, address, latitude, longitude, max_member_count, max_available_day, owner_member_seq)
 VALUES
-('R1', '서울 강서구 마곡서로 152', 37.5676859105, 126.8259794500, 10, 5),
-('R2', '서울 강서구 마곡중앙로 136', 33.2588494316, 126.4061074950, 4, 3),
-('R3', '서울 마포구 양화로 151', 37.5562674192411, 126.922368229397, 20, 3),
-('R4', '서울 마포구 독막로 18', 37.5483281538652, 126.915245638074, 7, 6);
+('R1', '서울 강서구 마곡서로 152', 37.5676859105, 126.8259794500, 10, 5, 1),
+('R2', '서울 강서구 마곡중앙로 136', 33.2588494316, 126.4061074950, 4, 3, NULL),
+('R3', '서울 마포구 양화로 151', 37.5562674192411, 126.922368229397, 20, 3, NULL),
+('R4', '서울 마포구 독막로 18', 37.5483281538652, 126.915245638074, 7, 6, NULL);
 
 INSERT INTO daily_schedule(id, day, open_time, close_time, split_time)
 VALUES